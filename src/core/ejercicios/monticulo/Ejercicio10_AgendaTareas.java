@@ -1,6 +1,7 @@
 package core.ejercicios.monticulo;
 
 import core.estructuras.monticulo.MonticuloBinario;
+import java.util.Iterator;
 import java.util.Scanner;
 
 /**
@@ -58,16 +59,13 @@ public class Ejercicio10_AgendaTareas {
                 return;
             }
             
-            // Crear copia para mostrar sin modificar original
-            MonticuloBinario<Tarea> copia = new MonticuloBinario<>();
-            for (Tarea t : heap.getElements()) {
-                copia.add(t);
-            }
+            // Recorrer en orden sin modificar el original (ni copiarlo)
+            Iterator<Tarea> enOrden = heap.sortedIterator();
             
             System.out.println("\nTareas pendientes (en orden de prioridad):");
             int num = 1;
-            while (!copia.isEmpty()) {
-                System.out.println("  " + num++ + ". " + copia.poll());
+            while (enOrden.hasNext()) {
+                System.out.println("  " + num++ + ". " + enOrden.next());
             }
         }
         
@@ -1,7 +1,11 @@
 package core.estructuras.arboles;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.function.Consumer;
 
 /**
  * Clase ArbolAVL: Implementación de un árbol AVL balanceado
@@ -10,18 +14,30 @@ import java.util.Queue;
  * - La diferencia de alturas entre subárboles izquierdo y derecho es máximo 1
  * - Se mantiene el balance mediante rotaciones después de inserciones/eliminaciones
  * 
+ * Cada nodo guarda además el tamaño de su subárbol (árbol de estadísticos
+ * de orden), que las rotaciones mantienen al día junto con la altura.
+ * También guarda una referencia a su padre, así sucesor y predecesor se
+ * obtienen subiendo por el árbol sin volver a buscar desde la raíz.
+ * 
  * Propiedades:
  * - Búsqueda: O(log n)
  * - Inserción: O(log n)
  * - Eliminación: O(log n)
+ * - size(): O(1)
+ * - select(k), rank(x), countInRange(a, b): O(log n)
+ * - Sucesor / predecesor: O(1) amortizado al recorrer en orden
+ * - ceilingCursor(x) + k pasos: O(log n + k)
+ * - forEach / iterator: O(n) sin pila ni copias; forEachInRange(a, b): O(log n + k)
  * 
  * @param <T> Tipo de dato que almacena el árbol (debe ser Comparable)
  * @author Informática 3
  * @version 1.0
  */
-public class ArbolAVL<T extends Comparable<T>> {
+public class ArbolAVL<T extends Comparable<T>> implements Iterable<T> {
     // Raíz del árbol AVL
     private NodoAVL<T> root;
+    // Cambios estructurales, para que los cursores detecten modificaciones
+    private int modCount;
 
     /**
      * Constructor: Crea un árbol AVL vacío
@@ -59,9 +75,24 @@ public class ArbolAVL<T extends Comparable<T>> {
     }
 
     /**
-     * Actualiza la altura y el balance de un nodo
+     * Obtiene el tamaño del subárbol de un nodo
+     * El tamaño de un nodo null es 0
+     * 
+     * @param node Raíz del subárbol
+     * @return Cantidad de nodos del subárbol
+     */
+    private int size(NodoAVL<T> node) {
+        if (node == null) {
+            return 0;
+        }
+        return node.getSize();
+    }
+
+    /**
+     * Actualiza la altura, el balance y el tamaño de un nodo
+     * a partir de sus hijos
      * 
-     * @param node Nodo al cual actualizar altura y balance
+     * @param node Nodo al cual actualizar altura, balance y tamaño
      */
     private void updateHeight(NodoAVL<T> node) {
         if (node != null) {
@@ -70,6 +101,7 @@ public class ArbolAVL<T extends Comparable<T>> {
             
             node.setHeight(1 + Math.max(leftHeight, rightHeight));
             node.setBalance(leftHeight - rightHeight);
+            node.setSize(1 + size(node.getLeft()) + size(node.getRight()));
         }
     }
 
@@ -117,7 +149,12 @@ public class ArbolAVL<T extends Comparable<T>> {
      * @param data Valor a insertar
      */
     public void insert(T data) {
+        int before = size();
         root = insertRecursive(root, data);
+        root.setParent(null);
+        if (size() != before) {
+            modCount++;
+        }
     }
 
     /**
@@ -231,7 +268,14 @@ public class ArbolAVL<T extends Comparable<T>> {
      * @param data Valor a eliminar
      */
     public void delete(T data) {
+        int before = size();
         root = deleteRecursive(root, data);
+        if (root != null) {
+            root.setParent(null);
+        }
+        if (size() != before) {
+            modCount++;
+        }
     }
 
     /**
@@ -424,16 +468,99 @@ public class ArbolAVL<T extends Comparable<T>> {
 
     /**
      * Cuenta el número total de nodos
+     * Complejidad: O(1), usa el tamaño guardado en la raíz
      */
     public int countNodes() {
-        return countNodesRecursive(root);
+        return size();
     }
 
-    private int countNodesRecursive(NodoAVL<T> node) {
-        if (node == null) {
+    /**
+     * Obtiene la cantidad de elementos del árbol
+     * Complejidad: O(1)
+     * 
+     * @return Cantidad de nodos
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Obtiene el k-ésimo menor elemento (k = 0 es el mínimo)
+     * Complejidad: O(log n)
+     * 
+     * @param k Posición en el recorrido inorden (0-based)
+     * @return El elemento en la posición k
+     * @throws IndexOutOfBoundsException si k no está entre 0 y size()-1
+     */
+    public T select(int k) {
+        return selectNode(k).getData();
+    }
+
+    /**
+     * Obtiene el nodo del k-ésimo menor elemento (k = 0 es el mínimo)
+     * Complejidad: O(log n)
+     * 
+     * @param k Posición en el recorrido inorden (0-based)
+     * @return Nodo en la posición k
+     * @throws IndexOutOfBoundsException si k no está entre 0 y size()-1
+     */
+    private NodoAVL<T> selectNode(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + k);
+        }
+        
+        NodoAVL<T> current = root;
+        while (true) {
+            int leftSize = size(current.getLeft());
+            if (k < leftSize) {
+                current = current.getLeft();
+            } else if (k > leftSize) {
+                k -= leftSize + 1;      // Saltear el subárbol izquierdo y este nodo
+                current = current.getRight();
+            } else {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Cuenta cuántos elementos son estrictamente menores que value
+     * (la posición que ocuparía value en el recorrido inorden)
+     * Complejidad: O(log n)
+     * 
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return Cantidad de elementos menores que value
+     */
+    public int rank(T value) {
+        int rank = 0;
+        NodoAVL<T> current = root;
+        
+        while (current != null) {
+            int comparison = value.compareTo(current.getData());
+            if (comparison <= 0) {
+                current = current.getLeft();
+            } else {
+                // Este nodo y todo su subárbol izquierdo son menores
+                rank += size(current.getLeft()) + 1;
+                current = current.getRight();
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Cuenta los elementos x con from <= x < to (rango semiabierto)
+     * Complejidad: O(log n)
+     * 
+     * @param from Límite inferior (incluido)
+     * @param to Límite superior (excluido)
+     * @return Cantidad de elementos en el rango, 0 si from >= to
+     */
+    public int countInRange(T from, T to) {
+        if (from.compareTo(to) >= 0) {
             return 0;
         }
-        return 1 + countNodesRecursive(node.getLeft()) + countNodesRecursive(node.getRight());
+        return rank(to) - rank(from);
     }
     
     /**
@@ -470,7 +597,7 @@ public class ArbolAVL<T extends Comparable<T>> {
     
     /**
      * Obtiene el sucesor inorden de un nodo (siguiente en recorrido inorden)
-     * Complejidad: O(log n) en promedio
+     * Complejidad: O(log n) peor caso, O(1) amortizado al recorrer en orden
      * 
      * @param node Nodo del cual obtener el sucesor
      * @return Sucesor inorden, o null si no existe
@@ -485,8 +612,41 @@ public class ArbolAVL<T extends Comparable<T>> {
             return findMinimumNode(node.getRight());
         }
         
-        // Si no tiene subárbol derecho, buscar el primer ancestro que sea hijo izquierdo
-        return findSuccessorAncestor(root, node);
+        // Si no, subir hasta el primer ancestro del que venimos por la izquierda
+        NodoAVL<T> child = node;
+        NodoAVL<T> parent = node.getParent();
+        while (parent != null && child == parent.getRight()) {
+            child = parent;
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+    
+    /**
+     * Obtiene el predecesor inorden de un nodo (anterior en recorrido inorden)
+     * Complejidad: O(log n) peor caso, O(1) amortizado al recorrer en orden
+     * 
+     * @param node Nodo del cual obtener el predecesor
+     * @return Predecesor inorden, o null si no existe
+     */
+    public NodoAVL<T> getInorderPredecessor(NodoAVL<T> node) {
+        if (node == null) {
+            return null;
+        }
+        
+        // Si tiene subárbol izquierdo, el predecesor es el máximo de ese subárbol
+        if (node.getLeft() != null) {
+            return findMaximumNode(node.getLeft());
+        }
+        
+        // Si no, subir hasta el primer ancestro del que venimos por la derecha
+        NodoAVL<T> child = node;
+        NodoAVL<T> parent = node.getParent();
+        while (parent != null && child == parent.getLeft()) {
+            child = parent;
+            parent = parent.getParent();
+        }
+        return parent;
     }
     
     /**
@@ -500,26 +660,154 @@ public class ArbolAVL<T extends Comparable<T>> {
     }
     
     /**
-     * Encuentra el ancestro que es sucesor del nodo dado
+     * Encuentra el nodo con el valor máximo en un subárbol
      */
-    private NodoAVL<T> findSuccessorAncestor(NodoAVL<T> root, NodoAVL<T> target) {
-        NodoAVL<T> successor = null;
-        NodoAVL<T> current = root;
+    private NodoAVL<T> findMaximumNode(NodoAVL<T> node) {
+        while (node.getRight() != null) {
+            node = node.getRight();
+        }
+        return node;
+    }
+    
+    /**
+     * Obtiene el menor elemento >= value
+     * Complejidad: O(log n)
+     * 
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return El elemento, o null si todos son menores que value
+     */
+    public T ceiling(T value) {
+        NodoAVL<T> node = findCeilingNode(value);
+        return node != null ? node.getData() : null;
+    }
+    
+    /**
+     * Recorre los elementos en orden ascendente sin pila ni copias:
+     * avanza de nodo en nodo con las referencias al padre.
+     * Complejidad: O(n)
+     * 
+     * @param action Acción a aplicar a cada elemento
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (root == null) {
+            return;
+        }
+        for (NodoAVL<T> node = findMinimumNode(root); node != null; node = getInorderSuccessor(node)) {
+            action.accept(node.getData());
+        }
+    }
+    
+    /**
+     * Recorre en orden ascendente los elementos x con from <= x < to
+     * (el mismo rango semiabierto que countInRange).
+     * Complejidad: O(log n + k) con k = elementos visitados
+     * 
+     * @param from Límite inferior (incluido)
+     * @param to Límite superior (excluido)
+     * @param action Acción a aplicar a cada elemento del rango
+     */
+    public void forEachInRange(T from, T to, Consumer<? super T> action) {
+        NodoAVL<T> node = findCeilingNode(from);
+        while (node != null && node.getData().compareTo(to) < 0) {
+            action.accept(node.getData());
+            node = getInorderSuccessor(node);
+        }
+    }
+    
+    /**
+     * Iterador en orden ascendente (un cursor ubicado antes del mínimo)
+     * 
+     * @return Cursor sobre todos los elementos
+     */
+    @Override
+    public Cursor iterator() {
+        return new Cursor(null, root != null ? findMinimumNode(root) : null);
+    }
+    
+    /**
+     * Crea un cursor posicionado justo antes del primer elemento >= value:
+     * next() devuelve ese elemento y prev() el mayor elemento < value.
+     * Complejidad: O(log n) para ubicarlo, O(1) amortizado por paso
+     * 
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return Cursor bidireccional sobre el recorrido inorden
+     */
+    public Cursor ceilingCursor(T value) {
+        NodoAVL<T> ceiling = findCeilingNode(value);
+        NodoAVL<T> lower;
+        if (ceiling != null) {
+            lower = getInorderPredecessor(ceiling);
+        } else {
+            lower = root != null ? findMaximumNode(root) : null;
+        }
+        return new Cursor(lower, ceiling);
+    }
+    
+    /**
+     * Cursor bidireccional sobre el recorrido inorden.
+     * 
+     * Como un ListIterator, está ubicado entre dos elementos: next() devuelve
+     * el de la derecha y avanza, prev() devuelve el de la izquierda y retrocede.
+     * Insertar o eliminar en el árbol invalida el cursor: la siguiente
+     * operación lanza ConcurrentModificationException.
+     */
+    public final class Cursor implements Iterator<T> {
+        private NodoAVL<T> previous;     // Lo que devolvería prev()
+        private NodoAVL<T> following;    // Lo que devolvería next()
+        private final int expectedModCount;
         
-        while (current != null) {
-            int comparison = target.getData().compareTo(current.getData());
-            
-            if (comparison < 0) {
-                successor = current;  // Este es un candidato a sucesor
-                current = current.getLeft();
-            } else if (comparison > 0) {
-                current = current.getRight();
-            } else {
-                break;  // Encontramos el nodo target
+        private Cursor(NodoAVL<T> previous, NodoAVL<T> following) {
+            this.previous = previous;
+            this.following = following;
+            this.expectedModCount = modCount;
+        }
+        
+        private void checkModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
             }
         }
         
-        return successor;
+        @Override
+        public boolean hasNext() {
+            checkModification();
+            return following != null;
+        }
+        
+        /**
+         * Devuelve el siguiente elemento y avanza el cursor
+         * 
+         * @throws NoSuchElementException si no hay más elementos
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            previous = following;
+            following = getInorderSuccessor(following);
+            return previous.getData();
+        }
+        
+        public boolean hasPrev() {
+            checkModification();
+            return previous != null;
+        }
+        
+        /**
+         * Devuelve el elemento anterior y retrocede el cursor
+         * 
+         * @throws NoSuchElementException si no hay elementos anteriores
+         */
+        public T prev() {
+            if (!hasPrev()) {
+                throw new NoSuchElementException();
+            }
+            following = previous;
+            previous = getInorderPredecessor(previous);
+            return following.getData();
+        }
     }
     
     /**
@@ -0,0 +1,484 @@
+package core.estructuras.arboles;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Clase ArbolAVLPersistente: árbol AVL inmutable con copia de camino
+ *
+ * insert y delete no modifican el árbol: devuelven uno nuevo que comparte
+ * con el anterior todos los nodos fuera del camino recorrido (O(log n)
+ * nodos nuevos por operación). Cada versión sigue siendo válida para
+ * siempre, así que guardar una referencia al árbol es una instantánea
+ * en O(1), y varios hilos pueden leer una versión sin ningún bloqueo
+ * mientras otro publica versiones nuevas.
+ *
+ * Cada nodo guarda la altura y el tamaño de su subárbol, como ArbolAVL,
+ * para rank/select en O(log n).
+ *
+ * Propiedades:
+ * - insert / delete: O(log n) tiempo y memoria nueva
+ * - fromSorted(arreglo ordenado): O(n), sin rotaciones
+ * - insertAllSorted(m ordenados): O(min(m log n, n + m))
+ * - search, ceiling, lower, rank, select: O(log n)
+ * - size(): O(1)
+ * - forEach / iterator: O(n); forEachInRange(a, b): O(log n + k)
+ *
+ * @param <T> Tipo de dato que almacena el árbol (debe ser Comparable)
+ * @author Informática 3
+ * @version 1.0
+ */
+public final class ArbolAVLPersistente<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final class Nodo<T> {
+        final T data;
+        final Nodo<T> left;
+        final Nodo<T> right;
+        final int height;
+        final int size;
+
+        Nodo(T data, Nodo<T> left, Nodo<T> right) {
+            this.data = data;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+            this.size = 1 + size(left) + size(right);
+        }
+    }
+
+    // Raíz de esta versión (null si está vacía)
+    private final Nodo<T> root;
+
+    /**
+     * Constructor: Crea un árbol persistente vacío
+     */
+    public ArbolAVLPersistente() {
+        this(null);
+    }
+
+    private ArbolAVLPersistente(Nodo<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Construye un árbol balanceado a partir de elementos ya ordenados,
+     * tomando siempre el del medio como raíz (sin comparaciones ni rotaciones)
+     * Complejidad: O(n)
+     *
+     * @param sorted Elementos en orden estrictamente creciente
+     * @return Árbol con todos los elementos
+     * @throws IllegalArgumentException si los elementos no están en orden estrictamente creciente
+     */
+    public static <T extends Comparable<T>> ArbolAVLPersistente<T> fromSorted(T[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                throw new IllegalArgumentException("Los elementos no están en orden estrictamente creciente");
+            }
+        }
+        return new ArbolAVLPersistente<>(build(sorted, 0, sorted.length));
+    }
+
+    /**
+     * Inserta varios elementos ya ordenados y devuelve la nueva versión.
+     * Si el lote es chico frente al árbol se inserta uno por uno; si no,
+     * se mezclan ambos recorridos en orden y se reconstruye con fromSorted,
+     * que es lineal y no hace rotaciones.
+     * Los elementos que ya estaban se ignoran, igual que en insert.
+     * Complejidad: O(min(m log n, n + m))
+     *
+     * @param sorted Elementos en orden estrictamente creciente
+     * @return Árbol con los elementos agregados (this si no cambió)
+     * @throws IllegalArgumentException si los elementos no están en orden estrictamente creciente
+     */
+    public ArbolAVLPersistente<T> insertAllSorted(T[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                throw new IllegalArgumentException("Los elementos no están en orden estrictamente creciente");
+            }
+        }
+        int n = size();
+        // m log n contra n + m: por debajo de n / log n conviene insertar de a uno
+        if ((long) sorted.length * (32 - Integer.numberOfLeadingZeros(n)) < (long) n + sorted.length) {
+            ArbolAVLPersistente<T> result = this;
+            for (T value : sorted) {
+                result = result.insert(value);
+            }
+            return result;
+        }
+
+        // Mismo tipo de arreglo que el lote; las posiciones se pisan desde 0
+        T[] merged = Arrays.copyOf(sorted, n + sorted.length);
+        int count = 0;
+        int j = 0;
+        for (T value : this) {
+            while (j < sorted.length && sorted[j].compareTo(value) < 0) {
+                merged[count++] = sorted[j++];
+            }
+            if (j < sorted.length && sorted[j].compareTo(value) == 0) {
+                j++; // Ya estaba
+            }
+            merged[count++] = value;
+        }
+        while (j < sorted.length) {
+            merged[count++] = sorted[j++];
+        }
+        if (count == n) {
+            return this;
+        }
+        return new ArbolAVLPersistente<>(build(merged, 0, count));
+    }
+
+    private static <T> Nodo<T> build(T[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        // Los dos lados difieren en a lo sumo un elemento: el resultado es AVL
+        return new Nodo<>(sorted[middle], build(sorted, from, middle), build(sorted, middle + 1, to));
+    }
+
+    private static int height(Nodo<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static int size(Nodo<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * Verifica si el árbol está vacío
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Obtiene la cantidad de elementos
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Obtiene la altura del árbol
+     */
+    public int getHeight() {
+        return height(root);
+    }
+
+    /**
+     * Devuelve una versión con data insertado
+     * Complejidad: O(log n)
+     *
+     * @param data Valor a insertar
+     * @return Árbol nuevo, o este mismo si data ya estaba
+     */
+    public ArbolAVLPersistente<T> insert(T data) {
+        Nodo<T> nuevaRaiz = insertRecursive(root, data);
+        return nuevaRaiz == root ? this : new ArbolAVLPersistente<>(nuevaRaiz);
+    }
+
+    private Nodo<T> insertRecursive(Nodo<T> node, T data) {
+        if (node == null) {
+            return new Nodo<>(data, null, null);
+        }
+        int comparison = data.compareTo(node.data);
+        if (comparison < 0) {
+            Nodo<T> left = insertRecursive(node.left, data);
+            return left == node.left ? node : balance(node.data, left, node.right);
+        }
+        if (comparison > 0) {
+            Nodo<T> right = insertRecursive(node.right, data);
+            return right == node.right ? node : balance(node.data, node.left, right);
+        }
+        return node; // Valores duplicados no permitidos
+    }
+
+    /**
+     * Devuelve una versión sin data
+     * Complejidad: O(log n)
+     *
+     * @param data Valor a eliminar
+     * @return Árbol nuevo, o este mismo si data no estaba
+     */
+    public ArbolAVLPersistente<T> delete(T data) {
+        Nodo<T> nuevaRaiz = deleteRecursive(root, data);
+        return nuevaRaiz == root ? this : new ArbolAVLPersistente<>(nuevaRaiz);
+    }
+
+    private Nodo<T> deleteRecursive(Nodo<T> node, T data) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = data.compareTo(node.data);
+        if (comparison < 0) {
+            Nodo<T> left = deleteRecursive(node.left, data);
+            return left == node.left ? node : balance(node.data, left, node.right);
+        }
+        if (comparison > 0) {
+            Nodo<T> right = deleteRecursive(node.right, data);
+            return right == node.right ? node : balance(node.data, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // Nodo con dos hijos: el sucesor ocupa su lugar
+        Nodo<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.data, node.left, deleteMin(node.right));
+    }
+
+    private Nodo<T> deleteMin(Nodo<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.data, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * Crea el nodo (data, left, right) aplicando la rotación que haga falta.
+     * Los hijos son AVL válidos y sus alturas difieren a lo sumo en 2,
+     * así que una rotación simple o doble alcanza.
+     */
+    private Nodo<T> balance(T data, Nodo<T> left, Nodo<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                // Caso Izquierda-Izquierda: rotación a la derecha
+                return new Nodo<>(left.data, left.left, new Nodo<>(data, left.right, right));
+            }
+            // Caso Izquierda-Derecha: rotación doble
+            Nodo<T> pivot = left.right;
+            return new Nodo<>(pivot.data,
+                    new Nodo<>(left.data, left.left, pivot.left),
+                    new Nodo<>(data, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                // Caso Derecha-Derecha: rotación a la izquierda
+                return new Nodo<>(right.data, new Nodo<>(data, left, right.left), right.right);
+            }
+            // Caso Derecha-Izquierda: rotación doble
+            Nodo<T> pivot = right.left;
+            return new Nodo<>(pivot.data,
+                    new Nodo<>(data, left, pivot.left),
+                    new Nodo<>(right.data, pivot.right, right.right));
+        }
+        return new Nodo<>(data, left, right);
+    }
+
+    /**
+     * Busca un valor en el árbol
+     * Complejidad: O(log n)
+     *
+     * @param data Valor a buscar
+     * @return true si el valor existe, false en caso contrario
+     */
+    public boolean search(T data) {
+        Nodo<T> node = root;
+        while (node != null) {
+            int comparison = data.compareTo(node.data);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene el menor elemento >= value
+     * Complejidad: O(log n)
+     *
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return El elemento, o null si todos son menores que value
+     */
+    public T ceiling(T value) {
+        T candidate = null;
+        Nodo<T> node = root;
+        while (node != null) {
+            int comparison = value.compareTo(node.data);
+            if (comparison == 0) {
+                return node.data;
+            }
+            if (comparison < 0) {
+                candidate = node.data;  // Candidato, puede haber uno menor a la izquierda
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Obtiene el mayor elemento < value
+     * Complejidad: O(log n)
+     *
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return El elemento, o null si ninguno es menor que value
+     */
+    public T lower(T value) {
+        T candidate = null;
+        Nodo<T> node = root;
+        while (node != null) {
+            if (value.compareTo(node.data) > 0) {
+                candidate = node.data;  // Candidato, puede haber uno mayor a la derecha
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Obtiene el k-ésimo menor elemento (k = 0 es el mínimo)
+     * Complejidad: O(log n)
+     *
+     * @param k Posición en el recorrido inorden (0-based)
+     * @return El elemento en la posición k
+     * @throws IndexOutOfBoundsException si k no está entre 0 y size()-1
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + k);
+        }
+        Nodo<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.data;
+            }
+        }
+    }
+
+    /**
+     * Cuenta cuántos elementos son estrictamente menores que value
+     * Complejidad: O(log n)
+     *
+     * @param value Valor de referencia (no necesita estar en el árbol)
+     * @return Cantidad de elementos menores que value
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Nodo<T> node = root;
+        while (node != null) {
+            if (value.compareTo(node.data) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Cuenta los elementos x con from <= x < to (rango semiabierto)
+     * Complejidad: O(log n)
+     *
+     * @return Cantidad de elementos en el rango, 0 si from >= to
+     */
+    public int countInRange(T from, T to) {
+        if (from.compareTo(to) >= 0) {
+            return 0;
+        }
+        return rank(to) - rank(from);
+    }
+
+    /**
+     * Recorre los elementos en orden ascendente
+     * Complejidad: O(n)
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEachRecursive(root, action);
+    }
+
+    private void forEachRecursive(Nodo<T> node, Consumer<? super T> action) {
+        if (node != null) {
+            forEachRecursive(node.left, action);
+            action.accept(node.data);
+            forEachRecursive(node.right, action);
+        }
+    }
+
+    /**
+     * Recorre en orden ascendente los elementos x con from <= x < to
+     * Complejidad: O(log n + k) con k = elementos visitados
+     */
+    public void forEachInRange(T from, T to, Consumer<? super T> action) {
+        forEachInRangeRecursive(root, from, to, action);
+    }
+
+    private void forEachInRangeRecursive(Nodo<T> node, T from, T to, Consumer<? super T> action) {
+        if (node == null) {
+            return;
+        }
+        boolean mayorQueFrom = node.data.compareTo(from) >= 0;
+        boolean menorQueTo = node.data.compareTo(to) < 0;
+        if (mayorQueFrom) {
+            forEachInRangeRecursive(node.left, from, to, action);
+        }
+        if (mayorQueFrom && menorQueTo) {
+            action.accept(node.data);
+        }
+        if (menorQueTo) {
+            forEachInRangeRecursive(node.right, from, to, action);
+        }
+    }
+
+    /**
+     * Iterador en orden ascendente con pila explícita (sin copiar elementos).
+     * Como la versión no cambia, no hace falta detectar modificaciones.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final ArrayDeque<Nodo<T>> pila = new ArrayDeque<>();
+
+            {
+                apilarIzquierdos(root);
+            }
+
+            private void apilarIzquierdos(Nodo<T> node) {
+                while (node != null) {
+                    pila.push(node);
+                    node = node.left;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pila.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (pila.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Nodo<T> node = pila.pop();
+                apilarIzquierdos(node.right);
+                return node.data;
+            }
+        };
+    }
+}
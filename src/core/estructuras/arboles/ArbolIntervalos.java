@@ -0,0 +1,441 @@
+package core.estructuras.arboles;
+
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Clase ArbolIntervalos: árbol de intervalos aumentado sobre un AVL
+ *
+ * Guarda intervalos semiabiertos [inicio, fin) con un valor asociado,
+ * ordenados por inicio. Cada nodo guarda además el mayor fin de su
+ * subárbol (maxEnd), que las rotaciones mantienen al día junto con la
+ * altura. Con ese dato una consulta descarta subárboles enteros cuyo
+ * maxEnd no llega al rango buscado.
+ *
+ * Dos intervalos [a, b) y [c, d) se solapan si a < d y c < b: un intervalo
+ * que termina justo cuando otro empieza no se solapa con él.
+ *
+ * Opcionalmente cada intervalo tiene un peso (un long calculado a partir de
+ * su valor, por ejemplo su duración) y cada nodo guarda también el mayor
+ * peso de su subárbol. firstAfter() y forEachWithWeight() usan ese dato para
+ * descartar subárboles donde ningún intervalo pesa lo suficiente. Sin
+ * función de peso todos pesan 0.
+ *
+ * Se admiten varios intervalos con el mismo inicio (por ejemplo, turnos de
+ * distintos médicos a la misma hora): el empate se resuelve por orden de
+ * llegada.
+ *
+ * Propiedades:
+ * - Inserción / eliminación: O(log n)
+ * - findAnyOverlap(a, b): O(log n)
+ * - forEachOverlap(a, b): O(log n) si no hay solapamientos, O(min(n, k log n))
+ *   para reportar k intervalos
+ * - floor(t) / firstAfter(t, w): O(log n)
+ *
+ * @param <K> Tipo de los extremos de los intervalos (debe ser Comparable)
+ * @param <V> Tipo del valor asociado a cada intervalo
+ * @author Informática 3
+ * @version 1.0
+ */
+public class ArbolIntervalos<K extends Comparable<? super K>, V> {
+
+    private static final class NodoIntervalo<K, V> {
+        final K start;
+        final K end;
+        final V value;
+        final long arrival;              // Desempate entre inicios iguales
+        final long weight;               // Peso del intervalo
+        K maxEnd;                        // Mayor fin del subárbol con raíz en este nodo
+        long maxWeight;                  // Mayor peso del subárbol
+        int height = 1;
+        NodoIntervalo<K, V> left;
+        NodoIntervalo<K, V> right;
+
+        NodoIntervalo(K start, K end, V value, long arrival, long weight) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.arrival = arrival;
+            this.weight = weight;
+            this.maxEnd = end;
+            this.maxWeight = weight;
+        }
+    }
+
+    // Raíz del árbol
+    private NodoIntervalo<K, V> root;
+    private int size;
+    private long arrivals;
+    private final ToLongFunction<? super V> weigher;
+
+    /**
+     * Crea un árbol sin pesos (todos los intervalos pesan 0)
+     */
+    public ArbolIntervalos() {
+        this(null);
+    }
+
+    /**
+     * Crea un árbol que mantiene el mayor peso de cada subárbol
+     *
+     * @param weigher Peso de cada intervalo a partir de su valor; se calcula
+     *                una sola vez, al insertarlo
+     */
+    public ArbolIntervalos(ToLongFunction<? super V> weigher) {
+        this.weigher = weigher;
+    }
+
+    /**
+     * Verifica si el árbol está vacío
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Obtiene la cantidad de intervalos
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserta el intervalo [start, end) con su valor
+     * Complejidad: O(log n)
+     *
+     * @param start Inicio (incluido)
+     * @param end Fin (excluido)
+     * @param value Valor asociado
+     * @throws IllegalArgumentException si start no es menor que end
+     */
+    public void insert(K start, K end, V value) {
+        if (start.compareTo(end) >= 0) {
+            throw new IllegalArgumentException("Intervalo vacío o invertido: [" + start + ", " + end + ")");
+        }
+        long weight = weigher != null ? weigher.applyAsLong(value) : 0;
+        root = insertRecursive(root, new NodoIntervalo<>(start, end, value, arrivals++, weight));
+        size++;
+    }
+
+    private NodoIntervalo<K, V> insertRecursive(NodoIntervalo<K, V> node, NodoIntervalo<K, V> nuevo) {
+        if (node == null) {
+            return nuevo;
+        }
+        if (compare(nuevo, node) < 0) {
+            node.left = insertRecursive(node.left, nuevo);
+        } else {
+            node.right = insertRecursive(node.right, nuevo);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Elimina un intervalo que empieza en start y tiene el valor dado
+     * (comparado con equals)
+     * Complejidad: O(log n + d) con d = intervalos con ese mismo inicio
+     *
+     * @param start Inicio del intervalo
+     * @param value Valor asociado al intervalo
+     * @return true si se eliminó, false si no estaba
+     */
+    public boolean delete(K start, V value) {
+        NodoIntervalo<K, V> target = findNode(root, start, value);
+        if (target == null) {
+            return false;
+        }
+        root = deleteRecursive(root, target);
+        size--;
+        return true;
+    }
+
+    private NodoIntervalo<K, V> findNode(NodoIntervalo<K, V> node, K start, V value) {
+        while (node != null) {
+            int comparison = start.compareTo(node.start);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                if (value == null ? node.value == null : value.equals(node.value)) {
+                    return node;
+                }
+                // Mismo inicio: el orden de llegada puede haberlo dejado de cualquier lado
+                NodoIntervalo<K, V> found = findNode(node.right, start, value);
+                if (found != null) {
+                    return found;
+                }
+                node = node.left;
+            }
+        }
+        return null;
+    }
+
+    private NodoIntervalo<K, V> deleteRecursive(NodoIntervalo<K, V> node, NodoIntervalo<K, V> target) {
+        if (node == target) {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Dos hijos: el sucesor ocupa su lugar
+            NodoIntervalo<K, V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        if (compare(target, node) < 0) {
+            node.left = deleteRecursive(node.left, target);
+        } else {
+            node.right = deleteRecursive(node.right, target);
+        }
+        return rebalance(node);
+    }
+
+    private NodoIntervalo<K, V> deleteMin(NodoIntervalo<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Busca algún intervalo que se solape con [from, to)
+     * Complejidad: O(log n)
+     *
+     * Si el hijo izquierdo tiene maxEnd > from y ninguno de sus intervalos se
+     * solapa, el que alcanza ese maxEnd empieza en o después de to, y todo lo
+     * que está a la derecha también: basta con bajar por un solo camino.
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @return El valor de un intervalo solapado, o null si no hay
+     */
+    public V findAnyOverlap(K from, K to) {
+        NodoIntervalo<K, V> node = findOverlapNode(from, to);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Verifica si algún intervalo se solapa con [from, to)
+     * Complejidad: O(log n)
+     */
+    public boolean hasOverlap(K from, K to) {
+        return findOverlapNode(from, to) != null;
+    }
+
+    private NodoIntervalo<K, V> findOverlapNode(K from, K to) {
+        NodoIntervalo<K, V> node = root;
+        while (node != null) {
+            if (overlaps(node, from, to)) {
+                return node;
+            }
+            if (node.left != null && node.left.maxEnd.compareTo(from) > 0) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Recorre, en orden de inicio, todos los intervalos que se solapan con [from, to)
+     * Complejidad: O(min(n, (k + 1) log n)) con k = intervalos reportados
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @param action Acción a aplicar al valor de cada intervalo solapado
+     */
+    public void forEachOverlap(K from, K to, Consumer<? super V> action) {
+        forEachOverlapRecursive(root, from, to, action);
+    }
+
+    private void forEachOverlapRecursive(NodoIntervalo<K, V> node, K from, K to, Consumer<? super V> action) {
+        // Ningún intervalo del subárbol termina después de from
+        if (node == null || node.maxEnd.compareTo(from) <= 0) {
+            return;
+        }
+        forEachOverlapRecursive(node.left, from, to, action);
+        if (overlaps(node, from, to)) {
+            action.accept(node.value);
+        }
+        // A la derecha todos empiezan en o después de node.start
+        if (node.start.compareTo(to) < 0) {
+            forEachOverlapRecursive(node.right, from, to, action);
+        }
+    }
+
+    /**
+     * Valor del intervalo con el mayor inicio que no supera t (entre
+     * inicios iguales, el último en llegar)
+     * Complejidad: O(log n)
+     *
+     * @return El valor, o null si todos empiezan después de t
+     */
+    public V floor(K t) {
+        NodoIntervalo<K, V> node = root;
+        NodoIntervalo<K, V> candidate = null;
+        while (node != null) {
+            if (node.start.compareTo(t) > 0) {
+                node = node.left;
+            } else {
+                candidate = node;
+                node = node.right;
+            }
+        }
+        return candidate != null ? candidate.value : null;
+    }
+
+    /**
+     * Mayor peso entre todos los intervalos
+     * Complejidad: O(1)
+     *
+     * @return El mayor peso, o Long.MIN_VALUE si el árbol está vacío
+     */
+    public long maxWeight() {
+        return root != null ? root.maxWeight : Long.MIN_VALUE;
+    }
+
+    /**
+     * Primer intervalo, en orden de inicio, que empieza después de t y pesa
+     * al menos minWeight. Los subárboles cuyo mayor peso no alcanza se
+     * descartan enteros.
+     * Complejidad: O(log n)
+     *
+     * @return El valor de ese intervalo, o null si no hay
+     */
+    public V firstAfter(K t, long minWeight) {
+        NodoIntervalo<K, V> node = firstAfterRecursive(root, t, minWeight);
+        return node != null ? node.value : null;
+    }
+
+    private NodoIntervalo<K, V> firstAfterRecursive(NodoIntervalo<K, V> node, K t, long minWeight) {
+        if (node == null || node.maxWeight < minWeight) {
+            return null;
+        }
+        if (node.start.compareTo(t) <= 0) {
+            return firstAfterRecursive(node.right, t, minWeight);
+        }
+        NodoIntervalo<K, V> left = firstAfterRecursive(node.left, t, minWeight);
+        if (left != null) {
+            return left;
+        }
+        if (node.weight >= minWeight) {
+            return node;
+        }
+        return firstAfterRecursive(node.right, t, minWeight);
+    }
+
+    /**
+     * Recorre, en orden de inicio, los intervalos que pesan al menos minWeight
+     * Complejidad: O(min(n, (k + 1) log n)) con k = intervalos reportados
+     *
+     * @param minWeight Peso mínimo
+     * @param action Acción a aplicar al valor de cada intervalo
+     */
+    public void forEachWithWeight(long minWeight, Consumer<? super V> action) {
+        forEachWithWeightRecursive(root, minWeight, action);
+    }
+
+    private void forEachWithWeightRecursive(NodoIntervalo<K, V> node, long minWeight, Consumer<? super V> action) {
+        // Ningún intervalo del subárbol alcanza el peso pedido
+        if (node == null || node.maxWeight < minWeight) {
+            return;
+        }
+        forEachWithWeightRecursive(node.left, minWeight, action);
+        if (node.weight >= minWeight) {
+            action.accept(node.value);
+        }
+        forEachWithWeightRecursive(node.right, minWeight, action);
+    }
+
+    private boolean overlaps(NodoIntervalo<K, V> node, K from, K to) {
+        return node.start.compareTo(to) < 0 && from.compareTo(node.end) < 0;
+    }
+
+    /**
+     * Orden total entre nodos: por inicio y, si empatan, por llegada
+     */
+    private int compare(NodoIntervalo<K, V> a, NodoIntervalo<K, V> b) {
+        int comparison = a.start.compareTo(b.start);
+        return comparison != 0 ? comparison : Long.compare(a.arrival, b.arrival);
+    }
+
+    private int height(NodoIntervalo<K, V> node) {
+        return node != null ? node.height : 0;
+    }
+
+    /**
+     * Actualiza la altura, el maxEnd y el maxWeight de un nodo a partir de
+     * sus hijos. Inserción, eliminación y rotaciones pasan por acá, así que
+     * es el único lugar que mantiene los datos aumentados.
+     */
+    private void update(NodoIntervalo<K, V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        K max = node.end;
+        long maxWeight = node.weight;
+        if (node.left != null) {
+            if (node.left.maxEnd.compareTo(max) > 0) {
+                max = node.left.maxEnd;
+            }
+            maxWeight = Math.max(maxWeight, node.left.maxWeight);
+        }
+        if (node.right != null) {
+            if (node.right.maxEnd.compareTo(max) > 0) {
+                max = node.right.maxEnd;
+            }
+            maxWeight = Math.max(maxWeight, node.right.maxWeight);
+        }
+        node.maxEnd = max;
+        node.maxWeight = maxWeight;
+    }
+
+    private NodoIntervalo<K, V> rebalance(NodoIntervalo<K, V> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotación simple a la derecha
+     */
+    private NodoIntervalo<K, V> rotateRight(NodoIntervalo<K, V> y) {
+        NodoIntervalo<K, V> x = y.left;
+        y.left = x.right;
+        x.right = y;
+        update(y);
+        update(x);
+        return x;
+    }
+
+    /**
+     * Rotación simple a la izquierda
+     */
+    private NodoIntervalo<K, V> rotateLeft(NodoIntervalo<K, V> x) {
+        NodoIntervalo<K, V> y = x.right;
+        x.right = y.left;
+        y.left = x;
+        update(x);
+        update(y);
+        return y;
+    }
+}
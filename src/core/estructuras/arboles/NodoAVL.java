@@ -5,8 +5,9 @@ package core.estructuras.arboles;
  * 
  * Un nodo AVL contiene:
  * - Un valor (dato)
- * - Referencias a sus hijos izquierdo y derecho
+ * - Referencias a sus hijos izquierdo y derecho, y a su padre
  * - La altura del subárbol que tiene como raíz
+ * - La cantidad de nodos del subárbol que tiene como raíz (para rank/select)
  * 
  * @param <T> Tipo de dato que almacena el nodo (debe ser Comparable)
  * @author Sistema
@@ -17,8 +18,10 @@ public class NodoAVL<T extends Comparable<T>> {
     private T data;                      // Valor almacenado en el nodo
     private int height;                  // Altura del subárbol con raíz en este nodo
     private int balance;                 // Factor de balance del nodo (altura izq - altura der)
+    private int size;                    // Cantidad de nodos del subárbol con raíz en este nodo
     private NodoAVL<T> left;             // Referencia al hijo izquierdo
     private NodoAVL<T> right;            // Referencia al hijo derecho
+    private NodoAVL<T> parent;           // Referencia al padre (null en la raíz)
 
     /**
      * Constructor: Crea un nuevo nodo con un valor dado
@@ -34,8 +37,10 @@ public class NodoAVL<T extends Comparable<T>> {
         this.data = data;
         this.height = 1;           // Un nodo nuevo tiene altura 1
         this.balance = 0;          // Un nodo hoja tiene balance 0
+        this.size = 1;             // Un nodo hoja es su propio subárbol
         this.left = null;          // Sin hijo izquierdo inicialmente
         this.right = null;         // Sin hijo derecho inicialmente
+        this.parent = null;        // Sin padre hasta que se enlace en el árbol
     }
 
     /**
@@ -86,6 +91,22 @@ public class NodoAVL<T extends Comparable<T>> {
         this.balance = balance;
     }
 
+    /**
+     * Obtiene la cantidad de nodos del subárbol
+     * @return Tamaño del subárbol con raíz en este nodo
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Establece la cantidad de nodos del subárbol
+     * @param size El nuevo tamaño del subárbol
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
     /**
      * Obtiene el hijo izquierdo
      * @return Referencia al nodo hijo izquierdo
@@ -95,11 +116,14 @@ public class NodoAVL<T extends Comparable<T>> {
     }
 
     /**
-     * Establece el hijo izquierdo
+     * Establece el hijo izquierdo (y a este nodo como su padre)
      * @param left El nuevo hijo izquierdo
      */
     public void setLeft(NodoAVL<T> left) {
         this.left = left;
+        if (left != null) {
+            left.parent = this;
+        }
     }
 
     /**
@@ -111,11 +135,30 @@ public class NodoAVL<T extends Comparable<T>> {
     }
 
     /**
-     * Establece el hijo derecho
+     * Establece el hijo derecho (y a este nodo como su padre)
      * @param right El nuevo hijo derecho
      */
     public void setRight(NodoAVL<T> right) {
         this.right = right;
+        if (right != null) {
+            right.parent = this;
+        }
+    }
+
+    /**
+     * Obtiene el padre
+     * @return Referencia al nodo padre, o null si es la raíz
+     */
+    public NodoAVL<T> getParent() {
+        return parent;
+    }
+
+    /**
+     * Establece el padre
+     * @param parent El nuevo padre (null para la raíz)
+     */
+    public void setParent(NodoAVL<T> parent) {
+        this.parent = parent;
     }
 
     /**
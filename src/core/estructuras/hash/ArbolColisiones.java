@@ -0,0 +1,293 @@
+package core.estructuras.hash;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Árbol AVL local a un bucket de TablaHash.
+ *
+ * TablaHash convierte un bucket en este árbol cuando su cadena de colisiones
+ * supera cierto largo (como los TreeNode de HashMap en JDK 8), y lo vuelve a
+ * lista cuando se achica. Así una ráfaga de claves con el mismo hash no
+ * degrada las operaciones a recorrer una lista de n elementos.
+ *
+ * Las entradas se ordenan por:
+ * 1. hash (ya mezclado por la tabla)
+ * 2. nombre de la clase de la clave
+ * 3. compareTo, si las claves son Comparable de la misma clase
+ * 4. orden de llegada, para desempatar lo que quede
+ * El último criterio hace que el orden sea total aunque las claves no sean
+ * comparables, por lo que eliminar un nodo ya ubicado siempre es O(log n).
+ *
+ * Complejidad:
+ * - Claves Comparable (String, Integer, ...): O(log n) aun con hashCode idéntico
+ * - Claves no comparables con hash idéntico: la búsqueda tiene que revisar
+ *   ambos subárboles del tramo empatado, O(n) en el peor caso (igual que el JDK)
+ *
+ * @param <K> Tipo de la clave
+ * @param <V> Tipo del valor
+ * @author JhelixT
+ * @version 1.0
+ */
+final class ArbolColisiones<K, V> {
+
+    private static final class NodoColision<K, V> {
+        private final TablaHash.Entry<K, V> entry;
+        private final long llegada;
+        private NodoColision<K, V> izquierdo;
+        private NodoColision<K, V> derecho;
+        private int altura = 1;
+
+        NodoColision(TablaHash.Entry<K, V> entry, long llegada) {
+            this.entry = entry;
+            this.llegada = llegada;
+        }
+    }
+
+    private NodoColision<K, V> raiz;
+    private int size;
+    private long llegadas;
+
+    /**
+     * Compara dos claves con los tres primeros criterios del orden.
+     *
+     * @return 0 si no se pueden distinguir sin el orden de llegada
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int comparar(int h1, Object k1, int h2, Object k2) {
+        if (h1 != h2) {
+            return h1 < h2 ? -1 : 1;
+        }
+        if (k1 == null || k2 == null) {
+            // Solo puede haber una clave null: va primero
+            return (k1 == null ? -1 : 0) + (k2 == null ? 1 : 0);
+        }
+        Class<?> c1 = k1.getClass();
+        Class<?> c2 = k2.getClass();
+        if (c1 != c2) {
+            return c1.getName().compareTo(c2.getName());
+        }
+        if (k1 instanceof Comparable) {
+            return Integer.signum(((Comparable) k1).compareTo(k2));
+        }
+        return 0;
+    }
+
+    /**
+     * Orden total entre nodos: los tres criterios de comparar y, si empatan,
+     * el orden de llegada (único por nodo).
+     */
+    private static <K, V> int ordenar(NodoColision<K, V> a, NodoColision<K, V> b) {
+        int c = comparar(a.entry.hash, a.entry.getKey(), b.entry.hash, b.entry.getKey());
+        return c != 0 ? c : Long.compare(a.llegada, b.llegada);
+    }
+
+    /**
+     * Cantidad de entradas del árbol.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Busca la entrada de una clave.
+     *
+     * @param h Hash mezclado de la clave
+     * @param key La clave (puede ser null)
+     * @return La entrada, o null si la clave no está
+     */
+    TablaHash.Entry<K, V> buscar(int h, Object key) {
+        NodoColision<K, V> nodo = buscarNodo(raiz, h, key);
+        return nodo != null ? nodo.entry : null;
+    }
+
+    private NodoColision<K, V> buscarNodo(NodoColision<K, V> nodo, int h, Object key) {
+        while (nodo != null) {
+            TablaHash.Entry<K, V> entry = nodo.entry;
+            if (h == entry.hash && Objects.equals(key, entry.getKey())) {
+                return nodo;
+            }
+            int c = comparar(h, key, entry.hash, entry.getKey());
+            if (c < 0) {
+                nodo = nodo.izquierdo;
+            } else if (c > 0) {
+                nodo = nodo.derecho;
+            } else {
+                // Empate que solo resuelve el orden de llegada: puede estar de cualquier lado
+                NodoColision<K, V> encontrado = buscarNodo(nodo.derecho, h, key);
+                if (encontrado != null) {
+                    return encontrado;
+                }
+                nodo = nodo.izquierdo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserta una entrada cuya clave no está en el árbol.
+     *
+     * Complejidad: O(log n)
+     */
+    void insertar(TablaHash.Entry<K, V> entry) {
+        raiz = insertar(raiz, new NodoColision<>(entry, llegadas++));
+        size++;
+    }
+
+    private NodoColision<K, V> insertar(NodoColision<K, V> nodo, NodoColision<K, V> nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (ordenar(nuevo, nodo) < 0) {
+            nodo.izquierdo = insertar(nodo.izquierdo, nuevo);
+        } else {
+            nodo.derecho = insertar(nodo.derecho, nuevo);
+        }
+        return balancear(nodo);
+    }
+
+    /**
+     * Elimina la entrada de una clave.
+     *
+     * @param h Hash mezclado de la clave
+     * @param key La clave (puede ser null)
+     * @return La entrada eliminada, o null si la clave no estaba
+     */
+    TablaHash.Entry<K, V> eliminar(int h, Object key) {
+        NodoColision<K, V> objetivo = buscarNodo(raiz, h, key);
+        if (objetivo == null) {
+            return null;
+        }
+        raiz = eliminar(raiz, objetivo);
+        size--;
+        return objetivo.entry;
+    }
+
+    private NodoColision<K, V> eliminar(NodoColision<K, V> nodo, NodoColision<K, V> objetivo) {
+        if (nodo == objetivo) {
+            if (nodo.izquierdo == null) {
+                return nodo.derecho;
+            }
+            if (nodo.derecho == null) {
+                return nodo.izquierdo;
+            }
+            // Dos hijos: el sucesor ocupa su lugar
+            NodoColision<K, V> sucesor = nodo.derecho;
+            while (sucesor.izquierdo != null) {
+                sucesor = sucesor.izquierdo;
+            }
+            sucesor.derecho = eliminarMinimo(nodo.derecho);
+            sucesor.izquierdo = nodo.izquierdo;
+            return balancear(sucesor);
+        }
+        if (ordenar(objetivo, nodo) < 0) {
+            nodo.izquierdo = eliminar(nodo.izquierdo, objetivo);
+        } else {
+            nodo.derecho = eliminar(nodo.derecho, objetivo);
+        }
+        return balancear(nodo);
+    }
+
+    private NodoColision<K, V> eliminarMinimo(NodoColision<K, V> nodo) {
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        nodo.izquierdo = eliminarMinimo(nodo.izquierdo);
+        return balancear(nodo);
+    }
+
+    private static int altura(NodoColision<?, ?> nodo) {
+        return nodo != null ? nodo.altura : 0;
+    }
+
+    private static <K, V> NodoColision<K, V> balancear(NodoColision<K, V> nodo) {
+        nodo.altura = 1 + Math.max(altura(nodo.izquierdo), altura(nodo.derecho));
+        int balance = altura(nodo.izquierdo) - altura(nodo.derecho);
+
+        if (balance > 1) {
+            if (altura(nodo.izquierdo.izquierdo) < altura(nodo.izquierdo.derecho)) {
+                nodo.izquierdo = rotarIzquierda(nodo.izquierdo);
+            }
+            return rotarDerecha(nodo);
+        }
+        if (balance < -1) {
+            if (altura(nodo.derecho.derecho) < altura(nodo.derecho.izquierdo)) {
+                nodo.derecho = rotarDerecha(nodo.derecho);
+            }
+            return rotarIzquierda(nodo);
+        }
+        return nodo;
+    }
+
+    private static <K, V> NodoColision<K, V> rotarDerecha(NodoColision<K, V> y) {
+        NodoColision<K, V> x = y.izquierdo;
+        y.izquierdo = x.derecho;
+        x.derecho = y;
+        y.altura = 1 + Math.max(altura(y.izquierdo), altura(y.derecho));
+        x.altura = 1 + Math.max(altura(x.izquierdo), altura(x.derecho));
+        return x;
+    }
+
+    private static <K, V> NodoColision<K, V> rotarIzquierda(NodoColision<K, V> x) {
+        NodoColision<K, V> y = x.derecho;
+        x.derecho = y.izquierdo;
+        y.izquierdo = x;
+        x.altura = 1 + Math.max(altura(x.izquierdo), altura(x.derecho));
+        y.altura = 1 + Math.max(altura(y.izquierdo), altura(y.derecho));
+        return y;
+    }
+
+    /**
+     * Aplica una acción a cada entrada, en orden.
+     */
+    void forEach(Consumer<TablaHash.Entry<K, V>> accion) {
+        recorrer(raiz, accion);
+    }
+
+    private void recorrer(NodoColision<K, V> nodo, Consumer<TablaHash.Entry<K, V>> accion) {
+        if (nodo == null) {
+            return;
+        }
+        recorrer(nodo.izquierdo, accion);
+        accion.accept(nodo.entry);
+        recorrer(nodo.derecho, accion);
+    }
+
+    /**
+     * Iterador en orden con pila explícita (no copia las entradas).
+     */
+    Iterator<TablaHash.Entry<K, V>> iterator() {
+        return new Iterator<TablaHash.Entry<K, V>>() {
+            private final ArrayDeque<NodoColision<K, V>> pila = new ArrayDeque<>();
+
+            {
+                apilarIzquierdos(raiz);
+            }
+
+            private void apilarIzquierdos(NodoColision<K, V> nodo) {
+                while (nodo != null) {
+                    pila.push(nodo);
+                    nodo = nodo.izquierdo;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pila.isEmpty();
+            }
+
+            @Override
+            public TablaHash.Entry<K, V> next() {
+                if (pila.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                NodoColision<K, V> nodo = pila.pop();
+                apilarIzquierdos(nodo.derecho);
+                return nodo.entry;
+            }
+        };
+    }
+}
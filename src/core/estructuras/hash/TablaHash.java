@@ -3,8 +3,17 @@ package core.estructuras.hash;
 import core.estructuras.listas.ListaEnlazada;
 import core.estructuras.nodos.Nodo;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Implementación de Tabla Hash con encadenamiento usando ListaEnlazada del proyecto.
@@ -19,15 +28,47 @@ import java.util.Objects;
  * - Implementación 100% con estructuras del proyecto
  * - Soporte completo para claves null (null-safe)
  * 
+ * Estrategias de almacenamiento (se eligen en el constructor):
+ * - ENCADENAMIENTO: buckets con ListaEnlazada (comportamiento por defecto)
+ * - SONDEO_LINEAL: direccionamiento abierto sobre arreglos paralelos
+ *   clave/valor/hash (ver TablaSondeoLineal). Sin objetos por entrada,
+ *   menos memoria y mejor localidad de caché en búsquedas.
+ * 
+ * Rehash incremental (opcional, solo ENCADENAMIENTO):
+ * Al superar el factor de carga no se rehashea todo de una vez. Como en el
+ * dict de Redis, la tabla vieja y la nueva conviven y cada put/get/remove
+ * migra unos pocos buckets, evitando pausas largas en tablas grandes.
+ * El avance se consulta con isRehashing() y getProgresoRehash().
+ * 
+ * Recorridos sin copia:
+ * claves(), valores() y forEach() recorren los buckets en su lugar, sin
+ * armar listas intermedias. Los iteradores son fail-fast (lanzan
+ * ConcurrentModificationException si la tabla cambia estructuralmente) y
+ * exponen un Spliterator divisible para usar con streams paralelos.
+ * Si hay un rehash incremental en curso no lo completan: recorren juntas la
+ * tabla vieja y la nueva (ver recolectarGrupo).
+ * keys(), values() y entries() siguen disponibles y devuelven copias.
+ * 
+ * Resistencia a colisiones (ENCADENAMIENTO):
+ * - Cada tabla tiene una semilla aleatoria que se mezcla con hashCode()
+ *   antes de elegir el bucket, así no se pueden preparar claves que caigan
+ *   todas en el mismo bucket sin conocerla.
+ * - Las claves con hashCode idéntico (ej. "Aa" y "BB") colisionan igual con
+ *   cualquier semilla: cuando una cadena supera UMBRAL_ARBOL entradas el
+ *   bucket se convierte en un árbol balanceado (ver ArbolColisiones), como
+ *   en HashMap de JDK 8, y vuelve a ser lista al bajar de UMBRAL_LISTA.
+ * SONDEO_LINEAL no tiene esta protección.
+ * 
  * Complejidad temporal (promedio):
  * - Insertar: O(1)
  * - Buscar: O(1)
  * - Eliminar: O(1)
  * 
- * Complejidad temporal (peor caso con muchas colisiones):
- * - Insertar: O(n)
- * - Buscar: O(n)
- * - Eliminar: O(n)
+ * Complejidad temporal (peor caso con muchas colisiones, ENCADENAMIENTO):
+ * - Insertar: O(log n)
+ * - Buscar: O(log n)
+ * - Eliminar: O(log n)
+ * (O(n) si las claves que colisionan no son Comparable)
  * 
  * @param <K> Tipo de la clave
  * @param <V> Tipo del valor
@@ -36,16 +77,28 @@ import java.util.Objects;
  */
 public class TablaHash<K, V> {
     
+    /**
+     * Motor de almacenamiento de la tabla.
+     */
+    public enum Estrategia {
+        /** Cada posición es una ListaEnlazada de entradas */
+        ENCADENAMIENTO,
+        /** Direccionamiento abierto con sondeo lineal sobre arreglos paralelos */
+        SONDEO_LINEAL
+    }
+    
     /**
      * Entrada que almacena un par clave-valor.
      */
-    private static class Entry<K, V> {
-        private K key;
+    static class Entry<K, V> {
+        private final K key;
         private V value;
+        final int hash; // hash mezclado, se guarda para no recalcularlo al rehashear
         
-        public Entry(K key, V value) {
+        public Entry(K key, V value, int hash) {
             this.key = key;
             this.value = value;
+            this.hash = hash;
         }
         
         public K getKey() {
@@ -79,22 +132,43 @@ public class TablaHash<K, V> {
     private static final int CAPACIDAD_INICIAL = 16;
     private static final double FACTOR_CARGA_MAXIMO = 0.75;
     
+    // Trabajo máximo por operación durante un rehash incremental
+    private static final int BUCKETS_POR_PASO = 4;
+    private static final int VISITAS_VACIAS_POR_PASO = 40;
+    
+    // Conversión de cadenas largas en árbol, con los mismos umbrales que HashMap
+    private static final int UMBRAL_ARBOL = 8;
+    private static final int UMBRAL_LISTA = 6;
+    private static final int CAPACIDAD_MINIMA_ARBOL = 64; // por debajo conviene redimensionar
+    
     private ListaEnlazada<Entry<K, V>>[] tabla;
     private int size;
     private int capacidad;
+    private int modCount; // modificaciones estructurales, para iteradores fail-fast
+    private final int semilla;
+    
+    // Buckets convertidos en árbol, en paralelo a tabla (y a tablaVieja).
+    // Se crean recién cuando alguna cadena supera UMBRAL_ARBOL.
+    private ArbolColisiones<K, V>[] arboles;
+    private ArbolColisiones<K, V>[] arbolesViejos;
+    
+    // Motor de sondeo lineal; null cuando la estrategia es ENCADENAMIENTO
+    private final TablaSondeoLineal<K, V> sondeo;
+    
+    // Rehash incremental: tablaVieja != null mientras hay una migración en curso.
+    // Los buckets de tablaVieja anteriores a indiceMigracion ya están vacíos.
+    // En este modo los buckets de la tabla nueva se crean a demanda (pueden ser null),
+    // para que redimensionar no tenga que instanciar millones de listas de una vez.
+    private final boolean rehashIncremental;
+    private ListaEnlazada<Entry<K, V>>[] tablaVieja;
+    private int capacidadVieja;
+    private int indiceMigracion;
     
     /**
      * Constructor por defecto con capacidad inicial de 16.
      */
-    @SuppressWarnings("unchecked")
     public TablaHash() {
-        this.capacidad = CAPACIDAD_INICIAL;
-        this.tabla = new ListaEnlazada[capacidad];
-        this.size = 0;
-        
-        for (int i = 0; i < capacidad; i++) {
-            tabla[i] = new ListaEnlazada<>();
-        }
+        this(CAPACIDAD_INICIAL, Estrategia.ENCADENAMIENTO);
     }
     
     /**
@@ -102,8 +176,52 @@ public class TablaHash<K, V> {
      * 
      * @param capacidadInicial La capacidad inicial de la tabla
      */
-    @SuppressWarnings("unchecked")
     public TablaHash(int capacidadInicial) {
+        this(capacidadInicial, Estrategia.ENCADENAMIENTO);
+    }
+    
+    /**
+     * Constructor con estrategia de almacenamiento y capacidad por defecto.
+     * 
+     * @param estrategia Motor de almacenamiento a usar
+     */
+    public TablaHash(Estrategia estrategia) {
+        this(CAPACIDAD_INICIAL, estrategia);
+    }
+    
+    /**
+     * Constructor con capacidad y estrategia de almacenamiento.
+     * Con SONDEO_LINEAL la capacidad se redondea a la siguiente potencia de 2.
+     * 
+     * @param capacidadInicial La capacidad inicial de la tabla
+     * @param estrategia Motor de almacenamiento a usar
+     */
+    public TablaHash(int capacidadInicial, Estrategia estrategia) {
+        this(capacidadInicial, estrategia, false);
+    }
+    
+    /**
+     * Constructor completo.
+     * 
+     * @param capacidadInicial La capacidad inicial de la tabla
+     * @param estrategia Motor de almacenamiento a usar
+     * @param rehashIncremental true para migrar buckets de a poco al redimensionar
+     * @throws IllegalArgumentException si se pide rehash incremental con SONDEO_LINEAL
+     */
+    @SuppressWarnings("unchecked")
+    public TablaHash(int capacidadInicial, Estrategia estrategia, boolean rehashIncremental) {
+        this.rehashIncremental = rehashIncremental;
+        this.semilla = ThreadLocalRandom.current().nextInt();
+        
+        if (estrategia == Estrategia.SONDEO_LINEAL) {
+            if (rehashIncremental) {
+                throw new IllegalArgumentException("El rehash incremental solo está disponible con ENCADENAMIENTO");
+            }
+            this.sondeo = new TablaSondeoLineal<>(capacidadInicial, FACTOR_CARGA_MAXIMO);
+            return;
+        }
+        
+        this.sondeo = null;
         this.capacidad = capacidadInicial;
         this.tabla = new ListaEnlazada[capacidad];
         this.size = 0;
@@ -114,56 +232,251 @@ public class TablaHash<K, V> {
     }
     
     /**
-     * Calcula el índice hash para una clave.
-     * Usa bitwise AND con 0x7FFFFFFF para garantizar valores no negativos,
-     * evitando el problema de Math.abs(Integer.MIN_VALUE) que retorna negativo.
+     * Obtiene la estrategia de almacenamiento en uso.
      * 
-     * @param key La clave (puede ser null)
-     * @return El índice en la tabla (0 a capacidad-1)
+     * @return ENCADENAMIENTO o SONDEO_LINEAL
+     */
+    public Estrategia getEstrategia() {
+        return sondeo != null ? Estrategia.SONDEO_LINEAL : Estrategia.ENCADENAMIENTO;
+    }
+    
+    /**
+     * Hash de una clave mezclado con la semilla de la tabla.
+     * Todos los pasos de la mezcla (xor con la semilla y el finalizador de
+     * MurmurHash3) son biyectivos: claves con distinto hashCode nunca pasan
+     * a tener el mismo hash, pero cuáles comparten bucket depende de la semilla.
+     * 
+     * @param key La clave (puede ser null, que siempre va al bucket 0)
+     * @return El hash mezclado
      */
-    private int hash(K key) {
+    private int hash(Object key) {
         if (key == null) {
             return 0;
         }
-        // Bitwise AND con 0x7FFFFFFF elimina el bit de signo, garantizando valores positivos
-        return (key.hashCode() & 0x7FFFFFFF) % capacidad;
+        int h = key.hashCode() ^ semilla;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
     }
     
     /**
-     * Inserta o actualiza un par clave-valor en la tabla.
-     * Si la clave ya existe, actualiza el valor.
-     * Soporta claves null.
+     * Calcula el índice en la tabla actual para un hash.
+     */
+    private int indice(int h) {
+        return indice(h, capacidad);
+    }
+    
+    /**
+     * Índice para una capacidad dada (la de la tabla vieja durante un rehash).
+     * Usa bitwise AND con 0x7FFFFFFF para garantizar valores no negativos,
+     * evitando el problema de Math.abs(Integer.MIN_VALUE) que retorna negativo.
      * 
-     * Complejidad: O(1) en promedio, O(n) en el peor caso
+     * @return El índice (0 a cap-1)
+     */
+    private int indice(int h, int cap) {
+        return (h & 0x7FFFFFFF) % cap;
+    }
+    
+    /**
+     * Busca la entrada de una clave en el bucket i de un arreglo de buckets,
+     * sea lista o árbol.
      * 
-     * @param key La clave (puede ser null)
-     * @param value El valor
+     * @return La entrada, o null si la clave no está en el bucket
      */
-    public void put(K key, V value) {
-        int index = hash(key);
-        ListaEnlazada<Entry<K, V>> bucket = tabla[index];
-        
-        // Buscar si la clave ya existe usando ListaEnlazada
+    private Entry<K, V> buscarEnBucket(ListaEnlazada<Entry<K, V>>[] buckets,
+                                       ArbolColisiones<K, V>[] arbolesBuckets, int i, int h, K key) {
+        if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+            return arbolesBuckets[i].buscar(h, key);
+        }
+        ListaEnlazada<Entry<K, V>> bucket = buckets[i];
+        if (bucket == null) {
+            return null;
+        }
         Nodo<Entry<K, V>> current = bucket.getHead();
         while (current != null) {
             Entry<K, V> entry = current.getData();
-            if (Objects.equals(entry.getKey(), key)) {
-                entry.setValue(value); // Actualizar valor existente
-                return;
+            if (entry.hash == h && Objects.equals(entry.getKey(), key)) {
+                return entry;
             }
             current = current.getNext();
         }
+        return null;
+    }
+    
+    /**
+     * Busca la entrada de una clave en la tabla actual y, si hay un rehash
+     * en curso, en la tabla vieja.
+     */
+    private Entry<K, V> buscarEntrada(K key, int h, int index) {
+        Entry<K, V> entry = buscarEnBucket(tabla, arboles, index, h, key);
+        if (entry == null && tablaVieja != null) {
+            entry = buscarEnBucket(tablaVieja, arbolesViejos, indice(h, capacidadVieja), h, key);
+        }
+        return entry;
+    }
+    
+    /**
+     * Elimina la entrada de una clave del bucket i. Si el bucket es un árbol
+     * y queda con UMBRAL_LISTA entradas o menos, vuelve a ser lista.
+     * 
+     * @return La entrada eliminada, o null si la clave no estaba
+     */
+    private Entry<K, V> eliminarDeBucket(ListaEnlazada<Entry<K, V>>[] buckets,
+                                         ArbolColisiones<K, V>[] arbolesBuckets, int i, int h, K key) {
+        if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+            ArbolColisiones<K, V> arbol = arbolesBuckets[i];
+            Entry<K, V> entry = arbol.eliminar(h, key);
+            if (entry != null && arbol.size() <= UMBRAL_LISTA) {
+                arbolesBuckets[i] = null;
+                ListaEnlazada<Entry<K, V>> lista = new ListaEnlazada<>();
+                arbol.forEach(lista::insertFirst);
+                buckets[i] = lista;
+            }
+            return entry;
+        }
+        ListaEnlazada<Entry<K, V>> bucket = buckets[i];
+        if (bucket == null) {
+            return null;
+        }
+        Nodo<Entry<K, V>> current = bucket.getHead();
+        int position = 0;
         
-        // Clave nueva, agregar al bucket
-        bucket.insertFirst(new Entry<>(key, value));
+        while (current != null) {
+            Entry<K, V> entry = current.getData();
+            if (entry.hash == h && Objects.equals(entry.getKey(), key)) {
+                // Encontrado, eliminar usando removeAt de ListaEnlazada
+                bucket.removeAt(position);
+                return entry;
+            }
+            current = current.getNext();
+            position++;
+        }
+        return null;
+    }
+    
+    /**
+     * Elimina una clave de la tabla actual o, durante un rehash, de la vieja.
+     * 
+     * @return La entrada eliminada, o null si la clave no estaba
+     */
+    private Entry<K, V> eliminarEntrada(K key, int h) {
+        Entry<K, V> entry = eliminarDeBucket(tabla, arboles, indice(h), h, key);
+        if (entry == null && tablaVieja != null) {
+            entry = eliminarDeBucket(tablaVieja, arbolesViejos, indice(h, capacidadVieja), h, key);
+        }
+        if (entry != null) {
+            size--;
+            modCount++;
+        }
+        return entry;
+    }
+    
+    /**
+     * Obtiene el bucket i de la tabla actual, creándolo si todavía no existe.
+     */
+    private ListaEnlazada<Entry<K, V>> bucketParaInsertar(int i) {
+        if (tabla[i] == null) {
+            tabla[i] = new ListaEnlazada<>();
+        }
+        return tabla[i];
+    }
+    
+    /**
+     * Agrega una entrada al bucket index de la tabla actual. Si la cadena
+     * llega a UMBRAL_ARBOL la convierte en árbol, salvo que la tabla sea
+     * chica: ahí es mejor redimensionar y repartir la cadena.
+     * 
+     * @return true si la cadena quedó larga y conviene redimensionar
+     */
+    private boolean agregarEnBucket(int index, Entry<K, V> entry) {
+        if (arboles != null && arboles[index] != null) {
+            arboles[index].insertar(entry);
+            return false;
+        }
+        ListaEnlazada<Entry<K, V>> bucket = bucketParaInsertar(index);
+        bucket.insertFirst(entry);
+        if (bucket.getSize() < UMBRAL_ARBOL) {
+            return false;
+        }
+        if (capacidad < CAPACIDAD_MINIMA_ARBOL) {
+            return true;
+        }
+        convertirEnArbol(index);
+        return false;
+    }
+    
+    /**
+     * Pasa las entradas de la lista del bucket index a un ArbolColisiones.
+     */
+    @SuppressWarnings("unchecked")
+    private void convertirEnArbol(int index) {
+        if (arboles == null) {
+            arboles = (ArbolColisiones<K, V>[]) new ArbolColisiones<?, ?>[capacidad];
+        }
+        ArbolColisiones<K, V> arbol = new ArbolColisiones<>();
+        Nodo<Entry<K, V>> current = tabla[index].getHead();
+        while (current != null) {
+            arbol.insertar(current.getData());
+            current = current.getNext();
+        }
+        tabla[index].clear();
+        arboles[index] = arbol;
+    }
+    
+    /**
+     * Agrega una clave nueva en el bucket ya calculado y redimensiona si hace falta.
+     */
+    private void insertarNueva(int index, int h, K key, V value) {
+        boolean cadenaLarga = agregarEnBucket(index, new Entry<>(key, value, h));
         size++;
+        modCount++;
         
         // Verificar si necesita redimensionar
-        if (getLoadFactor() > FACTOR_CARGA_MAXIMO) {
+        if (cadenaLarga || getLoadFactor() > FACTOR_CARGA_MAXIMO) {
             resize();
         }
     }
     
+    /**
+     * Contador de modificaciones estructurales del motor en uso.
+     */
+    private int modificaciones() {
+        return sondeo != null ? sondeo.modCount() : modCount;
+    }
+    
+    /**
+     * Inserta o actualiza un par clave-valor en la tabla.
+     * Si la clave ya existe, actualiza el valor.
+     * Soporta claves null.
+     * 
+     * Complejidad: O(1) en promedio, O(n) en el peor caso
+     * 
+     * @param key La clave (puede ser null)
+     * @param value El valor
+     */
+    public void put(K key, V value) {
+        if (sondeo != null) {
+            sondeo.put(key, value);
+            return;
+        }
+        
+        pasoRehash();
+        
+        // Buscar si la clave ya existe
+        int h = hash(key);
+        int index = indice(h);
+        Entry<K, V> existente = buscarEntrada(key, h, index);
+        if (existente != null) {
+            existente.setValue(value); // Actualizar valor existente
+            return;
+        }
+        
+        // Clave nueva, agregar al bucket (siempre en la tabla actual)
+        insertarNueva(index, h, key, value);
+    }
+    
     /**
      * Obtiene el valor asociado a una clave.
      * Soporta claves null.
@@ -174,20 +487,15 @@ public class TablaHash<K, V> {
      * @return El valor asociado, o null si no existe
      */
     public V get(K key) {
-        int index = hash(key);
-        ListaEnlazada<Entry<K, V>> bucket = tabla[index];
-        
-        // Buscar en la lista enlazada
-        Nodo<Entry<K, V>> current = bucket.getHead();
-        while (current != null) {
-            Entry<K, V> entry = current.getData();
-            if (Objects.equals(entry.getKey(), key)) {
-                return entry.getValue();
-            }
-            current = current.getNext();
+        if (sondeo != null) {
+            return sondeo.get(key);
         }
         
-        return null; // Clave no encontrada
+        pasoRehash();
+        
+        int h = hash(key);
+        Entry<K, V> entry = buscarEntrada(key, h, indice(h));
+        return entry != null ? entry.getValue() : null;
     }
     
     /**
@@ -200,26 +508,17 @@ public class TablaHash<K, V> {
      * @return El valor asociado a la clave eliminada, o null si no existía
      */
     public V remove(K key) {
-        int index = hash(key);
-        ListaEnlazada<Entry<K, V>> bucket = tabla[index];
+        if (sondeo != null) {
+            return sondeo.remove(key);
+        }
         
-        // Buscar y eliminar usando ListaEnlazada
-        Nodo<Entry<K, V>> current = bucket.getHead();
-        int position = 0;
+        pasoRehash();
         
-        while (current != null) {
-            Entry<K, V> entry = current.getData();
-            if (Objects.equals(entry.getKey(), key)) {
-                // Encontrado, eliminar usando removeAt de ListaEnlazada
-                bucket.removeAt(position);
-                size--;
-                return entry.getValue();
-            }
-            current = current.getNext();
-            position++;
+        Entry<K, V> entry = eliminarEntrada(key, hash(key));
+        if (entry == null) {
+            return null; // Clave no encontrada
         }
-        
-        return null; // Clave no encontrada
+        return entry.getValue();
     }
     
     /**
@@ -232,19 +531,14 @@ public class TablaHash<K, V> {
      * @return true si la clave existe, false en caso contrario
      */
     public boolean containsKey(K key) {
-        int index = hash(key);
-        ListaEnlazada<Entry<K, V>> bucket = tabla[index];
-        
-        Nodo<Entry<K, V>> current = bucket.getHead();
-        while (current != null) {
-            Entry<K, V> entry = current.getData();
-            if (Objects.equals(entry.getKey(), key)) {
-                return true;
-            }
-            current = current.getNext();
+        if (sondeo != null) {
+            return sondeo.containsKey(key);
         }
         
-        return false;
+        pasoRehash();
+        
+        int h = hash(key);
+        return buscarEntrada(key, h, indice(h)) != null;
     }
     
     /**
@@ -253,7 +547,7 @@ public class TablaHash<K, V> {
      * @return true si no hay elementos, false en caso contrario
      */
     public boolean isEmpty() {
-        return size == 0;
+        return size() == 0;
     }
     
     /**
@@ -262,7 +556,7 @@ public class TablaHash<K, V> {
      * @return El tamaño de la tabla
      */
     public int size() {
-        return size;
+        return sondeo != null ? sondeo.size() : size;
     }
     
     /**
@@ -271,7 +565,7 @@ public class TablaHash<K, V> {
      * @return La capacidad (número de buckets)
      */
     public int getCapacity() {
-        return capacidad;
+        return sondeo != null ? sondeo.capacidad() : capacidad;
     }
     
     /**
@@ -280,95 +574,648 @@ public class TablaHash<K, V> {
      * @return El factor de carga (size / capacidad)
      */
     public double getLoadFactor() {
-        return (double) size / capacidad;
+        return (double) size() / getCapacity();
     }
     
     /**
      * Limpia todos los elementos de la tabla.
      */
     public void clear() {
+        if (sondeo != null) {
+            sondeo.clear();
+            return;
+        }
+        
         for (int i = 0; i < capacidad; i++) {
-            tabla[i].clear();
+            if (tabla[i] != null) {
+                tabla[i].clear();
+            }
         }
+        arboles = null;
+        tablaVieja = null;
+        arbolesViejos = null;
         size = 0;
+        modCount++;
     }
     
     /**
      * Redimensiona la tabla cuando el factor de carga es muy alto.
      * Duplica la capacidad y rehashea todos los elementos.
+     * En modo incremental solo crea la tabla nueva y deja la migración
+     * a pasoRehash().
      */
-    @SuppressWarnings("unchecked")
     private void resize() {
-        int nuevaCapacidad = capacidad * 2;
+        rehashearA(capacidad * 2);
+    }
+    
+    /**
+     * Reubica todas las entradas en una tabla de la capacidad indicada.
+     */
+    @SuppressWarnings("unchecked")
+    private void rehashearA(int nuevaCapacidad) {
         ListaEnlazada<Entry<K, V>>[] nuevaTabla = new ListaEnlazada[nuevaCapacidad];
+        modCount++;
+        
+        if (rehashIncremental) {
+            // Nunca hay dos migraciones a la vez: terminar la anterior
+            completarRehash();
+            tablaVieja = tabla;
+            arbolesViejos = arboles;
+            capacidadVieja = capacidad;
+            indiceMigracion = 0;
+            tabla = nuevaTabla; // buckets creados a demanda
+            arboles = null;
+            capacidad = nuevaCapacidad;
+            return;
+        }
         
         // Inicializar nueva tabla
         for (int i = 0; i < nuevaCapacidad; i++) {
             nuevaTabla[i] = new ListaEnlazada<>();
         }
         
-        // Rehashear todos los elementos
+        // Rehashear todos los elementos; los árboles se rearman solos
+        // si alguna cadena vuelve a superar el umbral
+        ListaEnlazada<Entry<K, V>>[] tablaAnterior = tabla;
+        ArbolColisiones<K, V>[] arbolesAnteriores = arboles;
         int capacidadAnterior = capacidad;
+        tabla = nuevaTabla;
+        arboles = null;
         capacidad = nuevaCapacidad;
         
         for (int i = 0; i < capacidadAnterior; i++) {
-            ListaEnlazada<Entry<K, V>> bucket = tabla[i];
-            
-            // Recorrer cada elemento en el bucket usando Nodo
-            Nodo<Entry<K, V>> current = bucket.getHead();
+            moverBucket(tablaAnterior, arbolesAnteriores, i);
+        }
+    }
+    
+    /**
+     * Avanza un paso del rehash incremental: migra hasta BUCKETS_POR_PASO
+     * buckets no vacíos, visitando como máximo VISITAS_VACIAS_POR_PASO
+     * buckets para acotar el trabajo cuando la tabla vieja es dispersa.
+     * 
+     * Complejidad: O(1) amortizado
+     */
+    private void pasoRehash() {
+        if (tablaVieja == null) {
+            return;
+        }
+        
+        int migrados = 0;
+        int visitados = 0;
+        while (indiceMigracion < capacidadVieja
+               && migrados < BUCKETS_POR_PASO
+               && visitados < VISITAS_VACIAS_POR_PASO) {
+            int i = indiceMigracion++;
+            visitados++;
+            if (tamanioBucket(tablaVieja, arbolesViejos, i) > 0) {
+                moverBucket(tablaVieja, arbolesViejos, i);
+                migrados++;
+            }
+        }
+        
+        if (indiceMigracion >= capacidadVieja) {
+            tablaVieja = null; // Migración terminada
+            arbolesViejos = null;
+        }
+    }
+    
+    /**
+     * Mueve todas las entradas del bucket i de otro arreglo (lista o árbol)
+     * a la tabla actual y lo deja vacío. Usa el hash guardado en cada entrada.
+     */
+    private void moverBucket(ListaEnlazada<Entry<K, V>>[] buckets,
+                             ArbolColisiones<K, V>[] arbolesBuckets, int i) {
+        if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+            arbolesBuckets[i].forEach(entry -> agregarEnBucket(indice(entry.hash), entry));
+            arbolesBuckets[i] = null;
+        }
+        ListaEnlazada<Entry<K, V>> bucket = buckets[i];
+        if (bucket == null) {
+            return;
+        }
+        Nodo<Entry<K, V>> current = bucket.getHead();
+        while (current != null) {
+            Entry<K, V> entry = current.getData();
+            agregarEnBucket(indice(entry.hash), entry);
+            current = current.getNext();
+        }
+        bucket.clear();
+    }
+    
+    /**
+     * Cantidad de entradas del bucket i, sea lista o árbol.
+     */
+    private int tamanioBucket(ListaEnlazada<Entry<K, V>>[] buckets,
+                              ArbolColisiones<K, V>[] arbolesBuckets, int i) {
+        if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+            return arbolesBuckets[i].size();
+        }
+        return buckets[i] != null ? buckets[i].getSize() : 0;
+    }
+    
+    /**
+     * Termina de inmediato un rehash incremental en curso.
+     * Útil antes de un recorrido largo o en un momento sin tráfico.
+     */
+    public void completarRehash() {
+        if (tablaVieja == null) {
+            return;
+        }
+        while (indiceMigracion < capacidadVieja) {
+            moverBucket(tablaVieja, arbolesViejos, indiceMigracion++);
+        }
+        tablaVieja = null;
+        arbolesViejos = null;
+    }
+    
+    /**
+     * Indica si hay un rehash incremental en curso.
+     * 
+     * @return true si todavía quedan buckets por migrar
+     */
+    public boolean isRehashing() {
+        return tablaVieja != null;
+    }
+    
+    /**
+     * Progreso del rehash incremental en curso.
+     * 
+     * @return Fracción de buckets viejos ya migrados (0.0 a 1.0); 1.0 si no hay migración
+     */
+    public double getProgresoRehash() {
+        if (tablaVieja == null) {
+            return 1.0;
+        }
+        return (double) indiceMigracion / capacidadVieja;
+    }
+    
+    /**
+     * Aplica una acción a cada entrada de la tabla, incluidas las que
+     * todavía están en la tabla vieja si hay un rehash en curso.
+     */
+    private void recorrerEntradas(Consumer<Entry<K, V>> accion) {
+        recorrerEntradas(tabla, arboles, 0, capacidad, accion);
+        if (tablaVieja != null) {
+            recorrerEntradas(tablaVieja, arbolesViejos, indiceMigracion, capacidadVieja, accion);
+        }
+    }
+    
+    private void recorrerEntradas(ListaEnlazada<Entry<K, V>>[] buckets, ArbolColisiones<K, V>[] arbolesBuckets,
+                                  int desde, int hasta, Consumer<Entry<K, V>> accion) {
+        for (int i = desde; i < hasta; i++) {
+            if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+                arbolesBuckets[i].forEach(accion);
+                continue;
+            }
+            if (buckets[i] == null) {
+                continue;
+            }
+            Nodo<Entry<K, V>> current = buckets[i].getHead();
             while (current != null) {
-                Entry<K, V> entry = current.getData();
-                
-                // Calcular nuevo índice y agregar
-                int nuevoIndex = hash(entry.getKey());
-                nuevaTabla[nuevoIndex].insertFirst(entry);
-                
+                accion.accept(current.getData());
                 current = current.getNext();
             }
         }
+    }
+    
+    /**
+     * Aplica una acción a cada par clave-valor, recorriendo los buckets en su
+     * lugar (sin listas intermedias). La acción puede actualizar valores pero
+     * no agregar ni quitar claves.
+     * 
+     * Complejidad: O(n + capacidad)
+     * 
+     * @param accion Acción a aplicar sobre (clave, valor)
+     * @throws ConcurrentModificationException si la tabla cambió estructuralmente
+     */
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        int esperado = modificaciones();
+        
+        if (sondeo != null) {
+            sondeo.forEach(accion);
+        } else if (tablaVieja == null) {
+            recorrerEntradas(e -> accion.accept(e.getKey(), e.getValue()));
+        } else {
+            // La acción puede llamar a get() y hacer avanzar la migración:
+            // se recorre por grupos, como los iteradores
+            int grupos = capacidadVieja;
+            List<Entry<K, V>> grupo = new ArrayList<>();
+            for (int j = 0; j < grupos; j++) {
+                recolectarGrupo(j, grupos, grupo);
+                for (Entry<K, V> e : grupo) {
+                    accion.accept(e.getKey(), e.getValue());
+                }
+            }
+        }
         
-        tabla = nuevaTabla;
+        if (modificaciones() != esperado) {
+            throw new ConcurrentModificationException();
+        }
     }
     
     /**
-     * Obtiene una lista de todas las claves en la tabla.
+     * Junta en destino las entradas del grupo j durante un rehash incremental.
      * 
-     * @return Lista con todas las claves
+     * La capacidad nueva es el doble de la vieja, así que las entradas del
+     * bucket viejo j solo pueden terminar en los buckets nuevos j y
+     * j + capacidadVieja. Esos tres buckets forman un grupo: migrar el
+     * bucket viejo mueve entradas dentro de su grupo y nunca a otro. Un
+     * recorrido que copia cada grupo antes de entregarlo ve cada entrada una
+     * sola vez aunque un get() haga avanzar la migración en el medio: los
+     * grupos ya entregados no reciben entradas nuevas y los que faltan se
+     * leen en su estado de ese momento.
      */
-    public List<K> keys() {
-        List<K> claves = new ArrayList<>();
+    private void recolectarGrupo(int j, int capacidadVieja, List<Entry<K, V>> destino) {
+        destino.clear();
+        if (tablaVieja != null) {
+            agregarBucket(tablaVieja, arbolesViejos, j, destino);
+        }
+        agregarBucket(tabla, arboles, j, destino);
+        agregarBucket(tabla, arboles, j + capacidadVieja, destino);
+    }
+    
+    private void agregarBucket(ListaEnlazada<Entry<K, V>>[] buckets, ArbolColisiones<K, V>[] arbolesBuckets,
+                               int i, List<Entry<K, V>> destino) {
+        if (arbolesBuckets != null && arbolesBuckets[i] != null) {
+            arbolesBuckets[i].forEach(destino::add);
+            return;
+        }
+        if (buckets[i] == null) {
+            return;
+        }
+        Nodo<Entry<K, V>> current = buckets[i].getHead();
+        while (current != null) {
+            destino.add(current.getData());
+            current = current.getNext();
+        }
+    }
+    
+    /**
+     * Vista de las claves, recorrida en su lugar (sin copiar).
+     * Sus iteradores son fail-fast y su spliterator se puede dividir
+     * para procesar en paralelo.
+     * 
+     * @return Iterable sobre las claves
+     */
+    public Iterable<K> claves() {
+        return new Vista<>((k, v) -> k, Spliterator.DISTINCT);
+    }
+    
+    /**
+     * Vista de los valores, recorrida en su lugar (sin copiar).
+     * 
+     * @return Iterable sobre los valores
+     */
+    public Iterable<V> valores() {
+        return new Vista<>((k, v) -> v, 0);
+    }
+    
+    /**
+     * Inserta todos los pares de otra tabla. Redimensiona una sola vez al
+     * tamaño final en lugar de crecer de a pasos durante la copia.
+     * 
+     * @param otra Tabla de la cual copiar
+     */
+    public void putAll(TablaHash<? extends K, ? extends V> otra) {
+        if (otra == this || otra.isEmpty()) {
+            return;
+        }
+        asegurarCapacidad(size() + otra.size());
+        otra.forEach(this::put);
+    }
+    
+    /**
+     * Devuelve el valor asociado a la clave; si no existe (o es null) lo
+     * calcula con la función y lo inserta. Busca e inserta con un único
+     * cálculo de hash.
+     * 
+     * @param key La clave (puede ser null)
+     * @param funcion Calcula el valor a partir de la clave; si devuelve null no se inserta nada
+     * @return El valor actual o el recién calculado
+     * @throws ConcurrentModificationException si la función modifica la tabla
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        if (sondeo != null) {
+            return sondeo.computeIfAbsent(key, funcion);
+        }
         
-        for (int i = 0; i < capacidad; i++) {
-            ListaEnlazada<Entry<K, V>> bucket = tabla[i];
+        pasoRehash();
+        
+        int h = hash(key);
+        int index = indice(h);
+        Entry<K, V> existente = buscarEntrada(key, h, index);
+        if (existente != null && existente.getValue() != null) {
+            return existente.getValue();
+        }
+        
+        int esperado = modCount;
+        V nuevo = funcion.apply(key);
+        if (modCount != esperado) {
+            throw new ConcurrentModificationException();
+        }
+        if (nuevo == null) {
+            return null;
+        }
+        
+        if (existente != null) {
+            existente.setValue(nuevo);
+        } else {
+            insertarNueva(index, h, key, nuevo);
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Si la clave no existe (o vale null) le asocia value; si existe, la
+     * reemplaza por funcion(valorActual, value). Si la función devuelve
+     * null, la clave se elimina. Un único cálculo de hash.
+     * 
+     * @param key La clave (puede ser null)
+     * @param value Valor a combinar (no puede ser null)
+     * @param funcion Combina el valor actual con value
+     * @return El nuevo valor asociado, o null si la clave se eliminó
+     * @throws IllegalArgumentException si value es null
+     * @throws ConcurrentModificationException si la función modifica la tabla
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion) {
+        if (value == null) {
+            throw new IllegalArgumentException("El valor a combinar no puede ser null");
+        }
+        if (sondeo != null) {
+            return sondeo.merge(key, value, funcion);
+        }
+        
+        pasoRehash();
+        
+        int h = hash(key);
+        int index = indice(h);
+        Entry<K, V> existente = buscarEntrada(key, h, index);
+        
+        if (existente == null) {
+            insertarNueva(index, h, key, value);
+            return value;
+        }
+        if (existente.getValue() == null) {
+            existente.setValue(value);
+            return value;
+        }
+        
+        int esperado = modCount;
+        V nuevo = funcion.apply(existente.getValue(), value);
+        if (modCount != esperado) {
+            throw new ConcurrentModificationException();
+        }
+        
+        if (nuevo == null) {
+            eliminarEntrada(key, h);
+        } else {
+            existente.setValue(nuevo);
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Agranda la tabla de una vez para que entren n entradas sin superar el
+     * factor de carga. En modo incremental no se fuerza: crece como siempre.
+     */
+    private void asegurarCapacidad(int n) {
+        if (sondeo != null) {
+            sondeo.asegurarCapacidad(n);
+            return;
+        }
+        if (rehashIncremental) {
+            return;
+        }
+        
+        int nuevaCapacidad = capacidad;
+        while (n > nuevaCapacidad * FACTOR_CARGA_MAXIMO) {
+            nuevaCapacidad *= 2;
+        }
+        if (nuevaCapacidad != capacidad) {
+            rehashearA(nuevaCapacidad);
+        }
+    }
+    
+    /**
+     * Iterable que crea recorridos sobre la tabla proyectando cada par
+     * (clave, valor) a lo que se quiera exponer.
+     */
+    private class Vista<T> implements Iterable<T> {
+        private final BiFunction<K, V, T> proyeccion;
+        private final int caracteristicas;
+        
+        Vista(BiFunction<K, V, T> proyeccion, int caracteristicas) {
+            this.proyeccion = proyeccion;
+            this.caracteristicas = caracteristicas;
+        }
+        
+        @Override
+        public Iterator<T> iterator() {
+            return new Recorrido<>(proyeccion, caracteristicas);
+        }
+        
+        @Override
+        public Spliterator<T> spliterator() {
+            return new Recorrido<>(proyeccion, caracteristicas);
+        }
+        
+        @Override
+        public void forEach(Consumer<? super T> accion) {
+            TablaHash.this.forEach((k, v) -> accion.accept(proyeccion.apply(k, v)));
+        }
+    }
+    
+    /**
+     * Cursor sobre un rango [indice, fin) de buckets (o slots, con sondeo
+     * lineal). Recorre las cadenas en su lugar; es a la vez Iterator y
+     * Spliterator. Fail-fast: compara el contador de modificaciones en cada paso.
+     * 
+     * Si al crearse hay un rehash incremental en curso no lo completa: el
+     * rango es de grupos (bucket viejo j y buckets nuevos j y
+     * j + capacidadVieja) y cada grupo se copia a un buffer antes de
+     * entregarlo, así los pasos de migración que ocurran en el medio no
+     * hacen ver una entrada dos veces ni saltearla (ver recolectarGrupo).
+     */
+    private class Recorrido<T> implements Iterator<T>, Spliterator<T> {
+        private final BiFunction<K, V, T> proyeccion;
+        private final int caracteristicas;
+        private final int modEsperado;
+        private int indice;
+        private int fin;
+        private long estimado;
+        private boolean dividido;
+        private Nodo<Entry<K, V>> nodo; // posición dentro de la cadena actual (encadenamiento)
+        private Iterator<Entry<K, V>> enArbol; // posición dentro del bucket actual si es árbol
+        
+        // Con rehash en curso: capacidad vieja (cantidad de grupos) y grupo actual copiado
+        private final int grupos;
+        private List<Entry<K, V>> grupo;
+        private int posicionGrupo;
+        
+        Recorrido(BiFunction<K, V, T> proyeccion, int caracteristicas) {
+            this.proyeccion = proyeccion;
+            this.caracteristicas = caracteristicas;
+            this.modEsperado = modificaciones();
+            this.grupos = sondeo == null && tablaVieja != null ? capacidadVieja : 0;
+            this.indice = 0;
+            this.fin = grupos > 0 ? grupos : getCapacity();
+            this.estimado = size();
+        }
+        
+        private Recorrido(Recorrido<T> padre, int indice, int fin, long estimado) {
+            this.proyeccion = padre.proyeccion;
+            this.caracteristicas = padre.caracteristicas;
+            this.modEsperado = padre.modEsperado;
+            this.grupos = padre.grupos;
+            this.indice = indice;
+            this.fin = fin;
+            this.estimado = estimado;
+            this.dividido = true;
+        }
+        
+        private void verificarModificaciones() {
+            if (modificaciones() != modEsperado) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (sondeo != null) {
+                while (indice < fin && !sondeo.ocupado(indice)) {
+                    indice++;
+                }
+                return indice < fin;
+            }
             
-            Nodo<Entry<K, V>> current = bucket.getHead();
-            while (current != null) {
-                claves.add(current.getData().getKey());
-                current = current.getNext();
+            if (grupos > 0) {
+                while ((grupo == null || posicionGrupo == grupo.size()) && indice < fin) {
+                    if (grupo == null) {
+                        grupo = new ArrayList<>();
+                    }
+                    recolectarGrupo(indice++, grupos, grupo);
+                    posicionGrupo = 0;
+                }
+                return grupo != null && posicionGrupo < grupo.size();
+            }
+            
+            if (enArbol != null && !enArbol.hasNext()) {
+                enArbol = null;
+            }
+            while (nodo == null && enArbol == null && indice < fin) {
+                int i = indice++;
+                if (arboles != null && arboles[i] != null) {
+                    enArbol = arboles[i].iterator();
+                } else if (tabla[i] != null) {
+                    nodo = tabla[i].getHead();
+                }
+            }
+            return nodo != null || enArbol != null;
+        }
+        
+        @Override
+        public T next() {
+            verificarModificaciones();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            
+            if (sondeo != null) {
+                int i = indice++;
+                return proyeccion.apply(sondeo.claveEn(i), sondeo.valorEn(i));
+            }
+            
+            Entry<K, V> entry;
+            if (grupos > 0) {
+                entry = grupo.get(posicionGrupo++);
+            } else if (enArbol != null) {
+                entry = enArbol.next();
+            } else {
+                entry = nodo.getData();
+                nodo = nodo.getNext();
+            }
+            return proyeccion.apply(entry.getKey(), entry.getValue());
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            if (hasNext()) {
+                accion.accept(next());
+                return true;
+            }
+            verificarModificaciones();
+            return false;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super T> accion) {
+            while (hasNext()) {
+                accion.accept(next());
+            }
+            verificarModificaciones();
+        }
+        
+        /**
+         * Divide el rango de buckets pendiente a la mitad. Solo se divide
+         * entre buckets, nunca a mitad de una cadena.
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int medio = (indice + fin) >>> 1;
+            boolean enGrupo = grupo != null && posicionGrupo < grupo.size();
+            if (nodo != null || enArbol != null || enGrupo || medio <= indice) {
+                return null;
+            }
+            estimado >>>= 1;
+            dividido = true;
+            Recorrido<T> primeraMitad = new Recorrido<>(this, indice, medio, estimado);
+            indice = medio;
+            return primeraMitad;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return estimado;
+        }
+        
+        @Override
+        public int characteristics() {
+            // El tamaño es exacto solo mientras no se dividió
+            return caracteristicas | (dividido ? 0 : Spliterator.SIZED);
+        }
+    }
+    
+    /**
+     * Obtiene una lista de todas las claves en la tabla.
+     * Crea una copia; para recorrer sin copiar usar claves() o forEach().
+     * 
+     * @return Lista con todas las claves
+     */
+    public List<K> keys() {
+        if (sondeo != null) {
+            return sondeo.keys();
         }
         
+        List<K> claves = new ArrayList<>();
+        recorrerEntradas(e -> claves.add(e.getKey()));
+        
         return claves;
     }
     
     /**
      * Obtiene una lista de todos los valores en la tabla.
+     * Crea una copia; para recorrer sin copiar usar valores() o forEach().
      * 
      * @return Lista con todos los valores
      */
     public List<V> values() {
-        List<V> valores = new ArrayList<>();
-        
-        for (int i = 0; i < capacidad; i++) {
-            ListaEnlazada<Entry<K, V>> bucket = tabla[i];
-            
-            Nodo<Entry<K, V>> current = bucket.getHead();
-            while (current != null) {
-                valores.add(current.getData().getValue());
-                current = current.getNext();
-            }
+        if (sondeo != null) {
+            return sondeo.values();
         }
         
+        List<V> valores = new ArrayList<>();
+        recorrerEntradas(e -> valores.add(e.getValue()));
+        
         return valores;
     }
     
@@ -378,18 +1225,13 @@ public class TablaHash<K, V> {
      * @return Lista con todas las entradas
      */
     public List<String> entries() {
-        List<String> entradas = new ArrayList<>();
-        
-        for (int i = 0; i < capacidad; i++) {
-            ListaEnlazada<Entry<K, V>> bucket = tabla[i];
-            
-            Nodo<Entry<K, V>> current = bucket.getHead();
-            while (current != null) {
-                entradas.add(current.getData().toString());
-                current = current.getNext();
-            }
+        if (sondeo != null) {
+            return sondeo.entries();
         }
         
+        List<String> entradas = new ArrayList<>();
+        recorrerEntradas(e -> entradas.add(e.toString()));
+        
         return entradas;
     }
     
@@ -402,50 +1244,36 @@ public class TablaHash<K, V> {
         System.out.println("║                  ESTRUCTURA INTERNA - TABLA HASH                           ║");
         System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
         System.out.printf("║ Capacidad: %-10d   Elementos: %-10d   Load Factor: %.2f         ║%n", 
-                         capacidad, size, getLoadFactor());
+                         getCapacity(), size(), getLoadFactor());
+        if (isRehashing()) {
+            System.out.printf("║ Rehash incremental en curso: %5.1f%% migrado (%d buckets viejos pendientes)   ║%n",
+                             getProgresoRehash() * 100, capacidadVieja - indiceMigracion);
+        }
         System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
         
         int bucketsShown = 0;
         final int MAX_BUCKETS = 10;
         
-        for (int i = 0; i < capacidad && bucketsShown < MAX_BUCKETS; i++) {
-            ListaEnlazada<Entry<K, V>> bucket = tabla[i];
+        for (int i = 0; i < getCapacity() && bucketsShown < MAX_BUCKETS; i++) {
+            String lineStr = describirBucket(i);
+            if (lineStr == null) {
+                continue;
+            }
             
-            if (!bucket.isEmpty()) {
-                System.out.printf("║ [%3d] -> ", i);
-                
-                Nodo<Entry<K, V>> current = bucket.getHead();
-                boolean first = true;
-                StringBuilder line = new StringBuilder();
-                while (current != null) {
-                    if (!first) {
-                        line.append(" -> ");
-                    }
-                    line.append(current.getData().toString());
-                    current = current.getNext();
-                    first = false;
-                }
-                
-                // Imprimir la línea, truncarla si es muy larga
-                String lineStr = line.toString();
-                if (lineStr.length() > 65) {
-                    System.out.println(lineStr.substring(0, 62) + "...║");
-                } else {
-                    System.out.printf("%-65s║%n", lineStr);
-                }
-                
-                bucketsShown++;
+            System.out.printf("║ [%3d] -> ", i);
+            
+            // Imprimir la línea, truncarla si es muy larga
+            if (lineStr.length() > 65) {
+                System.out.println(lineStr.substring(0, 62) + "...║");
+            } else {
+                System.out.printf("%-65s║%n", lineStr);
             }
+            
+            bucketsShown++;
         }
         
         // Contar buckets no mostrados
-        int bucketsNoMostrados = 0;
-        for (int i = 0; i < capacidad; i++) {
-            if (!tabla[i].isEmpty()) {
-                bucketsNoMostrados++;
-            }
-        }
-        bucketsNoMostrados -= bucketsShown;
+        int bucketsNoMostrados = getCollisionStats()[0] - bucketsShown;
         
         if (bucketsNoMostrados > 0) {
             System.out.printf("║ ... (%d buckets adicionales no mostrados)                                  ║%n", bucketsNoMostrados);
@@ -454,18 +1282,63 @@ public class TablaHash<K, V> {
         System.out.println("╚════════════════════════════════════════════════════════════════════════════╝");
     }
     
+    /**
+     * Representación de una posición de la tabla para display().
+     * 
+     * @param i Índice del bucket o slot
+     * @return Contenido formateado, o null si la posición está vacía
+     */
+    private String describirBucket(int i) {
+        if (sondeo != null) {
+            return sondeo.describirSlot(i);
+        }
+        
+        if (arboles != null && arboles[i] != null) {
+            StringBuilder line = new StringBuilder("[árbol " + arboles[i].size() + "]");
+            arboles[i].forEach(e -> line.append(' ').append(e));
+            return line.toString();
+        }
+        
+        ListaEnlazada<Entry<K, V>> bucket = tabla[i];
+        if (bucket == null || bucket.isEmpty()) {
+            return null;
+        }
+        
+        StringBuilder line = new StringBuilder();
+        Nodo<Entry<K, V>> current = bucket.getHead();
+        while (current != null) {
+            if (line.length() > 0) {
+                line.append(" -> ");
+            }
+            line.append(current.getData().toString());
+            current = current.getNext();
+        }
+        return line.toString();
+    }
+    
     /**
      * Obtiene estadísticas de colisiones en la tabla.
+     * Un bucket convertido en árbol cuenta como una cadena de su tamaño.
+     * Con SONDEO_LINEAL: [slotsUsados, maxLongitudSondeo, entradasDesplazadas].
      * 
      * @return Array con [bucketsUsados, maxLongitudCadena, colisionesTotales]
      */
     public int[] getCollisionStats() {
+        if (sondeo != null) {
+            return sondeo.getCollisionStats();
+        }
+        
         int bucketsUsados = 0;
         int maxLongitudCadena = 0;
         int colisionesTotales = 0;
         
-        for (int i = 0; i < capacidad; i++) {
-            int bucketSize = tabla[i].getSize();
+        // Durante un rehash incremental también cuentan los buckets viejos pendientes
+        int total = capacidad + (tablaVieja != null ? capacidadVieja - indiceMigracion : 0);
+        
+        for (int i = 0; i < total; i++) {
+            int bucketSize = (i < capacidad)
+                ? tamanioBucket(tabla, arboles, i)
+                : tamanioBucket(tablaVieja, arbolesViejos, indiceMigracion + (i - capacidad));
             
             if (bucketSize > 0) {
                 bucketsUsados++;
@@ -483,10 +1356,10 @@ public class TablaHash<K, V> {
     @Override
     public String toString() {
         if (isEmpty()) {
-            return "TablaHash vacía (capacidad: " + capacidad + ")";
+            return "TablaHash vacía (capacidad: " + getCapacity() + ")";
         }
         
         return String.format("TablaHash [size=%d, capacidad=%d, factor=%.2f]", 
-                           size, capacidad, getLoadFactor());
+                           size(), getCapacity(), getLoadFactor());
     }
 }
@@ -0,0 +1,412 @@
+package core.estructuras.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tabla Hash segura para hilos con lecturas sin bloqueo y escrituras por segmentos.
+ *
+ * La tabla se divide en segmentos (lock striping). Cada segmento es una tabla
+ * con encadenamiento independiente, protegida por su propio lock para escribir:
+ * - get/containsKey: no toman ningún lock. Recorren cadenas cuyos enlaces
+ *   son volatile, por lo que siempre ven nodos completamente construidos.
+ * - put/remove: bloquean solo el segmento de la clave. Escrituras sobre
+ *   claves de segmentos distintos no compiten entre sí.
+ * - Redimensionamiento: cada segmento crece por separado y en paralelo con
+ *   el resto. Copia sus nodos a un arreglo nuevo y lo publica con una
+ *   escritura volatile; los lectores que estaban en el arreglo viejo lo
+ *   detectan al terminar y reintentan sobre el nuevo.
+ *
+ * Todas las operaciones por clave son linealizables. keys(), values() y
+ * size() son débilmente consistentes: reflejan el estado de cada segmento en
+ * algún momento durante la llamada.
+ *
+ * Soporta claves y valores null, igual que TablaHash.
+ *
+ * Complejidad temporal (promedio):
+ * - Insertar: O(1)
+ * - Buscar: O(1), sin bloqueo
+ * - Eliminar: O(1)
+ *
+ * @param <K> Tipo de la clave
+ * @param <V> Tipo del valor
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TablaHashConcurrente<K, V> {
+
+    /** Marcador que representa la clave null dentro de los nodos */
+    private static final Object CLAVE_NULL = new Object();
+
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final int SEGMENTOS_POR_DEFECTO = 16;
+    private static final double FACTOR_CARGA_MAXIMO = 0.75;
+
+    /**
+     * Nodo de una cadena. clave y hash son inmutables; valor y siguiente son
+     * volatile para que los lectores sin lock vean las escrituras completas.
+     */
+    private static final class NodoHash {
+        final Object clave;
+        final int hash;
+        volatile Object valor;
+        volatile NodoHash siguiente;
+
+        NodoHash(Object clave, int hash, Object valor, NodoHash siguiente) {
+            this.clave = clave;
+            this.hash = hash;
+            this.valor = valor;
+            this.siguiente = siguiente;
+        }
+
+        boolean coincide(Object otraClave, int otroHash) {
+            return hash == otroHash && (clave == otraClave || clave.equals(otraClave));
+        }
+    }
+
+    /**
+     * Segmento: una tabla con encadenamiento y su propio lock de escritura.
+     */
+    private static final class Segmento {
+        final ReentrantLock lock = new ReentrantLock();
+        volatile AtomicReferenceArray<NodoHash> buckets;
+        volatile int cantidad;
+
+        Segmento(int capacidad) {
+            this.buckets = new AtomicReferenceArray<>(capacidad);
+        }
+
+        /**
+         * Busca sin bloquear. Si el arreglo fue reemplazado por un resize
+         * durante la búsqueda, reintenta sobre el nuevo.
+         */
+        NodoHash buscar(Object clave, int hash) {
+            while (true) {
+                AtomicReferenceArray<NodoHash> actual = buckets;
+                NodoHash nodo = actual.get(hash & (actual.length() - 1));
+                while (nodo != null && !nodo.coincide(clave, hash)) {
+                    nodo = nodo.siguiente;
+                }
+                if (actual == buckets) {
+                    return nodo;
+                }
+            }
+        }
+
+        /** Debe llamarse con el lock tomado */
+        Object put(Object clave, int hash, Object valor) {
+            AtomicReferenceArray<NodoHash> actual = buckets;
+            int i = hash & (actual.length() - 1);
+            NodoHash cabeza = actual.get(i);
+
+            for (NodoHash nodo = cabeza; nodo != null; nodo = nodo.siguiente) {
+                if (nodo.coincide(clave, hash)) {
+                    Object anterior = nodo.valor;
+                    nodo.valor = valor;
+                    return anterior;
+                }
+            }
+
+            // El nodo se construye completo antes de publicarlo en el bucket
+            actual.set(i, new NodoHash(clave, hash, valor, cabeza));
+            cantidad = cantidad + 1;
+
+            if (cantidad > actual.length() * FACTOR_CARGA_MAXIMO) {
+                redimensionar();
+            }
+            return null;
+        }
+
+        /**
+         * Debe llamarse con el lock tomado.
+         *
+         * @return el nodo eliminado, o null si la clave no estaba
+         */
+        NodoHash remove(Object clave, int hash) {
+            AtomicReferenceArray<NodoHash> actual = buckets;
+            int i = hash & (actual.length() - 1);
+
+            NodoHash previo = null;
+            NodoHash nodo = actual.get(i);
+            while (nodo != null && !nodo.coincide(clave, hash)) {
+                previo = nodo;
+                nodo = nodo.siguiente;
+            }
+            if (nodo == null) {
+                return null;
+            }
+
+            // Un lector parado sobre el nodo eliminado puede terminar su
+            // recorrido: el nodo conserva su enlace al resto de la cadena
+            if (previo == null) {
+                actual.set(i, nodo.siguiente);
+            } else {
+                previo.siguiente = nodo.siguiente;
+            }
+            cantidad = cantidad - 1;
+            return nodo;
+        }
+
+        /**
+         * Duplica la capacidad del segmento. Copia los nodos en lugar de
+         * re-enlazarlos para no alterar las cadenas que los lectores
+         * pueden estar recorriendo en el arreglo viejo.
+         */
+        private void redimensionar() {
+            AtomicReferenceArray<NodoHash> viejo = buckets;
+            AtomicReferenceArray<NodoHash> nuevo = new AtomicReferenceArray<>(viejo.length() * 2);
+            int mascara = nuevo.length() - 1;
+
+            for (int i = 0; i < viejo.length(); i++) {
+                for (NodoHash nodo = viejo.get(i); nodo != null; nodo = nodo.siguiente) {
+                    int j = nodo.hash & mascara;
+                    nuevo.set(j, new NodoHash(nodo.clave, nodo.hash, nodo.valor, nuevo.get(j)));
+                }
+            }
+
+            buckets = nuevo; // Publicación: escritura volatile
+        }
+
+        /** Debe llamarse con el lock tomado */
+        void clear() {
+            buckets = new AtomicReferenceArray<>(buckets.length());
+            cantidad = 0;
+        }
+    }
+
+    private final Segmento[] segmentos;
+    private final int desplazamientoSegmento;
+
+    /**
+     * Constructor por defecto: 16 segmentos con capacidad total inicial de 16.
+     */
+    public TablaHashConcurrente() {
+        this(CAPACIDAD_INICIAL, SEGMENTOS_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor con capacidad total inicial y 16 segmentos.
+     *
+     * @param capacidadInicial La capacidad inicial total de la tabla
+     */
+    public TablaHashConcurrente(int capacidadInicial) {
+        this(capacidadInicial, SEGMENTOS_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor completo.
+     *
+     * @param capacidadInicial La capacidad inicial total de la tabla
+     * @param nivelConcurrencia Cantidad estimada de hilos escritores simultáneos;
+     *        se redondea a potencia de 2 y define la cantidad de segmentos
+     * @throws IllegalArgumentException si algún parámetro no es positivo
+     */
+    public TablaHashConcurrente(int capacidadInicial, int nivelConcurrencia) {
+        if (capacidadInicial <= 0 || nivelConcurrencia <= 0) {
+            throw new IllegalArgumentException("Capacidad y nivel de concurrencia deben ser positivos");
+        }
+
+        int cantidadSegmentos = potenciaDeDos(Math.min(nivelConcurrencia, 1 << 16));
+        int capacidadSegmento = potenciaDeDos((capacidadInicial + cantidadSegmentos - 1) / cantidadSegmentos);
+
+        this.segmentos = new Segmento[cantidadSegmentos];
+        this.desplazamientoSegmento = 32 - Integer.numberOfTrailingZeros(cantidadSegmentos);
+
+        for (int i = 0; i < cantidadSegmentos; i++) {
+            segmentos[i] = new Segmento(capacidadSegmento);
+        }
+    }
+
+    private static int potenciaDeDos(int n) {
+        int cap = 1;
+        while (cap < n) {
+            cap <<= 1;
+        }
+        return Math.max(cap, 2);
+    }
+
+    /**
+     * Mezcla los bits del hashCode. Los bits bajos eligen el bucket y los
+     * altos el segmento, así ambas elecciones son independientes.
+     */
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        h *= 0x85EBCA6B;
+        h ^= (h >>> 13);
+        return h;
+    }
+
+    private static Object enmascarar(Object key) {
+        return key == null ? CLAVE_NULL : key;
+    }
+
+    private Segmento segmentoPara(int hash) {
+        return segmentos[(hash >>> desplazamientoSegmento) & (segmentos.length - 1)];
+    }
+
+    /**
+     * Inserta o actualiza un par clave-valor.
+     * Solo bloquea el segmento de la clave.
+     *
+     * @param key La clave (puede ser null)
+     * @param value El valor
+     * @return El valor anterior, o null si la clave era nueva
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int h = hash(key);
+        Segmento segmento = segmentoPara(h);
+        segmento.lock.lock();
+        try {
+            return (V) segmento.put(enmascarar(key), h, value);
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave, sin bloquear.
+     *
+     * @param key La clave a buscar (puede ser null)
+     * @return El valor asociado, o null si no existe
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int h = hash(key);
+        NodoHash nodo = segmentoPara(h).buscar(enmascarar(key), h);
+        return nodo != null ? (V) nodo.valor : null;
+    }
+
+    /**
+     * Verifica si la tabla contiene una clave, sin bloquear.
+     *
+     * @param key La clave a verificar (puede ser null)
+     * @return true si la clave existe
+     */
+    public boolean containsKey(K key) {
+        int h = hash(key);
+        return segmentoPara(h).buscar(enmascarar(key), h) != null;
+    }
+
+    /**
+     * Elimina un par clave-valor. Solo bloquea el segmento de la clave.
+     *
+     * @param key La clave a eliminar (puede ser null)
+     * @return El valor eliminado, o null si no existía
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int h = hash(key);
+        Segmento segmento = segmentoPara(h);
+        segmento.lock.lock();
+        try {
+            NodoHash nodo = segmento.remove(enmascarar(key), h);
+            return nodo != null ? (V) nodo.valor : null;
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    /**
+     * Cantidad de pares clave-valor (débilmente consistente).
+     *
+     * @return El tamaño de la tabla
+     */
+    public int size() {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            total += segmento.cantidad;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Capacidad total (suma de buckets de todos los segmentos).
+     */
+    public int getCapacity() {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            total += segmento.buckets.length();
+        }
+        return total;
+    }
+
+    public double getLoadFactor() {
+        return (double) size() / getCapacity();
+    }
+
+    /**
+     * Cantidad de segmentos (locks independientes) de la tabla.
+     */
+    public int getCantidadSegmentos() {
+        return segmentos.length;
+    }
+
+    /**
+     * Limpia la tabla, segmento por segmento.
+     */
+    public void clear() {
+        for (Segmento segmento : segmentos) {
+            segmento.lock.lock();
+            try {
+                segmento.clear();
+            } finally {
+                segmento.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Obtiene las claves presentes (débilmente consistente, sin bloquear).
+     *
+     * @return Lista con las claves
+     */
+    @SuppressWarnings("unchecked")
+    public List<K> keys() {
+        List<K> claves = new ArrayList<>();
+        for (Segmento segmento : segmentos) {
+            AtomicReferenceArray<NodoHash> buckets = segmento.buckets;
+            for (int i = 0; i < buckets.length(); i++) {
+                for (NodoHash nodo = buckets.get(i); nodo != null; nodo = nodo.siguiente) {
+                    claves.add(nodo.clave == CLAVE_NULL ? null : (K) nodo.clave);
+                }
+            }
+        }
+        return claves;
+    }
+
+    /**
+     * Obtiene los valores presentes (débilmente consistente, sin bloquear).
+     *
+     * @return Lista con los valores
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        List<V> valores = new ArrayList<>();
+        for (Segmento segmento : segmentos) {
+            AtomicReferenceArray<NodoHash> buckets = segmento.buckets;
+            for (int i = 0; i < buckets.length(); i++) {
+                for (NodoHash nodo = buckets.get(i); nodo != null; nodo = nodo.siguiente) {
+                    valores.add((V) nodo.valor);
+                }
+            }
+        }
+        return valores;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TablaHashConcurrente [size=%d, capacidad=%d, segmentos=%d]",
+                           size(), getCapacity(), segmentos.length);
+    }
+}
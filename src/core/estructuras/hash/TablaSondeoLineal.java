@@ -0,0 +1,439 @@
+package core.estructuras.hash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Motor de almacenamiento por direccionamiento abierto con sondeo lineal.
+ *
+ * Usado por TablaHash cuando se elige Estrategia.SONDEO_LINEAL. En lugar de
+ * un bucket con ListaEnlazada + Nodo + Entry por cada clave, guarda todo en
+ * tres arreglos paralelos:
+ * - claves[i]  : la clave (o CLAVE_NULL para representar la clave null)
+ * - valores[i] : el valor asociado
+ * - hashes[i]  : el hash ya mezclado, para descartar candidatos sin llamar a equals
+ *
+ * Un slot vacío se reconoce por claves[i] == null. La eliminación usa
+ * "backward shift" (corrimiento hacia atrás) en vez de lápidas, por lo que
+ * las secuencias de sondeo nunca se degradan tras muchos remove.
+ *
+ * Memoria por entrada: ~12 bytes / factor de carga, contra ~70 bytes
+ * (Nodo + Entry + bucket) del encadenamiento.
+ *
+ * @param <K> Tipo de la clave
+ * @param <V> Tipo del valor
+ * @author JhelixT
+ * @version 1.0
+ */
+final class TablaSondeoLineal<K, V> {
+
+    /** Marcador que ocupa el lugar de la clave null (null significa slot vacío) */
+    private static final Object CLAVE_NULL = new Object();
+
+    private final double factorCargaMaximo;
+
+    private Object[] claves;
+    private Object[] valores;
+    private int[] hashes;
+    private int mascara;    // capacidad - 1 (capacidad siempre potencia de 2)
+    private int size;
+    private int modCount;   // modificaciones estructurales, para iteradores fail-fast
+
+    TablaSondeoLineal(int capacidadInicial, double factorCargaMaximo) {
+        this.factorCargaMaximo = factorCargaMaximo;
+        inicializar(potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Redondea hacia arriba a la siguiente potencia de 2 (mínimo 2),
+     * para poder calcular el índice con AND en vez de módulo.
+     */
+    private static int potenciaDeDos(int n) {
+        int cap = 2;
+        while (cap < n && cap < (1 << 30)) {
+            cap <<= 1;
+        }
+        return cap;
+    }
+
+    private void inicializar(int capacidad) {
+        this.claves = new Object[capacidad];
+        this.valores = new Object[capacidad];
+        this.hashes = new int[capacidad];
+        this.mascara = capacidad - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Mezcla los bits altos del hashCode con los bajos. Necesario porque
+     * el índice se toma de los bits bajos (hash & mascara).
+     */
+    private static int mezclar(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Object enmascarar(Object key) {
+        return key == null ? CLAVE_NULL : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K desenmascarar(Object key) {
+        return key == CLAVE_NULL ? null : (K) key;
+    }
+
+    /**
+     * Busca el slot que contiene la clave.
+     *
+     * @return índice del slot, o -1 si la clave no está
+     */
+    private int buscarSlot(Object clave, int h) {
+        int i = h & mascara;
+        Object actual;
+        while ((actual = claves[i]) != null) {
+            if (hashes[i] == h && (actual == clave || actual.equals(clave))) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta o actualiza.
+     *
+     * @return true si la clave era nueva
+     */
+    boolean put(K key, V value) {
+        Object clave = enmascarar(key);
+        int h = mezclar(key);
+        int i = buscarSlotOInsercion(clave, h);
+        if (i >= 0) {
+            valores[i] = value;
+            return false;
+        }
+
+        insertarEn(~i, clave, h, value);
+        return true;
+    }
+
+    /**
+     * Un solo sondeo que sirve tanto para buscar como para insertar.
+     *
+     * @return índice del slot si la clave está, o ~índice del primer slot
+     *         vacío de la secuencia (siempre negativo) si no está
+     */
+    private int buscarSlotOInsercion(Object clave, int h) {
+        int i = h & mascara;
+        Object actual;
+        while ((actual = claves[i]) != null) {
+            if (hashes[i] == h && (actual == clave || actual.equals(clave))) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return ~i;
+    }
+
+    /**
+     * Ocupa un slot vacío obtenido de buscarSlotOInsercion y redimensiona si hace falta.
+     */
+    private void insertarEn(int i, Object clave, int h, Object value) {
+        claves[i] = clave;
+        valores[i] = value;
+        hashes[i] = h;
+        size++;
+        modCount++;
+
+        if (size > (mascara + 1) * factorCargaMaximo) {
+            resize();
+        }
+    }
+
+    /**
+     * Devuelve el valor de la clave; si no está (o vale null) lo calcula e
+     * inserta usando el slot encontrado en el mismo sondeo.
+     */
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        Object clave = enmascarar(key);
+        int h = mezclar(key);
+        int i = buscarSlotOInsercion(clave, h);
+        if (i >= 0 && valores[i] != null) {
+            return (V) valores[i];
+        }
+
+        int esperado = modCount;
+        V nuevo = funcion.apply(key);
+        if (modCount != esperado) {
+            throw new ConcurrentModificationException();
+        }
+        if (nuevo == null) {
+            return null;
+        }
+
+        if (i >= 0) {
+            valores[i] = nuevo;
+        } else {
+            insertarEn(~i, clave, h, nuevo);
+        }
+        return nuevo;
+    }
+
+    /**
+     * Combina el valor existente con el dado; si la función devuelve null
+     * elimina la clave. Un único sondeo para localizar el slot.
+     */
+    @SuppressWarnings("unchecked")
+    V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion) {
+        Object clave = enmascarar(key);
+        int h = mezclar(key);
+        int i = buscarSlotOInsercion(clave, h);
+        if (i < 0) {
+            insertarEn(~i, clave, h, value);
+            return value;
+        }
+        if (valores[i] == null) {
+            valores[i] = value;
+            return value;
+        }
+
+        int esperado = modCount;
+        V nuevo = funcion.apply((V) valores[i], value);
+        if (modCount != esperado) {
+            throw new ConcurrentModificationException();
+        }
+        if (nuevo == null) {
+            eliminarSlot(i);
+        } else {
+            valores[i] = nuevo;
+        }
+        return nuevo;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        int i = buscarSlot(enmascarar(key), mezclar(key));
+        return i < 0 ? null : (V) valores[i];
+    }
+
+    boolean containsKey(K key) {
+        return buscarSlot(enmascarar(key), mezclar(key)) >= 0;
+    }
+
+    /**
+     * Elimina la clave y corre hacia atrás las entradas siguientes del
+     * mismo cluster que quedarían inalcanzables.
+     *
+     * @return el valor eliminado, o null si no existía
+     */
+    @SuppressWarnings("unchecked")
+    V remove(K key) {
+        int i = buscarSlot(enmascarar(key), mezclar(key));
+        if (i < 0) {
+            return null;
+        }
+
+        V anterior = (V) valores[i];
+        eliminarSlot(i);
+        return anterior;
+    }
+
+    /**
+     * Vacía el slot i manteniendo alcanzables las entradas que lo siguen.
+     */
+    private void eliminarSlot(int i) {
+        // Backward shift: mover al hueco toda entrada cuyo slot ideal
+        // no esté (cíclicamente) entre el hueco y su posición actual
+        int hueco = i;
+        int j = (i + 1) & mascara;
+        while (claves[j] != null) {
+            int ideal = hashes[j] & mascara;
+            boolean puedeMoverse = (hueco <= j)
+                ? (ideal <= hueco || ideal > j)
+                : (ideal <= hueco && ideal > j);
+            if (puedeMoverse) {
+                claves[hueco] = claves[j];
+                valores[hueco] = valores[j];
+                hashes[hueco] = hashes[j];
+                hueco = j;
+            }
+            j = (j + 1) & mascara;
+        }
+
+        claves[hueco] = null;
+        valores[hueco] = null;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Duplica la capacidad y reubica todas las entradas.
+     */
+    private void resize() {
+        rehashearA(claves.length * 2);
+    }
+
+    /**
+     * Agranda la tabla de una sola vez para que entren n entradas sin
+     * superar el factor de carga (evita varios resize en cargas masivas).
+     */
+    void asegurarCapacidad(int n) {
+        int nuevaCapacidad = claves.length;
+        while (n > nuevaCapacidad * factorCargaMaximo && nuevaCapacidad < (1 << 30)) {
+            nuevaCapacidad <<= 1;
+        }
+        if (nuevaCapacidad != claves.length) {
+            rehashearA(nuevaCapacidad);
+        }
+    }
+
+    private void rehashearA(int nuevaCapacidad) {
+        Object[] clavesViejas = claves;
+        Object[] valoresViejos = valores;
+        int[] hashesViejos = hashes;
+
+        inicializar(nuevaCapacidad);
+        modCount++;
+
+        for (int k = 0; k < clavesViejas.length; k++) {
+            if (clavesViejas[k] != null) {
+                int i = hashesViejos[k] & mascara;
+                while (claves[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesViejas[k];
+                valores[i] = valoresViejos[k];
+                hashes[i] = hashesViejos[k];
+                size++;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(claves, null);
+        Arrays.fill(valores, null);
+        size = 0;
+        modCount++;
+    }
+
+    int modCount() {
+        return modCount;
+    }
+
+    // Acceso por slot para los recorridos de TablaHash (sin copiar)
+
+    boolean ocupado(int i) {
+        return claves[i] != null;
+    }
+
+    K claveEn(int i) {
+        return desenmascarar(claves[i]);
+    }
+
+    @SuppressWarnings("unchecked")
+    V valorEn(int i) {
+        return (V) valores[i];
+    }
+
+    /**
+     * Aplica la acción a cada par recorriendo los arreglos en su lugar.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<? super K, ? super V> accion) {
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                accion.accept(desenmascarar(claves[i]), (V) valores[i]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacidad() {
+        return mascara + 1;
+    }
+
+    List<K> keys() {
+        List<K> resultado = new ArrayList<>(size);
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                resultado.add(desenmascarar(claves[i]));
+            }
+        }
+        return resultado;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<V> values() {
+        List<V> resultado = new ArrayList<>(size);
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                resultado.add((V) valores[i]);
+            }
+        }
+        return resultado;
+    }
+
+    List<String> entries() {
+        List<String> resultado = new ArrayList<>(size);
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                resultado.add(desenmascarar(claves[i]) + "=" + valores[i]);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Representación de un slot para display(), o null si está vacío.
+     * Muestra la distancia al slot ideal cuando la entrada fue desplazada.
+     */
+    String describirSlot(int i) {
+        if (claves[i] == null) {
+            return null;
+        }
+        String texto = desenmascarar(claves[i]) + "=" + valores[i];
+        int distancia = distancia(i);
+        return distancia == 0 ? texto : texto + " (+" + distancia + ")";
+    }
+
+    /** Cantidad de posiciones que la entrada del slot i está corrida de su slot ideal */
+    private int distancia(int i) {
+        return (i - (hashes[i] & mascara)) & mascara;
+    }
+
+    /**
+     * Estadísticas equivalentes a las del encadenamiento.
+     *
+     * @return [slotsUsados, maxLongitudSondeo, entradasDesplazadas]
+     */
+    int[] getCollisionStats() {
+        int usados = 0;
+        int maxSondeo = 0;
+        int desplazadas = 0;
+
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                usados++;
+                int d = distancia(i);
+                maxSondeo = Math.max(maxSondeo, d + 1);
+                if (d > 0) {
+                    desplazadas++;
+                }
+            }
+        }
+
+        return new int[]{usados, maxSondeo, desplazadas};
+    }
+}
@@ -0,0 +1,228 @@
+package core.estructuras.hash;
+
+/**
+ * Mediciones de rendimiento de TablaHash.
+ *
+ * Compara las estrategias ENCADENAMIENTO y SONDEO_LINEAL con claves tipo DNI:
+ * tiempo de inserción, tiempo de búsqueda (aciertos y fallos) y memoria
+ * aproximada retenida por la tabla. También mide la pausa máxima de un
+ * put con rehash completo frente al rehash incremental, y el costo de
+ * recorrer con copias (values()) frente a los recorridos en su lugar.
+ * Por último mide claves adversarias: todas con el mismo hashCode
+ * (combinaciones de "Aa" y "BB") y enteros que coinciden módulo la capacidad.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoTablaHash {
+
+    private static final int REPETICIONES_BUSQUEDA = 3;
+    private static final int REPETICIONES_RECORRIDO = 5;
+
+    public static void compararEstrategias() {
+        int[] tamanios = {10_000, 100_000, 1_000_000};
+
+        System.out.println("=== TABLA HASH: ENCADENAMIENTO vs SONDEO LINEAL ===");
+
+        for (int n : tamanios) {
+            String[] dnis = generarDnis(n);
+            System.out.println("\n--- " + n + " claves ---");
+
+            for (TablaHash.Estrategia estrategia : TablaHash.Estrategia.values()) {
+                medir(estrategia, dnis);
+            }
+        }
+
+        System.out.println("\n=== FIN DEL ANÁLISIS ===");
+    }
+
+    /**
+     * Mide la peor latencia individual de put() mientras la tabla crece.
+     * Con el GC por defecto las pausas de recolección se suman a la medición;
+     * para aislar el costo del rehash conviene correr con un GC de baja pausa
+     * o con -XX:+UseEpsilonGC y heap grande.
+     */
+    public static void compararRehash() {
+        int n = 2_000_000;
+        String[] dnis = generarDnis(n);
+
+        System.out.println("=== PAUSA MÁXIMA DE put(): REHASH COMPLETO vs INCREMENTAL ===");
+
+        for (boolean incremental : new boolean[]{false, true}) {
+            TablaHash<String, Integer> tabla =
+                new TablaHash<>(16, TablaHash.Estrategia.ENCADENAMIENTO, incremental);
+
+            long peor = 0;
+            long inicioTotal = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                long inicio = System.nanoTime();
+                tabla.put(dnis[i], i);
+                peor = Math.max(peor, System.nanoTime() - inicio);
+            }
+            long total = System.nanoTime() - inicioTotal;
+
+            System.out.printf("%-12s total: %8.2f ms | peor put: %8.3f ms%n",
+                    incremental ? "Incremental" : "Completo",
+                    total / 1_000_000.0, peor / 1_000_000.0);
+        }
+    }
+
+    public static void compararRecorridos() {
+        int n = 1_000_000;
+        String[] dnis = generarDnis(n);
+
+        System.out.println("=== RECORRIDOS: COPIA (values) vs EN SU LUGAR (valores/forEach) ===");
+        System.out.println("(mejor de " + REPETICIONES_RECORRIDO + " corridas)");
+
+        for (TablaHash.Estrategia estrategia : TablaHash.Estrategia.values()) {
+            TablaHash<String, Integer> tabla = new TablaHash<>(estrategia);
+            for (int i = 0; i < n; i++) {
+                tabla.put(dnis[i], i);
+            }
+
+            long[] suma = {0};
+            double msCopia = mejorTiempo(() -> {
+                for (Integer v : tabla.values()) suma[0] += v;
+            });
+            double msVista = mejorTiempo(() -> {
+                for (Integer v : tabla.valores()) suma[0] += v;
+            });
+            double msForEach = mejorTiempo(() -> tabla.forEach((k, v) -> suma[0] += v));
+
+            System.out.printf("%-15s values(): %7.2f ms | valores(): %7.2f ms | forEach: %7.2f ms (suma %d)%n",
+                    estrategia, msCopia, msVista, msForEach, suma[0]);
+        }
+    }
+
+    /**
+     * Claves con hashCode idéntico: con ENCADENAMIENTO el bucket se convierte
+     * en árbol y el costo por búsqueda crece como log n; SONDEO_LINEAL no
+     * tiene esa defensa y crece linealmente. Luego, enteros múltiplos de
+     * 2^16 que sin mezcla caerían todos en el bucket 0 de una tabla de 1024.
+     */
+    public static void compararColisiones() {
+        int[] bits = {10, 12, 14};
+
+        System.out.println("=== CLAVES ADVERSARIAS: mismo hashCode para todas ===");
+
+        for (int b : bits) {
+            String[] claves = generarColisiones(b);
+            System.out.println("\n--- " + claves.length + " claves con hashCode " + claves[0].hashCode() + " ---");
+
+            for (TablaHash.Estrategia estrategia : TablaHash.Estrategia.values()) {
+                long inicio = System.nanoTime();
+                TablaHash<String, Integer> tabla = new TablaHash<>(estrategia);
+                for (int i = 0; i < claves.length; i++) {
+                    tabla.put(claves[i], i);
+                }
+                double msInsercion = (System.nanoTime() - inicio) / 1_000_000.0;
+
+                long encontrados = 0;
+                inicio = System.nanoTime();
+                for (String clave : claves) {
+                    if (tabla.get(clave) != null) encontrados++;
+                }
+                double nsPorConsulta = (double) (System.nanoTime() - inicio) / claves.length;
+
+                System.out.printf("%-15s put: %9.2f ms | get: %10.1f ns/op (%d ok)%n",
+                        estrategia, msInsercion, nsPorConsulta, encontrados);
+            }
+        }
+
+        System.out.println("\n=== ENTEROS i << 16 EN UNA TABLA DE 1024 BUCKETS ===");
+        int n = 10_000;
+        TablaHash<Integer, Integer> tabla = new TablaHash<>(1024);
+        for (int i = 0; i < n; i++) {
+            tabla.put(i << 16, i);
+        }
+        int[] stats = tabla.getCollisionStats();
+        System.out.printf("Sin mezcla irían todos al bucket 0; con semilla: %d buckets usados, cadena máxima %d%n",
+                stats[0], stats[1]);
+    }
+
+    /**
+     * Genera 2^bits strings distintos con el mismo hashCode: "Aa" y "BB"
+     * tienen el mismo hash, y concatenarlos en cualquier orden lo conserva.
+     */
+    private static String[] generarColisiones(int bits) {
+        String[] claves = new String[1 << bits];
+        for (int i = 0; i < claves.length; i++) {
+            StringBuilder sb = new StringBuilder(2 * bits);
+            for (int j = 0; j < bits; j++) {
+                sb.append(((i >> j) & 1) == 0 ? "Aa" : "BB");
+            }
+            claves[i] = sb.toString();
+        }
+        return claves;
+    }
+
+    private static double mejorTiempo(Runnable recorrido) {
+        long mejor = Long.MAX_VALUE;
+        for (int r = 0; r < REPETICIONES_RECORRIDO; r++) {
+            long inicio = System.nanoTime();
+            recorrido.run();
+            mejor = Math.min(mejor, System.nanoTime() - inicio);
+        }
+        return mejor / 1_000_000.0;
+    }
+
+    private static void medir(TablaHash.Estrategia estrategia, String[] dnis) {
+        long memoriaAntes = memoriaUsada();
+
+        long inicio = System.nanoTime();
+        TablaHash<String, Integer> tabla = new TablaHash<>(estrategia);
+        for (int i = 0; i < dnis.length; i++) {
+            tabla.put(dnis[i], i);
+        }
+        long fin = System.nanoTime();
+        double msInsercion = (fin - inicio) / 1_000_000.0;
+
+        long memoriaDespues = memoriaUsada();
+
+        long encontrados = 0;
+        inicio = System.nanoTime();
+        for (int r = 0; r < REPETICIONES_BUSQUEDA; r++) {
+            for (String dni : dnis) {
+                if (tabla.get(dni) != null) encontrados++;
+                if (tabla.containsKey(dni + "X")) encontrados--;
+            }
+        }
+        fin = System.nanoTime();
+        long consultas = 2L * REPETICIONES_BUSQUEDA * dnis.length;
+        double nsPorConsulta = (double) (fin - inicio) / consultas;
+
+        System.out.printf("%-15s put: %8.2f ms | get: %6.1f ns/op | memoria: ~%5.1f bytes/entrada (%d ok)%n",
+                estrategia, msInsercion, nsPorConsulta,
+                (double) (memoriaDespues - memoriaAntes) / dnis.length, encontrados);
+    }
+
+    private static String[] generarDnis(int n) {
+        String[] dnis = new String[n];
+        for (int i = 0; i < n; i++) {
+            dnis[i] = String.valueOf(20_000_000 + i * 7);
+        }
+        return dnis;
+    }
+
+    /**
+     * Memoria en uso tras forzar GC. Es una aproximación: solo sirve para
+     * comparar órdenes de magnitud entre estrategias.
+     */
+    private static long memoriaUsada() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    public static void main(String[] args) {
+        compararEstrategias();
+        System.out.println();
+        compararRehash();
+        System.out.println();
+        compararRecorridos();
+        System.out.println();
+        compararColisiones();
+    }
+}
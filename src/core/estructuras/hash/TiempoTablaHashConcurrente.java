@@ -0,0 +1,231 @@
+package core.estructuras.hash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prueba de estrés y mediciones de rendimiento de TablaHashConcurrente.
+ *
+ * pruebaEstres() verifica con varios hilos que cada operación por clave
+ * se comporte de forma linealizable:
+ * - Claves propias: cada hilo opera sobre su rango de claves con
+ *   put/get/remove aleatorios y compara cada resultado contra un HashMap
+ *   local. Como nadie más toca esas claves, cualquier diferencia es un error.
+ * - Registros de un solo escritor: un hilo escribe valores crecientes en
+ *   claves compartidas mientras otros leen; una lectura nunca puede ver un
+ *   valor menor que uno ya visto ni un valor que no se escribió.
+ * - Tamaño final igual a la suma de los modelos locales.
+ * Las tablas arrancan chicas para forzar muchos redimensionamientos concurrentes.
+ *
+ * compararThroughput() compara contra TablaHash protegida por un lock global
+ * con 1 a 32 hilos y una mezcla de 90% lecturas / 10% escrituras.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoTablaHashConcurrente {
+
+    private static final int CLAVES_POR_HILO = 20_000;
+    private static final int OPERACIONES_POR_HILO = 400_000;
+    private static final int CLAVES_COMPARTIDAS = 64;
+
+    public static boolean pruebaEstres() {
+        System.out.println("=== PRUEBA DE ESTRÉS: TablaHashConcurrente ===");
+
+        boolean ok1 = probarClavesPropias(8);
+        System.out.println("Claves propias por hilo: " + (ok1 ? "✅ PASS" : "❌ FAIL"));
+
+        boolean ok2 = probarRegistrosUnEscritor(2, 6);
+        System.out.println("Lecturas monótonas (un escritor): " + (ok2 ? "✅ PASS" : "❌ FAIL"));
+
+        return ok1 && ok2;
+    }
+
+    private static boolean probarClavesPropias(int hilos) {
+        TablaHashConcurrente<Integer, Integer> tabla = new TablaHashConcurrente<>(2, 4);
+        AtomicReference<String> error = new AtomicReference<>();
+        AtomicLong tamanioEsperado = new AtomicLong();
+
+        ejecutarEnParalelo(hilos, id -> {
+            Random random = new Random(id);
+            Map<Integer, Integer> modelo = new HashMap<>();
+            int base = id * CLAVES_POR_HILO;
+
+            for (int op = 0; op < OPERACIONES_POR_HILO && error.get() == null; op++) {
+                Integer clave = base + random.nextInt(CLAVES_POR_HILO);
+                int tipo = random.nextInt(10);
+
+                if (tipo < 4) {
+                    Integer anterior = tabla.put(clave, op);
+                    Integer esperado = modelo.put(clave, op);
+                    verificar(error, Objects.equals(anterior, esperado), "put", clave);
+                } else if (tipo < 6) {
+                    Integer anterior = tabla.remove(clave);
+                    Integer esperado = modelo.remove(clave);
+                    verificar(error, Objects.equals(anterior, esperado), "remove", clave);
+                } else {
+                    verificar(error, Objects.equals(tabla.get(clave), modelo.get(clave)), "get", clave);
+                    verificar(error, tabla.containsKey(clave) == modelo.containsKey(clave), "containsKey", clave);
+                }
+            }
+            tamanioEsperado.addAndGet(modelo.size());
+        });
+
+        if (error.get() == null && tabla.size() != tamanioEsperado.get()) {
+            error.set("size=" + tabla.size() + ", esperado=" + tamanioEsperado.get());
+        }
+        if (error.get() != null) {
+            System.out.println("  Error: " + error.get());
+        }
+        return error.get() == null;
+    }
+
+    private static boolean probarRegistrosUnEscritor(int escritores, int lectores) {
+        TablaHashConcurrente<String, Long> tabla = new TablaHashConcurrente<>(2, 2);
+        AtomicReference<String> error = new AtomicReference<>();
+        long escrituras = OPERACIONES_POR_HILO;
+
+        ejecutarEnParalelo(escritores + lectores, id -> {
+            if (id < escritores) {
+                // Cada escritor es dueño de sus claves y escribe valores crecientes;
+                // también inserta claves de relleno para provocar redimensionamientos
+                for (long v = 1; v <= escrituras; v++) {
+                    tabla.put("w" + id + "-" + (v % CLAVES_COMPARTIDAS), v);
+                    if (v % 8 == 0) {
+                        tabla.put("relleno" + id + "-" + v, v);
+                    }
+                }
+            } else {
+                long[][] vistos = new long[escritores][CLAVES_COMPARTIDAS];
+                Random random = new Random(id);
+                for (int op = 0; op < OPERACIONES_POR_HILO && error.get() == null; op++) {
+                    int w = random.nextInt(escritores);
+                    int k = random.nextInt(CLAVES_COMPARTIDAS);
+                    Long valor = tabla.get("w" + w + "-" + k);
+                    long leido = (valor == null) ? 0 : valor;
+
+                    if (leido < vistos[w][k]) {
+                        error.compareAndSet(null, "lectura retrocedió en w" + w + "-" + k
+                                + ": " + leido + " < " + vistos[w][k]);
+                    } else if (leido != 0 && leido % CLAVES_COMPARTIDAS != k) {
+                        error.compareAndSet(null, "valor nunca escrito en w" + w + "-" + k + ": " + leido);
+                    }
+                    vistos[w][k] = leido;
+                }
+            }
+        });
+
+        if (error.get() != null) {
+            System.out.println("  Error: " + error.get());
+        }
+        return error.get() == null;
+    }
+
+    private static void verificar(AtomicReference<String> error, boolean condicion, String operacion, Integer clave) {
+        if (!condicion) {
+            error.compareAndSet(null, operacion + " inconsistente para la clave " + clave);
+        }
+    }
+
+    public static void compararThroughput() {
+        int[] hilos = {1, 2, 4, 8, 16, 32};
+        int claves = 200_000;
+        int operaciones = 2_000_000;
+
+        System.out.println("=== THROUGHPUT: TablaHash + lock global vs TablaHashConcurrente ===");
+        System.out.println("(90% get, 5% put, 5% remove sobre " + claves + " claves)");
+
+        for (int n : hilos) {
+            TablaHash<Integer, Integer> conLock = new TablaHash<>();
+            TablaHashConcurrente<Integer, Integer> concurrente = new TablaHashConcurrente<>(claves, 64);
+            for (int i = 0; i < claves; i++) {
+                conLock.put(i, i);
+                concurrente.put(i, i);
+            }
+
+            double opsLock = medirThroughput(n, operaciones / n, claves, new Operaciones() {
+                public Integer get(Integer k) { synchronized (conLock) { return conLock.get(k); } }
+                public void put(Integer k, Integer v) { synchronized (conLock) { conLock.put(k, v); } }
+                public void remove(Integer k) { synchronized (conLock) { conLock.remove(k); } }
+            });
+            double opsConcurrente = medirThroughput(n, operaciones / n, claves, new Operaciones() {
+                public Integer get(Integer k) { return concurrente.get(k); }
+                public void put(Integer k, Integer v) { concurrente.put(k, v); }
+                public void remove(Integer k) { concurrente.remove(k); }
+            });
+
+            System.out.printf("%2d hilos | lock global: %7.2f Mops/s | concurrente: %7.2f Mops/s | x%.1f%n",
+                    n, opsLock, opsConcurrente, opsConcurrente / opsLock);
+        }
+    }
+
+    private interface Operaciones {
+        Integer get(Integer k);
+        void put(Integer k, Integer v);
+        void remove(Integer k);
+    }
+
+    private static double medirThroughput(int hilos, int opsPorHilo, int claves, Operaciones ops) {
+        long inicio = System.nanoTime();
+        ejecutarEnParalelo(hilos, id -> {
+            Random random = new Random(id);
+            for (int i = 0; i < opsPorHilo; i++) {
+                Integer k = random.nextInt(claves);
+                int tipo = random.nextInt(20);
+                if (tipo == 0) {
+                    ops.put(k, i);
+                } else if (tipo == 1) {
+                    ops.remove(k);
+                } else {
+                    ops.get(k);
+                }
+            }
+        });
+        long fin = System.nanoTime();
+        return (double) hilos * opsPorHilo / ((fin - inicio) / 1_000.0);
+    }
+
+    private interface Tarea {
+        void ejecutar(int id);
+    }
+
+    /**
+     * Lanza los hilos, los libera a la vez con una barrera y espera a que terminen.
+     */
+    private static void ejecutarEnParalelo(int hilos, Tarea tarea) {
+        CountDownLatch largada = new CountDownLatch(1);
+        Thread[] threads = new Thread[hilos];
+        for (int i = 0; i < hilos; i++) {
+            final int id = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                tarea.ejecutar(id);
+            });
+            threads[i].start();
+        }
+        largada.countDown();
+        for (Thread t : threads) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        pruebaEstres();
+        System.out.println();
+        compararThroughput();
+    }
+}
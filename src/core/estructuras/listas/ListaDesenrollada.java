@@ -0,0 +1,518 @@
+package core.estructuras.listas;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementación de una Lista Desenrollada (Unrolled Linked List).
+ *
+ * En lugar de un nodo por elemento, cada nodo (bloque) guarda un arreglo de
+ * hasta CAPACIDAD_BLOQUE elementos contiguos. Con millones de elementos esto
+ * reduce el costo por elemento de un objeto Nodo (~24 bytes + referencia) a
+ * poco más de una referencia, y los recorridos leen memoria contigua.
+ *
+ * Ofrece la misma API que ListaEnlazada (insertFirst, insertLast, insertAt,
+ * removeFirst, removeLast, removeAt, getAt, search, remove, ...), salvo
+ * getHead(): no hay un Nodo por elemento. Para recorrer se usa for-each,
+ * iterator() o stream().
+ *
+ * Invariantes:
+ * - Ningún bloque queda vacío (se desenlaza al vaciarse)
+ * - Al llenarse, un bloque se parte en dos mitades (salvo al agregar en los
+ *   extremos, donde se abre un bloque nuevo y los bloques quedan llenos)
+ * - Al quedar con menos de un cuarto, un bloque se fusiona con el siguiente
+ *   si entran juntos
+ *
+ * Características (n elementos, B = CAPACIDAD_BLOQUE):
+ * - Inserción/eliminación al final: O(1)
+ * - Inserción/eliminación al inicio: O(B)
+ * - Acceso, inserción y eliminación por posición: O(n/B + B)
+ * - Búsqueda: O(n), con recorrido secuencial sobre arreglos
+ *
+ * @param <T> Tipo de dato que almacena la lista
+ * @author JhelixT
+ * @version 1.0
+ */
+public class ListaDesenrollada<T> implements Iterable<T> {
+
+    static final int CAPACIDAD_BLOQUE = 64;
+    private static final int MINIMO_BLOQUE = CAPACIDAD_BLOQUE / 4;
+
+    /**
+     * Bloque de elementos contiguos en datos[0..cantidad-1].
+     */
+    private static final class Bloque {
+        private final Object[] datos = new Object[CAPACIDAD_BLOQUE];
+        private int cantidad;
+        private Bloque anterior;
+        private Bloque siguiente;
+    }
+
+    /**
+     * Resultado de localizar(): el bloque y el índice dentro de él.
+     */
+    private static final class Posicion {
+        private final Bloque bloque;
+        private final int desplazamiento;
+
+        Posicion(Bloque bloque, int desplazamiento) {
+            this.bloque = bloque;
+            this.desplazamiento = desplazamiento;
+        }
+    }
+
+    private Bloque head;
+    private Bloque tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructor que crea una lista desenrollada vacía.
+     */
+    public ListaDesenrollada() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    /**
+     * Inserta un elemento al inicio de la lista.
+     *
+     * @param data El valor a insertar
+     */
+    public void insertFirst(T data) {
+        if (head == null || head.cantidad == CAPACIDAD_BLOQUE) {
+            enlazarDespues(new Bloque(), null);
+        }
+        insertarEnBloque(head, 0, data);
+    }
+
+    /**
+     * Inserta un elemento al final de la lista.
+     *
+     * Complejidad: O(1)
+     *
+     * @param data El valor a insertar
+     */
+    public void insertLast(T data) {
+        if (tail == null || tail.cantidad == CAPACIDAD_BLOQUE) {
+            enlazarDespues(new Bloque(), tail);
+        }
+        insertarEnBloque(tail, tail.cantidad, data);
+    }
+
+    /**
+     * Inserta un elemento en una posición específica.
+     *
+     * Complejidad: O(n/B + B)
+     *
+     * @param data El valor a insertar
+     * @param position La posición donde insertar (0 = inicio)
+     * @throws IndexOutOfBoundsException si la posición es inválida
+     */
+    public void insertAt(T data, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + position);
+        }
+        if (position == size) {
+            insertLast(data);
+            return;
+        }
+
+        Posicion ubicacion = localizar(position);
+        Bloque bloque = ubicacion.bloque;
+        int offset = ubicacion.desplazamiento;
+
+        if (bloque.cantidad == CAPACIDAD_BLOQUE) {
+            // Partir el bloque lleno en dos mitades y elegir en cuál insertar
+            Bloque nuevo = partir(bloque);
+            if (offset > bloque.cantidad) {
+                offset -= bloque.cantidad;
+                bloque = nuevo;
+            }
+        }
+        insertarEnBloque(bloque, offset, data);
+    }
+
+    /**
+     * Elimina el primer elemento de la lista.
+     *
+     * @return El valor del elemento eliminado
+     * @throws RuntimeException si la lista está vacía
+     */
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new RuntimeException("Lista vacía, no se puede eliminar");
+        }
+        return eliminarDeBloque(head, 0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista.
+     *
+     * Complejidad: O(1)
+     *
+     * @return El valor del elemento eliminado
+     * @throws RuntimeException si la lista está vacía
+     */
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new RuntimeException("Lista vacía, no se puede eliminar");
+        }
+        return eliminarDeBloque(tail, tail.cantidad - 1);
+    }
+
+    /**
+     * Elimina un elemento en una posición específica.
+     *
+     * Complejidad: O(n/B + B)
+     *
+     * @param position La posición del elemento a eliminar (0 = inicio)
+     * @return El valor del elemento eliminado
+     * @throws IndexOutOfBoundsException si la posición es inválida
+     */
+    public T removeAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + position);
+        }
+        Posicion ubicacion = localizar(position);
+        return eliminarDeBloque(ubicacion.bloque, ubicacion.desplazamiento);
+    }
+
+    /**
+     * Busca la primera ocurrencia de un valor en la lista.
+     *
+     * @param data El valor a buscar
+     * @return La posición del elemento (0 = inicio), o -1 si no se encuentra
+     */
+    public int search(T data) {
+        int base = 0;
+        for (Bloque bloque = head; bloque != null; bloque = bloque.siguiente) {
+            for (int i = 0; i < bloque.cantidad; i++) {
+                if (bloque.datos[i].equals(data)) {
+                    return base + i;
+                }
+            }
+            base += bloque.cantidad;
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene el valor en una posición específica.
+     *
+     * Complejidad: O(n/B)
+     *
+     * @param position La posición del elemento a obtener (0 = inicio)
+     * @return El valor en esa posición
+     * @throws IndexOutOfBoundsException si la posición es inválida
+     */
+    @SuppressWarnings("unchecked")
+    public T getAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Posición inválida: " + position);
+        }
+        Posicion ubicacion = localizar(position);
+        return (T) ubicacion.bloque.datos[ubicacion.desplazamiento];
+    }
+
+    /**
+     * Elimina la primera ocurrencia de un valor específico.
+     *
+     * @param data El valor a eliminar
+     * @return true si se eliminó el elemento, false si no se encontró
+     */
+    public boolean remove(T data) {
+        for (Bloque bloque = head; bloque != null; bloque = bloque.siguiente) {
+            for (int i = 0; i < bloque.cantidad; i++) {
+                if (bloque.datos[i].equals(data)) {
+                    eliminarDeBloque(bloque, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si la lista contiene un valor específico.
+     *
+     * @param data El valor a verificar
+     * @return true si el valor está en la lista, false en caso contrario
+     */
+    public boolean contains(T data) {
+        return search(data) != -1;
+    }
+
+    /**
+     * Verifica si la lista está vacía.
+     *
+     * @return true si la lista no tiene elementos, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtiene el tamaño de la lista.
+     *
+     * @return La cantidad de elementos en la lista
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Cantidad de bloques en uso (útil para ver la ocupación promedio).
+     *
+     * @return Número de bloques
+     */
+    public int getCantidadBloques() {
+        int bloques = 0;
+        for (Bloque bloque = head; bloque != null; bloque = bloque.siguiente) {
+            bloques++;
+        }
+        return bloques;
+    }
+
+    /**
+     * Limpia todos los elementos de la lista.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Ubica el bloque que contiene la posición dada, recorriendo los bloques
+     * desde el extremo más cercano.
+     *
+     * @return El bloque y el índice de la posición dentro de él
+     */
+    private Posicion localizar(int position) {
+        if (position < size / 2) {
+            Bloque bloque = head;
+            while (position >= bloque.cantidad) {
+                position -= bloque.cantidad;
+                bloque = bloque.siguiente;
+            }
+            return new Posicion(bloque, position);
+        }
+        int desdeElFinal = size - 1 - position;
+        Bloque bloque = tail;
+        while (desdeElFinal >= bloque.cantidad) {
+            desdeElFinal -= bloque.cantidad;
+            bloque = bloque.anterior;
+        }
+        return new Posicion(bloque, bloque.cantidad - 1 - desdeElFinal);
+    }
+
+    /**
+     * Enlaza un bloque nuevo después de otro (o al inicio si anterior es null).
+     */
+    private void enlazarDespues(Bloque nuevo, Bloque anterior) {
+        Bloque siguiente = (anterior == null) ? head : anterior.siguiente;
+        nuevo.anterior = anterior;
+        nuevo.siguiente = siguiente;
+        if (anterior == null) {
+            head = nuevo;
+        } else {
+            anterior.siguiente = nuevo;
+        }
+        if (siguiente == null) {
+            tail = nuevo;
+        } else {
+            siguiente.anterior = nuevo;
+        }
+    }
+
+    private void desenlazar(Bloque bloque) {
+        if (bloque.anterior == null) {
+            head = bloque.siguiente;
+        } else {
+            bloque.anterior.siguiente = bloque.siguiente;
+        }
+        if (bloque.siguiente == null) {
+            tail = bloque.anterior;
+        } else {
+            bloque.siguiente.anterior = bloque.anterior;
+        }
+    }
+
+    /**
+     * Mueve la segunda mitad de un bloque lleno a un bloque nuevo enlazado a continuación.
+     *
+     * @return El bloque nuevo
+     */
+    private Bloque partir(Bloque bloque) {
+        Bloque nuevo = new Bloque();
+        int mitad = bloque.cantidad / 2;
+        int mover = bloque.cantidad - mitad;
+        System.arraycopy(bloque.datos, mitad, nuevo.datos, 0, mover);
+        Arrays.fill(bloque.datos, mitad, bloque.cantidad, null);
+        nuevo.cantidad = mover;
+        bloque.cantidad = mitad;
+        enlazarDespues(nuevo, bloque);
+        return nuevo;
+    }
+
+    /**
+     * Inserta en un bloque con lugar, corriendo los elementos siguientes.
+     */
+    private void insertarEnBloque(Bloque bloque, int offset, T data) {
+        System.arraycopy(bloque.datos, offset, bloque.datos, offset + 1, bloque.cantidad - offset);
+        bloque.datos[offset] = data;
+        bloque.cantidad++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Elimina el elemento offset de un bloque. Si el bloque queda vacío se
+     * desenlaza; si queda con pocos elementos se fusiona con el siguiente.
+     *
+     * @return El valor eliminado
+     */
+    @SuppressWarnings("unchecked")
+    private T eliminarDeBloque(Bloque bloque, int offset) {
+        T valor = (T) bloque.datos[offset];
+        int mover = bloque.cantidad - offset - 1;
+        System.arraycopy(bloque.datos, offset + 1, bloque.datos, offset, mover);
+        bloque.datos[--bloque.cantidad] = null;
+        size--;
+        modCount++;
+
+        if (bloque.cantidad == 0) {
+            desenlazar(bloque);
+        } else if (bloque.cantidad < MINIMO_BLOQUE) {
+            fusionarConSiguiente(bloque);
+        }
+        return valor;
+    }
+
+    /**
+     * Pasa los elementos del bloque siguiente a este si entran juntos.
+     */
+    private void fusionarConSiguiente(Bloque bloque) {
+        Bloque siguiente = bloque.siguiente;
+        if (siguiente == null || bloque.cantidad + siguiente.cantidad > CAPACIDAD_BLOQUE) {
+            return;
+        }
+        System.arraycopy(siguiente.datos, 0, bloque.datos, bloque.cantidad, siguiente.cantidad);
+        bloque.cantidad += siguiente.cantidad;
+        desenlazar(siguiente);
+    }
+
+    /**
+     * Iterador fail-fast que recorre bloque por bloque. remove() elimina
+     * en O(B).
+     *
+     * @return Iterador desde el primer elemento
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Bloque bloque = head;
+            private int indice;
+            private int devueltos;
+            private boolean puedeEliminar;
+            private int modEsperado = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return devueltos < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != modEsperado) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (indice == bloque.cantidad) {
+                    bloque = bloque.siguiente;
+                    indice = 0;
+                }
+                devueltos++;
+                puedeEliminar = true;
+                return (T) bloque.datos[indice++];
+            }
+
+            @Override
+            public void remove() {
+                if (!puedeEliminar) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != modEsperado) {
+                    throw new ConcurrentModificationException();
+                }
+                puedeEliminar = false;
+                // Si el bloque se fusiona con el siguiente, los elementos que
+                // faltan recorrer quedan a continuación en el mismo bloque
+                Bloque proximo = bloque.siguiente;
+                eliminarDeBloque(bloque, --indice);
+                if (bloque.cantidad == 0) {
+                    bloque = proximo;
+                    indice = 0;
+                }
+                devueltos--;
+                modEsperado = modCount;
+            }
+        };
+    }
+
+    /**
+     * Spliterator ORDERED y SIZED sobre la lista.
+     *
+     * @return Spliterator desde el primer elemento
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Stream secuencial sobre los elementos de la lista.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Stream paralelo sobre los elementos de la lista.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Lista vacía";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Lista [");
+        for (Bloque bloque = head; bloque != null; bloque = bloque.siguiente) {
+            for (int i = 0; i < bloque.cantidad; i++) {
+                sb.append(bloque.datos[i]);
+                if (i < bloque.cantidad - 1 || bloque.siguiente != null) {
+                    sb.append(" -> ");
+                }
+            }
+        }
+        sb.append("] (").append(size).append(" elementos)");
+        return sb.toString();
+    }
+}
@@ -1,17 +1,24 @@
 package core.estructuras.listas;
 
 import core.estructuras.nodos.NodoDoble;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación de una Lista Doblemente Enlazada.
  * Permite navegación bidireccional y operaciones eficientes en ambos extremos.
+ * Es Iterable, con iterador fail-fast que admite remove(), y expone
+ * stream()/parallelStream() sin copiar la lista.
  * 
  * @param <T> Tipo de dato que almacena la lista
  */
-public class ListaDoblementeEnlazada<T> {
+public class ListaDoblementeEnlazada<T> implements Iterable<T> {
     private NodoDoble<T> head;
     private NodoDoble<T> tail;
     private int size;
+    private int modCount; // Cambios estructurales, para iteradores fail-fast
 
     /**
      * Constructor que crea una lista vacía
@@ -53,6 +60,7 @@ public class ListaDoblementeEnlazada<T> {
             head = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -70,6 +78,7 @@ public class ListaDoblementeEnlazada<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -105,6 +114,7 @@ public class ListaDoblementeEnlazada<T> {
         current.getNext().setPrevious(newNode);
         current.setNext(newNode);
         size++;
+        modCount++;
         return true;
     }
 
@@ -126,6 +136,7 @@ public class ListaDoblementeEnlazada<T> {
             head.setPrevious(null);
         }
         size--;
+        modCount++;
         return removedData;
     }
 
@@ -147,6 +158,7 @@ public class ListaDoblementeEnlazada<T> {
             tail.setNext(null);
         }
         size--;
+        modCount++;
         return removedData;
     }
 
@@ -177,6 +189,7 @@ public class ListaDoblementeEnlazada<T> {
         current.getPrevious().setNext(current.getNext());
         current.getNext().setPrevious(current.getPrevious());
         size--;
+        modCount++;
         return removedData;
     }
 
@@ -250,6 +263,7 @@ public class ListaDoblementeEnlazada<T> {
         temp = head;
         head = tail;
         tail = temp;
+        modCount++;
     }
 
     /**
@@ -259,6 +273,7 @@ public class ListaDoblementeEnlazada<T> {
         head = null;
         tail = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -338,4 +353,77 @@ public class ListaDoblementeEnlazada<T> {
     public NodoDoble<T> getTail() {
         return tail;
     }
+
+    /**
+     * Desenlaza un nodo de la lista en O(1)
+     */
+    private void desenlazar(NodoDoble<T> nodo) {
+        NodoDoble<T> anterior = nodo.getPrevious();
+        NodoDoble<T> siguiente = nodo.getNext();
+        if (anterior == null) {
+            head = siguiente;
+        } else {
+            anterior.setNext(siguiente);
+        }
+        if (siguiente == null) {
+            tail = anterior;
+        } else {
+            siguiente.setPrevious(anterior);
+        }
+        nodo.setPrevious(null);
+        nodo.setNext(null);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Iterador fail-fast de inicio a fin; remove() elimina en O(1)
+     * @return Iterador desde el primer elemento
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Recorrido();
+    }
+
+    /**
+     * Spliterator ORDERED, SIZED y SUBSIZED sobre la lista, sin copiarla
+     * @return Spliterator desde el primer elemento
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Recorrido();
+    }
+
+    /**
+     * Stream secuencial sobre los elementos de la lista
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Stream paralelo sobre los elementos de la lista
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Cursor sobre la lista que es a la vez Iterator y Spliterator
+     */
+    private final class Recorrido extends RecorridoEnlazado<NodoDoble<T>, T> {
+        Recorrido() {
+            super(head, size, modCount, NodoDoble::getNext, NodoDoble::getData);
+        }
+
+        @Override
+        protected int modificaciones() {
+            return modCount;
+        }
+
+        @Override
+        protected void desenlazar(NodoDoble<T> nodo) {
+            ListaDoblementeEnlazada.this.desenlazar(nodo);
+        }
+    }
 }
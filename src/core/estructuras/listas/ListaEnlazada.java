@@ -1,6 +1,10 @@
 package core.estructuras.listas;
 
 import core.estructuras.nodos.Nodo;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación de una Lista Enlazada Simple.
@@ -8,58 +12,132 @@ import core.estructuras.nodos.Nodo;
  * Una lista enlazada es una estructura de datos dinámica donde cada elemento
  * (nodo) contiene un dato y una referencia al siguiente elemento.
  * 
+ * Internamente cada nodo guarda además una referencia al anterior y la lista
+ * mantiene un puntero al último nodo (tail). Hacia afuera se sigue
+ * recorriendo con getHead() y Nodo.getNext() como en una lista simple, pero
+ * agregar o quitar al final ya no exige recorrerla entera, y los accesos por
+ * posición arrancan desde el extremo más cercano.
+ * Los nodos obtenidos con getHead() solo deben modificarse con los métodos
+ * de la lista (por ejemplo insertAfter), para no romper tail ni size.
+ * 
+ * Es Iterable: se puede recorrer con for-each en O(n) (en lugar de getAt(i)
+ * en un for, que es O(n²)). El iterador es fail-fast y permite remove() en
+ * O(1). stream() y parallelStream() usan un Spliterator con tamaño exacto
+ * que no copia la lista: al dividirse cede lotes crecientes de elementos.
+ * 
  * Características:
  * - Inserción al inicio: O(1)
- * - Inserción al final: O(n)
+ * - Inserción al final: O(1)
+ * - Eliminación al inicio o al final: O(1)
+ * - Acceso por posición: O(min(i, n - i))
  * - Búsqueda: O(n)
  * - Eliminación: O(n)
  * - Tamaño dinámico, crece según necesidad
  * 
  * @param <T> Tipo de dato que almacena la lista
  * @author JhelixT
- * @version 1.0
+ * @version 1.1
  */
-public class ListaEnlazada<T> {
-    private Nodo<T> head;     // Primer nodo de la lista
-    private int size;         // Cantidad de elementos en la lista
+public class ListaEnlazada<T> implements Iterable<T> {
+    
+    /**
+     * Nodo interno: un Nodo común más la referencia al anterior y la marca
+     * de la lista a la que pertenece (null si ya se quitó).
+     */
+    private static final class NodoLista<T> extends Nodo<T> {
+        private NodoLista<T> anterior;
+        private Object propietario;
+        
+        NodoLista(T data) {
+            super(data);
+        }
+    }
+    
+    private NodoLista<T> head;     // Primer nodo de la lista
+    private NodoLista<T> tail;     // Último nodo de la lista
+    private int size;              // Cantidad de elementos en la lista
+    private int modCount;          // Cambios estructurales, para iteradores fail-fast
+    private Object propietario = new Object(); // Marca de los nodos de la lista; clear() la renueva
     
     /**
      * Constructor que crea una lista enlazada vacía.
      */
     public ListaEnlazada() {
         this.head = null;
+        this.tail = null;
         this.size = 0;
     }
     
+    @SuppressWarnings("unchecked")
+    private static <T> NodoLista<T> siguiente(NodoLista<T> nodo) {
+        return (NodoLista<T>) nodo.getNext();
+    }
+    
+    /**
+     * Enlaza un nodo nuevo entre anterior y siguiente (cualquiera puede ser null).
+     */
+    private void enlazar(NodoLista<T> nuevo, NodoLista<T> anterior, NodoLista<T> siguiente) {
+        nuevo.anterior = anterior;
+        nuevo.setNext(siguiente);
+        nuevo.propietario = propietario;
+        if (anterior == null) {
+            head = nuevo;
+        } else {
+            anterior.setNext(nuevo);
+        }
+        if (siguiente == null) {
+            tail = nuevo;
+        } else {
+            siguiente.anterior = nuevo;
+        }
+        size++;
+        modCount++;
+    }
+    
+    /**
+     * Desenlaza un nodo de la lista.
+     * 
+     * @return El valor del nodo
+     */
+    private T desenlazar(NodoLista<T> nodo) {
+        NodoLista<T> anterior = nodo.anterior;
+        NodoLista<T> siguiente = siguiente(nodo);
+        if (anterior == null) {
+            head = siguiente;
+        } else {
+            anterior.setNext(siguiente);
+        }
+        if (siguiente == null) {
+            tail = anterior;
+        } else {
+            siguiente.anterior = anterior;
+        }
+        nodo.anterior = null;
+        nodo.setNext(null);
+        nodo.propietario = null;
+        size--;
+        modCount++;
+        return nodo.getData();
+    }
+    
     /**
      * Inserta un elemento al inicio de la lista.
      * 
      * @param data El valor a insertar
      */
     public void insertFirst(T data) {
-        Nodo<T> newNode = new Nodo<>(data, head);
-        head = newNode;
-        size++;
+        enlazar(new NodoLista<>(data), null, head);
     }
     
     /**
      * Inserta un elemento al final de la lista.
      * 
+     * Complejidad: O(1)
+     * 
      * @param data El valor a insertar
      */
     public void insertLast(T data) {
-        Nodo<T> newNode = new Nodo<>(data);
-        
-        if (isEmpty()) {
-            head = newNode;
-        } else {
-            Nodo<T> current = head;
-            while (current.getNext() != null) {
-                current = current.getNext();
-            }
-            current.setNext(newNode);
-        }
-        size++;
+        enlazar(new NodoLista<>(data), tail, null);
     }
     
     /**
@@ -74,21 +152,34 @@ public class ListaEnlazada<T> {
             throw new IndexOutOfBoundsException("Posición inválida: " + position);
         }
         
-        if (position == 0) {
-            insertFirst(data);
+        if (position == size) {
+            insertLast(data);
             return;
         }
         
-        Nodo<T> newNode = new Nodo<>(data);
-        Nodo<T> current = head;
-        
-        for (int i = 0; i < position - 1; i++) {
-            current = current.getNext();
+        NodoLista<T> siguiente = nodoEn(position);
+        enlazar(new NodoLista<>(data), siguiente.anterior, siguiente);
+    }
+    
+    /**
+     * Inserta un elemento inmediatamente después de un nodo de esta lista.
+     * Permite armar listas ordenadas recorriendo con getHead() sin volver
+     * a buscar la posición.
+     * 
+     * Complejidad: O(1)
+     * 
+     * @param nodo Un nodo de esta lista (obtenido recorriendo desde getHead())
+     * @param data El valor a insertar
+     * @throws IllegalArgumentException si el nodo es null, es de otra lista o
+     *         ya fue quitado de esta (por remove o clear)
+     */
+    @SuppressWarnings("unchecked")
+    public void insertAfter(Nodo<T> nodo, T data) {
+        if (!(nodo instanceof NodoLista) || ((NodoLista<T>) nodo).propietario != propietario) {
+            throw new IllegalArgumentException("El nodo no pertenece a la lista");
         }
-        
-        newNode.setNext(current.getNext());
-        current.setNext(newNode);
-        size++;
+        NodoLista<T> anterior = (NodoLista<T>) nodo;
+        enlazar(new NodoLista<>(data), anterior, siguiente(anterior));
     }
     
     /**
@@ -102,15 +193,14 @@ public class ListaEnlazada<T> {
             throw new RuntimeException("Lista vacía, no se puede eliminar");
         }
         
-        T value = head.getData();
-        head = head.getNext();
-        size--;
-        return value;
+        return desenlazar(head);
     }
     
     /**
      * Elimina el último elemento de la lista.
      * 
+     * Complejidad: O(1)
+     * 
      * @return El valor del elemento eliminado
      * @throws RuntimeException si la lista está vacía
      */
@@ -119,19 +209,7 @@ public class ListaEnlazada<T> {
             throw new RuntimeException("Lista vacía, no se puede eliminar");
         }
         
-        if (size == 1) {
-            return removeFirst();
-        }
-        
-        Nodo<T> current = head;
-        while (current.getNext().getNext() != null) {
-            current = current.getNext();
-        }
-        
-        T value = current.getNext().getData();
-        current.setNext(null);
-        size--;
-        return value;
+        return desenlazar(tail);
     }
     
     /**
@@ -146,19 +224,7 @@ public class ListaEnlazada<T> {
             throw new IndexOutOfBoundsException("Posición inválida: " + position);
         }
         
-        if (position == 0) {
-            return removeFirst();
-        }
-        
-        Nodo<T> current = head;
-        for (int i = 0; i < position - 1; i++) {
-            current = current.getNext();
-        }
-        
-        T value = current.getNext().getData();
-        current.setNext(current.getNext().getNext());
-        size--;
-        return value;
+        return desenlazar(nodoEn(position));
     }
     
     /**
@@ -194,12 +260,22 @@ public class ListaEnlazada<T> {
             throw new IndexOutOfBoundsException("Posición inválida: " + position);
         }
         
-        Nodo<T> current = head;
-        for (int i = 0; i < position; i++) {
-            current = current.getNext();
+        return nodoEn(position).getData();
+    }
+    
+    /**
+     * Obtiene el último elemento de la lista.
+     * 
+     * Complejidad: O(1)
+     * 
+     * @return El último valor
+     * @throws RuntimeException si la lista está vacía
+     */
+    public T getLast() {
+        if (isEmpty()) {
+            throw new RuntimeException("Lista vacía");
         }
-        
-        return current.getData();
+        return tail.getData();
     }
     
     /**
@@ -209,26 +285,13 @@ public class ListaEnlazada<T> {
      * @return true si se eliminó el elemento, false si no se encontró
      */
     public boolean remove(T data) {
-        if (isEmpty()) {
-            return false;
-        }
-        
-        // Si el elemento está al inicio
-        if (head.getData().equals(data)) {
-            head = head.getNext();
-            size--;
-            return true;
-        }
-        
-        // Buscar en el resto de la lista
-        Nodo<T> current = head;
-        while (current.getNext() != null) {
-            if (current.getNext().getData().equals(data)) {
-                current.setNext(current.getNext().getNext());
-                size--;
+        NodoLista<T> current = head;
+        while (current != null) {
+            if (current.getData().equals(data)) {
+                desenlazar(current);
                 return true;
             }
-            current = current.getNext();
+            current = siguiente(current);
         }
         
         return false;
@@ -243,21 +306,20 @@ public class ListaEnlazada<T> {
             return;
         }
         
-        Nodo<T> current = head;
+        NodoLista<T> current = head;
         
         while (current != null) {
-            Nodo<T> runner = current;
+            NodoLista<T> runner = siguiente(current);
             
-            while (runner.getNext() != null) {
-                if (runner.getNext().getData().equals(current.getData())) {
-                    runner.setNext(runner.getNext().getNext());
-                    size--;
-                } else {
-                    runner = runner.getNext();
+            while (runner != null) {
+                NodoLista<T> proximo = siguiente(runner);
+                if (runner.getData().equals(current.getData())) {
+                    desenlazar(runner);
                 }
+                runner = proximo;
             }
             
-            current = current.getNext();
+            current = siguiente(current);
         }
     }
     
@@ -294,7 +356,11 @@ public class ListaEnlazada<T> {
      */
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
+        modCount++;
+        // Los nodos que queden afuera dejan de ser válidos para insertAfter
+        propietario = new Object();
     }
     
     /**
@@ -303,18 +369,37 @@ public class ListaEnlazada<T> {
     public void reverse() {
         if (size <= 1) return;
         
-        Nodo<T> previous = null;
-        Nodo<T> current = head;
-        Nodo<T> next;
+        NodoLista<T> current = head;
         
         while (current != null) {
-            next = current.getNext();
-            current.setNext(previous);
-            previous = current;
+            NodoLista<T> next = siguiente(current);
+            current.setNext(current.anterior);
+            current.anterior = next;
             current = next;
         }
         
-        head = previous;
+        NodoLista<T> temp = head;
+        head = tail;
+        tail = temp;
+        modCount++;
+    }
+    
+    /**
+     * Nodo en una posición válida, recorriendo desde el extremo más cercano.
+     */
+    private NodoLista<T> nodoEn(int position) {
+        if (position < size / 2) {
+            NodoLista<T> current = head;
+            for (int i = 0; i < position; i++) {
+                current = siguiente(current);
+            }
+            return current;
+        }
+        NodoLista<T> current = tail;
+        for (int i = size - 1; i > position; i--) {
+            current = current.anterior;
+        }
+        return current;
     }
     
     /**
@@ -328,12 +413,7 @@ public class ListaEnlazada<T> {
             throw new IndexOutOfBoundsException("Posición inválida: " + position);
         }
         
-        Nodo<T> current = head;
-        for (int i = 0; i < position; i++) {
-            current = current.getNext();
-        }
-        
-        return current;
+        return nodoEn(position);
     }
     
     /**
@@ -346,6 +426,60 @@ public class ListaEnlazada<T> {
         return head;
     }
     
+    /**
+     * Iterador fail-fast: lanza ConcurrentModificationException si la lista
+     * cambia por fuera del iterador. remove() elimina en O(1).
+     * 
+     * @return Iterador desde el primer elemento
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Recorrido();
+    }
+    
+    /**
+     * Spliterator ORDERED, SIZED y SUBSIZED sobre la lista, sin copiarla.
+     * 
+     * @return Spliterator desde el primer elemento
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Recorrido();
+    }
+    
+    /**
+     * Stream secuencial sobre los elementos de la lista.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    /**
+     * Stream paralelo sobre los elementos de la lista.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
+    /**
+     * Cursor sobre la lista que es a la vez Iterator y Spliterator.
+     */
+    private final class Recorrido extends RecorridoEnlazado<NodoLista<T>, T> {
+        Recorrido() {
+            super(head, size, modCount, ListaEnlazada::siguiente, NodoLista::getData);
+        }
+        
+        @Override
+        protected int modificaciones() {
+            return modCount;
+        }
+        
+        @Override
+        protected void desenlazar(NodoLista<T> nodo) {
+            ListaEnlazada.this.desenlazar(nodo);
+        }
+    }
+    
     @Override
     public String toString() {
         if (isEmpty()) {
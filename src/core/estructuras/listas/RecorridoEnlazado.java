@@ -0,0 +1,140 @@
+package core.estructuras.listas;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cursor sobre una lista enlazada que es a la vez Iterator y Spliterator.
+ * Lo comparten ListaEnlazada y ListaDoblementeEnlazada: cada una indica cómo
+ * pasar al nodo siguiente, cómo leer el dato y cómo desenlazar un nodo.
+ *
+ * Fail-fast: compara el contador de modificaciones de la lista en cada paso.
+ * Una lista enlazada no se puede partir al medio sin recorrerla, así que
+ * trySplit() copia un lote de elementos a un arreglo y cede ese lote; cada
+ * lote es LOTE_UNIDAD más grande que el anterior (mismo esquema que LinkedList).
+ *
+ * @param <N> Tipo de nodo de la lista
+ * @param <T> Tipo de dato que almacena la lista
+ */
+abstract class RecorridoEnlazado<N, T> implements Iterator<T>, Spliterator<T> {
+    private static final int LOTE_UNIDAD = 1 << 10;
+    private static final int LOTE_MAXIMO = 1 << 25;
+
+    private final UnaryOperator<N> siguiente;
+    private final Function<N, T> dato;
+    private N proximo;
+    private N ultimoDevuelto;
+    private int modEsperado;
+    private int restantes;
+    private int lote;
+
+    /**
+     * @param primero Primer nodo a recorrer (head de la lista)
+     * @param tamanio Cantidad de elementos desde primero
+     * @param modificaciones Contador de modificaciones actual de la lista
+     * @param siguiente Función que da el nodo siguiente
+     * @param dato Función que da el dato de un nodo
+     */
+    RecorridoEnlazado(N primero, int tamanio, int modificaciones, UnaryOperator<N> siguiente, Function<N, T> dato) {
+        this.siguiente = siguiente;
+        this.dato = dato;
+        this.proximo = primero;
+        this.restantes = tamanio;
+        this.modEsperado = modificaciones;
+    }
+
+    /**
+     * Contador de cambios estructurales de la lista.
+     */
+    protected abstract int modificaciones();
+
+    /**
+     * Quita el nodo de la lista (para remove()).
+     */
+    protected abstract void desenlazar(N nodo);
+
+    private void verificarModificaciones() {
+        if (modificaciones() != modEsperado) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return restantes > 0;
+    }
+
+    @Override
+    public T next() {
+        verificarModificaciones();
+        if (restantes <= 0 || proximo == null) {
+            throw new NoSuchElementException();
+        }
+        ultimoDevuelto = proximo;
+        proximo = siguiente.apply(proximo);
+        restantes--;
+        return dato.apply(ultimoDevuelto);
+    }
+
+    @Override
+    public void remove() {
+        if (ultimoDevuelto == null) {
+            throw new IllegalStateException();
+        }
+        verificarModificaciones();
+        desenlazar(ultimoDevuelto);
+        ultimoDevuelto = null;
+        modEsperado = modificaciones();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> accion) {
+        if (!hasNext()) {
+            verificarModificaciones();
+            return false;
+        }
+        accion.accept(next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> accion) {
+        while (hasNext()) {
+            accion.accept(next());
+        }
+        verificarModificaciones();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (restantes <= 1 || proximo == null) {
+            return null;
+        }
+        verificarModificaciones();
+        int n = Math.min(Math.min(lote + LOTE_UNIDAD, restantes), LOTE_MAXIMO);
+        Object[] elementos = new Object[n];
+        for (int i = 0; i < n; i++) {
+            elementos[i] = dato.apply(proximo);
+            proximo = siguiente.apply(proximo);
+        }
+        lote = n;
+        restantes -= n;
+        return Spliterators.spliterator(elementos, 0, n, Spliterator.ORDERED);
+    }
+
+    @Override
+    public long estimateSize() {
+        return restantes;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,124 @@
+package core.estructuras.listas;
+
+import java.util.Random;
+
+/**
+ * Compara ListaEnlazada (un nodo por elemento) con ListaDesenrollada
+ * (bloques de CAPACIDAD_BLOQUE elementos):
+ * - insertLast de n elementos y memoria retenida por elemento
+ * - recorrido completo con for-each
+ * - getAt e insertAt en posiciones aleatorias
+ *
+ * Cada medición se repite y se informa el mejor tiempo, para que el
+ * calentamiento del JIT no afecte la comparación.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoListaDesenrollada {
+
+    private static final int REPETICIONES = 5;
+    private static final int ACCESOS_ALEATORIOS = 2_000;
+
+    public static void compararListas() {
+        int[] tamanios = {100_000, 1_000_000};
+
+        System.out.println("=== ListaEnlazada vs ListaDesenrollada (B = "
+                + ListaDesenrollada.CAPACIDAD_BLOQUE + ") ===");
+
+        for (int n : tamanios) {
+            System.out.println("\n--- " + n + " elementos ---");
+            Integer[] valores = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                valores[i] = i;
+            }
+
+            long antes = memoriaUsada();
+            ListaEnlazada<Integer> enlazada = new ListaEnlazada<>();
+            for (Integer v : valores) enlazada.insertLast(v);
+            double bytesEnlazada = (double) (memoriaUsada() - antes) / n;
+
+            antes = memoriaUsada();
+            ListaDesenrollada<Integer> desenrollada = new ListaDesenrollada<>();
+            for (Integer v : valores) desenrollada.insertLast(v);
+            double bytesDesenrollada = (double) (memoriaUsada() - antes) / n;
+
+            double insEnlazada = mejorTiempo(() -> {
+                ListaEnlazada<Integer> l = new ListaEnlazada<>();
+                for (Integer v : valores) l.insertLast(v);
+            });
+            double insDesenrollada = mejorTiempo(() -> {
+                ListaDesenrollada<Integer> l = new ListaDesenrollada<>();
+                for (Integer v : valores) l.insertLast(v);
+            });
+
+            long[] suma = {0};
+            double recEnlazada = mejorTiempo(() -> {
+                for (Integer v : enlazada) suma[0] += v;
+            });
+            double recDesenrollada = mejorTiempo(() -> {
+                for (Integer v : desenrollada) suma[0] += v;
+            });
+
+            double getEnlazada = mejorTiempo(() -> {
+                Random random = new Random(1);
+                for (int i = 0; i < ACCESOS_ALEATORIOS; i++) suma[0] += enlazada.getAt(random.nextInt(n));
+            });
+            double getDesenrollada = mejorTiempo(() -> {
+                Random random = new Random(1);
+                for (int i = 0; i < ACCESOS_ALEATORIOS; i++) suma[0] += desenrollada.getAt(random.nextInt(n));
+            });
+
+            // Inserta y luego elimina en la misma posición para no cambiar el tamaño entre corridas
+            double insAtEnlazada = mejorTiempo(() -> {
+                Random random = new Random(2);
+                for (int i = 0; i < ACCESOS_ALEATORIOS; i++) {
+                    int p = random.nextInt(n);
+                    enlazada.insertAt(-1, p);
+                    enlazada.removeAt(p);
+                }
+            });
+            double insAtDesenrollada = mejorTiempo(() -> {
+                Random random = new Random(2);
+                for (int i = 0; i < ACCESOS_ALEATORIOS; i++) {
+                    int p = random.nextInt(n);
+                    desenrollada.insertAt(-1, p);
+                    desenrollada.removeAt(p);
+                }
+            });
+
+            System.out.printf("%-18s %12s %12s%n", "", "Enlazada", "Desenrollada");
+            System.out.printf("%-18s %9.1f B  %9.1f B%n", "memoria/elemento", bytesEnlazada, bytesDesenrollada);
+            System.out.printf("%-18s %9.2f ms %9.2f ms%n", "insertLast x n", insEnlazada, insDesenrollada);
+            System.out.printf("%-18s %9.2f ms %9.2f ms%n", "for-each", recEnlazada, recDesenrollada);
+            System.out.printf("%-18s %9.2f ms %9.2f ms%n", "getAt x " + ACCESOS_ALEATORIOS, getEnlazada, getDesenrollada);
+            System.out.printf("%-18s %9.2f ms %9.2f ms%n", "insertAt+removeAt", insAtEnlazada, insAtDesenrollada);
+            System.out.println("(checksum " + suma[0] + ", bloques " + desenrollada.getCantidadBloques() + ")");
+        }
+    }
+
+    private static double mejorTiempo(Runnable tarea) {
+        long mejor = Long.MAX_VALUE;
+        for (int r = 0; r < REPETICIONES; r++) {
+            long inicio = System.nanoTime();
+            tarea.run();
+            mejor = Math.min(mejor, System.nanoTime() - inicio);
+        }
+        return mejor / 1_000_000.0;
+    }
+
+    /**
+     * Memoria en uso tras forzar GC (aproximada, para comparar órdenes de magnitud).
+     */
+    private static long memoriaUsada() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    public static void main(String[] args) {
+        compararListas();
+    }
+}
@@ -1,6 +1,7 @@
 package core.estructuras.listas.ejercicios;
 
 import core.estructuras.listas.ListaEnlazada;
+import java.util.Iterator;
 
 /**
  * Sistema de registro de alumnos usando Lista Enlazada.
@@ -44,8 +45,8 @@ public class RegistroAlumnos {
      * @return El alumno encontrado, o null si no existe
      */
     public Alumno buscarAlumno(int legajo) {
-        for (int i = 0; i < alumnos.getSize(); i++) {
-            Alumno alumno = alumnos.getAt(i);
+        // for-each recorre la lista una sola vez (getAt(i) en un for sería O(n²))
+        for (Alumno alumno : alumnos) {
             if (alumno.getLegajo() == legajo) {
                 return alumno;
             }
@@ -60,12 +61,15 @@ public class RegistroAlumnos {
      * @return true si se eliminó correctamente, false si no se encontró
      */
     public boolean eliminarAlumno(int legajo) {
-        Alumno alumnoAEliminar = buscarAlumno(legajo);
-        if (alumnoAEliminar == null) {
-            return false;
+        // Busca y elimina en una sola pasada con el iterador
+        Iterator<Alumno> it = alumnos.iterator();
+        while (it.hasNext()) {
+            if (it.next().getLegajo() == legajo) {
+                it.remove();
+                return true;
+            }
         }
-        
-        return alumnos.remove(alumnoAEliminar);
+        return false;
     }
     
     /**
@@ -116,8 +120,7 @@ public class RegistroAlumnos {
         System.out.println("║         LISTADO DE ALUMNOS REGISTRADOS           ║");
         System.out.println("╠══════════════════════════════════════════════════╣");
         
-        for (int i = 0; i < alumnos.getSize(); i++) {
-            Alumno alumno = alumnos.getAt(i);
+        for (Alumno alumno : alumnos) {
             System.out.printf("║ Legajo: %-6d | Nombre: %-25s║%n", 
                               alumno.getLegajo(), alumno.getNombre());
         }
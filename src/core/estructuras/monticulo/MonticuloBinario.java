@@ -1,7 +1,14 @@
 package core.estructuras.monticulo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Implementación de un Montículo Binario (Binary Heap).
@@ -17,17 +24,34 @@ import java.util.List;
  * - Hijo derecho de i: 2*i + 1
  * - Padre de i: i/2
  * 
+ * Montículo d-ario:
+ * Opcionalmente cada nodo puede tener d hijos (aridad) en lugar de 2. Los
+ * hijos de i quedan contiguos en el arreglo, en las posiciones
+ * d*(i-1)+2 .. d*i+1, y el padre de i es (i-2)/d + 1 (con d = 2 son las
+ * fórmulas de arriba). La altura baja a log_d(n): add hace menos
+ * comparaciones y poll recorre menos niveles, aunque en cada nivel compara
+ * d hijos que están uno al lado del otro en memoria. Con d = 4 u 8 suele
+ * convenir en montículos grandes con muchos poll.
+ * 
+ * Los elementos se guardan en un Object[] (la posición 0 no se usa) y el
+ * orden sale de un Comparator: el que se pase al constructor, o el orden
+ * natural (Comparable) si no se pasa ninguno. El tipo MIN/MAX se resuelve
+ * una sola vez al construir, invirtiendo el comparador.
+ * 
  * Complejidad:
  * - Insertar: O(log n)
  * - Eliminar mínimo/máximo: O(log n)
  * - Consultar mínimo/máximo: O(1)
  * - Construir desde arreglo: O(n)
+ * - Agregar k elementos en bloque (addAll, merge): O(n + k)
+ * - Copiar: O(n)
+ * - Recorrer en orden sin modificar (sortedIterator): O(k log k) para los primeros k
  * 
- * @param <T> Tipo de dato que debe ser comparable
+ * @param <T> Tipo de dato (Comparable, o cualquiera si se indica un Comparator)
  * @author JhelixT
  * @version 1.0
  */
-public class MonticuloBinario<T extends Comparable<T>> {
+public class MonticuloBinario<T> {
     
     /**
      * Enum para especificar el tipo de montículo.
@@ -37,8 +61,16 @@ public class MonticuloBinario<T extends Comparable<T>> {
         MAX_HEAP   // Montículo máximo
     }
     
-    private List<T> heap;
-    private TipoMonticulo tipo;
+    public static final int ARIDAD_BINARIA = 2;
+    private static final int CAPACIDAD_INICIAL = 16;
+    
+    private Object[] heap;
+    private int size;
+    private int modCount; // Modificaciones, para que sortedIterator falle rápido
+    private final TipoMonticulo tipo;
+    private final int aridad;
+    private final Comparator<? super T> comparador;   // Tal como lo pasó el usuario (puede ser null)
+    private final Comparator<? super T> orden;        // Ya invertido para MAX_HEAP: menor = más arriba
     
     /**
      * Constructor que crea un montículo vacío del tipo especificado.
@@ -46,9 +78,7 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @param tipo MIN_HEAP o MAX_HEAP
      */
     public MonticuloBinario(TipoMonticulo tipo) {
-        this.heap = new ArrayList<>();
-        this.heap.add(null); // Índice 0 no se usa, comenzamos desde 1
-        this.tipo = tipo;
+        this(tipo, ARIDAD_BINARIA, null);
     }
     
     /**
@@ -58,38 +88,93 @@ public class MonticuloBinario<T extends Comparable<T>> {
         this(TipoMonticulo.MIN_HEAP);
     }
     
+    /**
+     * Constructor de un montículo d-ario con orden natural.
+     * 
+     * @param tipo MIN_HEAP o MAX_HEAP
+     * @param aridad Cantidad de hijos por nodo (2 = binario)
+     * @throws IllegalArgumentException si la aridad es menor a 2
+     */
+    public MonticuloBinario(TipoMonticulo tipo, int aridad) {
+        this(tipo, aridad, null);
+    }
+    
+    /**
+     * Constructor completo.
+     * 
+     * @param tipo MIN_HEAP (el menor según el comparador queda en la raíz) o MAX_HEAP
+     * @param aridad Cantidad de hijos por nodo (2 = binario)
+     * @param comparador Orden de los elementos, o null para usar Comparable
+     * @throws IllegalArgumentException si el tipo es null o la aridad es menor a 2
+     */
+    public MonticuloBinario(TipoMonticulo tipo, int aridad, Comparator<? super T> comparador) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo de montículo no puede ser null");
+        }
+        if (aridad < 2) {
+            throw new IllegalArgumentException("La aridad debe ser al menos 2");
+        }
+        
+        Comparator<? super T> base = comparador != null
+                ? comparador
+                : MonticuloBinario::compararNatural;
+        
+        this.heap = new Object[CAPACIDAD_INICIAL + 1]; // Índice 0 no se usa, comenzamos desde 1
+        this.size = 0;
+        this.tipo = tipo;
+        this.aridad = aridad;
+        this.comparador = comparador;
+        this.orden = tipo == TipoMonticulo.MIN_HEAP ? base : Collections.reverseOrder(base);
+    }
+    
     /**
      * Inserta un nuevo elemento en el montículo.
      * El elemento se agrega al final y se percola hacia arriba.
      * 
      * @param valor El valor a insertar
      * @throws IllegalArgumentException si el valor es null
+     * @throws ClassCastException si no hay comparador y el valor no es Comparable
      */
     public void add(T valor) {
         if (valor == null) {
             throw new IllegalArgumentException("No se puede insertar null");
         }
+        if (comparador == null && !(valor instanceof Comparable)) {
+            throw new ClassCastException("Sin comparador, los elementos deben ser Comparable: "
+                    + valor.getClass().getName());
+        }
         
-        heap.add(valor);
-        percolateUp(size());
+        asegurarCapacidad(size + 1);
+        modCount++;
+        size++;
+        heap[size] = valor;
+        percolateUp(size); // Registra la posición final con alUbicar
     }
     
     /**
      * Percola un elemento hacia arriba hasta restaurar la propiedad del heap.
+     * En lugar de intercambiar en cada nivel, baja a los padres y escribe el
+     * elemento una sola vez en su lugar final.
      * 
      * @param i Índice del elemento a percolar
      */
     private void percolateUp(int i) {
+        T valor = en(i);
+        
         while (i > 1) {
-            int parent = i / 2;
+            int parent = padre(i);
+            T valorPadre = en(parent);
             
-            if (cumplePropiedad(heap.get(i), heap.get(parent))) {
-                swap(i, parent);
-                i = parent;
-            } else {
+            if (orden.compare(valor, valorPadre) >= 0) {
                 break;
             }
+            heap[i] = valorPadre;
+            alUbicar(valorPadre, i);
+            i = parent;
         }
+        
+        heap[i] = valor;
+        alUbicar(valor, i);
     }
     
     /**
@@ -104,71 +189,155 @@ public class MonticuloBinario<T extends Comparable<T>> {
             throw new IllegalStateException("El montículo está vacío");
         }
         
-        T root = heap.get(1);
+        return eliminarEn(1);
+    }
+    
+    /**
+     * Elimina el elemento de una posición cualquiera.
+     * El último elemento ocupa su lugar y se percola hacia arriba o hacia
+     * abajo según corresponda.
+     * 
+     * Complejidad: O(log n)
+     * 
+     * @param i Posición (1-based) del elemento a eliminar
+     * @return El elemento eliminado
+     */
+    protected T eliminarEn(int i) {
+        modCount++;
+        T eliminado = en(i);
+        T ultimo = en(size);
+        heap[size] = null; // No retener la referencia
+        size--;
         
-        if (size() == 1) {
-            heap.remove(1);
-        } else {
-            heap.set(1, heap.remove(size()));
-            percolateDown(1);
+        if (i <= size) {
+            heap[i] = ultimo;
+            reubicar(i);
         }
         
-        return root;
+        return eliminado;
+    }
+    
+    /**
+     * Reemplaza el elemento de una posición y restaura la propiedad del heap.
+     * 
+     * Complejidad: O(log n)
+     * 
+     * @param i Posición (1-based) a reemplazar
+     * @param valor El nuevo valor
+     */
+    protected void reemplazarEn(int i, T valor) {
+        modCount++;
+        heap[i] = valor;
+        reubicar(i);
+    }
+    
+    /**
+     * Retorna el elemento de una posición (1-based) sin modificar el heap.
+     */
+    protected T elementoEn(int i) {
+        return en(i);
+    }
+    
+    /**
+     * Orden natural, para cuando no hay comparador. add() ya verificó que
+     * los elementos sean Comparable.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compararNatural(T a, T b) {
+        return ((Comparable<? super T>) a).compareTo(b);
+    }
+    
+    /**
+     * Elemento de la posición i con su tipo. El arreglo solo recibe T (add,
+     * reemplazarEn y los agregados en bloque), así que el cast es seguro;
+     * es el único lugar del heap que lo hace.
+     */
+    @SuppressWarnings("unchecked")
+    private T en(int i) {
+        return (T) heap[i];
+    }
+    
+    /**
+     * Percola hacia arriba o hacia abajo el elemento de la posición i,
+     * según cómo se compare con su padre.
+     */
+    private void reubicar(int i) {
+        if (i > 1 && orden.compare(en(i), en(padre(i))) < 0) {
+            percolateUp(i);
+        } else {
+            percolateDown(i);
+        }
+    }
+    
+    /**
+     * Gancho para subclases: se llama cada vez que un elemento queda en una
+     * posición nueva (al insertarlo, al moverlo mientras se percola y al
+     * reemplazarlo). MonticuloIndexado lo usa para mantener su índice inverso.
+     * 
+     * @param valor El elemento que se movió
+     * @param i Su nueva posición (1-based)
+     */
+    protected void alUbicar(T valor, int i) {
     }
     
     /**
      * Percola un elemento hacia abajo hasta restaurar la propiedad del heap.
+     * Igual que percolateUp, sube a los hijos y escribe el elemento una vez.
      * 
      * @param i Índice del elemento a percolar
      */
     private void percolateDown(int i) {
-        while (2 * i <= size()) {
-            int leftChild = 2 * i;
-            int rightChild = 2 * i + 1;
-            int selected = leftChild;
+        T valor = en(i);
+        
+        while (true) {
+            int primerHijo = primerHijo(i);
+            if (primerHijo > size) {
+                break;
+            }
             
             // Seleccionar el hijo más pequeño (min-heap) o más grande (max-heap)
-            if (rightChild <= size() && cumplePropiedad(heap.get(rightChild), heap.get(leftChild))) {
-                selected = rightChild;
+            int ultimoHijo = Math.min(primerHijo + aridad - 1, size);
+            int selected = primerHijo;
+            T valorSelected = en(primerHijo);
+            for (int hijo = primerHijo + 1; hijo <= ultimoHijo; hijo++) {
+                T valorHijo = en(hijo);
+                if (orden.compare(valorHijo, valorSelected) < 0) {
+                    selected = hijo;
+                    valorSelected = valorHijo;
+                }
             }
             
-            // Si el padre ya cumple la propiedad, terminar
-            if (cumplePropiedad(heap.get(i), heap.get(selected))) {
+            // Si el padre ya cumple la propiedad, terminar (con empate se
+            // sigue bajando, como hacía la versión binaria original)
+            if (orden.compare(valor, valorSelected) < 0) {
                 break;
             }
             
-            swap(i, selected);
+            heap[i] = valorSelected;
+            alUbicar(valorSelected, i);
             i = selected;
         }
+        
+        heap[i] = valor;
+        alUbicar(valor, i);
     }
     
-    /**
-     * Verifica si se cumple la propiedad del heap entre dos elementos.
-     * 
-     * @param hijo El elemento hijo
-     * @param padre El elemento padre
-     * @return true si se debe intercambiar (hijo debe estar arriba del padre)
-     */
-    private boolean cumplePropiedad(T hijo, T padre) {
-        int comparacion = hijo.compareTo(padre);
-        
-        if (tipo == TipoMonticulo.MIN_HEAP) {
-            return comparacion < 0; // Hijo menor que padre
-        } else {
-            return comparacion > 0; // Hijo mayor que padre
-        }
+    /** Posición del padre de i (1-based) */
+    private int padre(int i) {
+        return (i - 2) / aridad + 1;
     }
     
-    /**
-     * Intercambia dos elementos en el heap.
-     * 
-     * @param i Primera posición
-     * @param j Segunda posición
-     */
-    private void swap(int i, int j) {
-        T temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    /** Posición del primer hijo de i (1-based); puede desbordar en montículos enormes */
+    private int primerHijo(int i) {
+        long hijo = (long) aridad * (i - 1) + 2;
+        return hijo > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) hijo;
+    }
+    
+    private void asegurarCapacidad(int minimo) {
+        if (minimo >= heap.length) {
+            int nueva = Math.max(heap.length + (heap.length >> 1), minimo + 1);
+            heap = Arrays.copyOf(heap, nueva);
+        }
     }
     
     /**
@@ -181,7 +350,7 @@ public class MonticuloBinario<T extends Comparable<T>> {
         if (isEmpty()) {
             throw new IllegalStateException("El montículo está vacío");
         }
-        return heap.get(1);
+        return en(1);
     }
     
     /**
@@ -199,15 +368,16 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @return La cantidad de elementos
      */
     public int size() {
-        return heap.size() - 1; // Restamos 1 porque el índice 0 no se usa
+        return size;
     }
     
     /**
      * Limpia todos los elementos del montículo.
      */
     public void clear() {
-        heap.clear();
-        heap.add(null); // Mantener el índice 0 vacío
+        Arrays.fill(heap, 1, size + 1, null); // No retener referencias
+        size = 0;
+        modCount++;
     }
     
     /**
@@ -218,16 +388,252 @@ public class MonticuloBinario<T extends Comparable<T>> {
      */
     public void buildHeap(T[] elementos) {
         clear();
+        asegurarCapacidad(elementos.length);
         
         for (T elemento : elementos) {
             if (elemento != null) {
-                heap.add(elemento);
+                heap[++size] = elemento;
+                alUbicar(elemento, size);
             }
         }
         
         // Heapify desde el último nodo interno hacia arriba
-        for (int i = size() / 2; i >= 1; i--) {
-            percolateDown(i);
+        heapify(1);
+    }
+    
+    /**
+     * Agrega todos los elementos de una colección.
+     * 
+     * Si son pocos frente al tamaño del montículo (no más que su altura)
+     * se insertan de a uno. Si no, se copian al final del arreglo y se
+     * reacomodan con Floyd solo los ancestros de las posiciones nuevas, en
+     * O(n + k) en lugar de O(k log(n + k)).
+     * 
+     * @param elementos Elementos a agregar
+     * @throws IllegalArgumentException si la colección o alguno de sus elementos es null
+     * @throws ClassCastException si no hay comparador y algún elemento no es Comparable
+     */
+    public void addAll(Collection<? extends T> elementos) {
+        if (elementos == null) {
+            throw new IllegalArgumentException("La colección no puede ser null");
+        }
+        Object[] nuevos = elementos.toArray();
+        for (Object elemento : nuevos) {
+            if (elemento == null) {
+                throw new IllegalArgumentException("No se puede insertar null");
+            }
+            if (comparador == null && !(elemento instanceof Comparable)) {
+                throw new ClassCastException("Sin comparador, los elementos deben ser Comparable: "
+                        + elemento.getClass().getName());
+            }
+        }
+        
+        if (nuevos.length <= getHeight()) {
+            for (T elemento : elementos) {
+                add(elemento);
+            }
+        } else {
+            agregarEnBloque(nuevos, 0, nuevos.length);
+        }
+    }
+    
+    /**
+     * Agrega todos los elementos de otro montículo en O(n + m).
+     * El otro montículo no se modifica. No hace falta que tenga el mismo
+     * tipo, aridad ni comparador: sus elementos se reacomodan según el
+     * orden de este.
+     * 
+     * @param otro Montículo cuyos elementos se agregan
+     * @throws IllegalArgumentException si otro es null
+     */
+    public void merge(MonticuloBinario<? extends T> otro) {
+        if (otro == null) {
+            throw new IllegalArgumentException("El montículo a unir no puede ser null");
+        }
+        if (comparador == null && otro.comparador != null) {
+            // Sus elementos pueden no ser Comparable: verificarlos como en add()
+            for (int i = 1; i <= otro.size; i++) {
+                if (!(otro.heap[i] instanceof Comparable)) {
+                    throw new ClassCastException("Sin comparador, los elementos deben ser Comparable: "
+                            + otro.heap[i].getClass().getName());
+                }
+            }
+        }
+        
+        // Si otro == this, agregarEnBloque copia antes de crecer
+        agregarEnBloque(otro.heap, 1, otro.size + 1);
+    }
+    
+    /**
+     * Copia elementos[desde, hasta) al final del arreglo y restaura la
+     * propiedad del heap subiendo nivel por nivel desde los padres de las
+     * posiciones nuevas.
+     */
+    private void agregarEnBloque(Object[] elementos, int desde, int hasta) {
+        int cantidad = hasta - desde;
+        if (cantidad == 0) {
+            return;
+        }
+        if (elementos == heap) {
+            elementos = Arrays.copyOfRange(elementos, desde, hasta);
+            desde = 0;
+        }
+        
+        asegurarCapacidad(size + cantidad);
+        modCount++;
+        int primeraNueva = size + 1;
+        System.arraycopy(elementos, desde, heap, primeraNueva, cantidad);
+        size += cantidad;
+        for (int i = primeraNueva; i <= size; i++) {
+            alUbicar(en(i), i);
+        }
+        
+        heapify(primeraNueva);
+    }
+    
+    /**
+     * Floyd restringido: restaura la propiedad del heap cuando las
+     * posiciones [primeraNueva, size] se agregaron sin ordenar. Procesa
+     * por niveles los ancestros de esas posiciones, de abajo hacia arriba;
+     * con primeraNueva = 1 es el heapify completo de buildHeap.
+     */
+    private void heapify(int primeraNueva) {
+        if (size <= 1) {
+            return;
+        }
+        int desde = primeraNueva > 1 ? padre(primeraNueva) : 1;
+        int hasta = padre(size);
+        while (true) {
+            for (int i = hasta; i >= desde; i--) {
+                percolateDown(i);
+            }
+            if (desde == 1) {
+                break;
+            }
+            hasta = Math.min(padre(hasta), desde - 1);
+            desde = padre(desde);
+        }
+    }
+    
+    /**
+     * Retorna una copia independiente del montículo, con el mismo tipo,
+     * aridad y comparador. Copia el arreglo tal cual, sin volver a percolar.
+     * Los elementos no se copian (ambos montículos comparten las referencias).
+     * 
+     * Complejidad: O(n)
+     * 
+     * @return La copia
+     */
+    public MonticuloBinario<T> copy() {
+        MonticuloBinario<T> copia = new MonticuloBinario<>(tipo, aridad, comparador);
+        copiarEn(copia);
+        return copia;
+    }
+    
+    /**
+     * Copia el arreglo y el tamaño en otro montículo recién creado con la
+     * misma configuración, avisando cada posición con su alUbicar().
+     * Las subclases lo usan para implementar copy().
+     */
+    protected void copiarEn(MonticuloBinario<T> destino) {
+        destino.heap = Arrays.copyOf(heap, Math.max(size + 1, CAPACIDAD_INICIAL + 1));
+        destino.size = size;
+        destino.modCount++;
+        for (int i = 1; i <= size; i++) {
+            destino.alUbicar(en(i), i);
+        }
+    }
+    
+    /**
+     * Recorre los elementos en orden (de la raíz hacia afuera) sin
+     * modificar el montículo.
+     * 
+     * Usa un montículo auxiliar de posiciones: empieza con la raíz y, cada
+     * vez que entrega un elemento, agrega las posiciones de sus hijos. Así
+     * los primeros k elementos cuestan O(k log k) sin importar el tamaño
+     * total, y no se copia ni se vacía nada.
+     * 
+     * @return Iterador en orden de prioridad
+     * @throws ConcurrentModificationException (en next) si el montículo se
+     *         modifica durante el recorrido
+     */
+    public Iterator<T> sortedIterator() {
+        return new IteradorOrdenado();
+    }
+    
+    /**
+     * Iterador de sortedIterator(): min-heap binario de posiciones del
+     * arreglo, comparadas por el elemento que hay en cada una.
+     */
+    private class IteradorOrdenado implements Iterator<T> {
+        private int[] posiciones = new int[CAPACIDAD_INICIAL];
+        private int cantidad;
+        private final int modCountEsperado = modCount;
+        
+        IteradorOrdenado() {
+            if (size > 0) {
+                posiciones[cantidad++] = 1;
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return cantidad > 0;
+        }
+        
+        @Override
+        public T next() {
+            if (modCount != modCountEsperado) {
+                throw new ConcurrentModificationException();
+            }
+            if (cantidad == 0) {
+                throw new NoSuchElementException();
+            }
+            
+            int posicion = posiciones[0];
+            int ultima = posiciones[--cantidad];
+            if (cantidad > 0) {
+                bajar(ultima);
+            }
+            
+            int primerHijo = primerHijo(posicion);
+            int ultimoHijo = Math.min(primerHijo + aridad - 1, size);
+            for (int hijo = primerHijo; hijo <= ultimoHijo; hijo++) {
+                subir(hijo);
+            }
+            return en(posicion);
+        }
+        
+        private boolean menor(int a, int b) {
+            return orden.compare(en(a), en(b)) < 0;
+        }
+        
+        private void subir(int posicion) {
+            if (cantidad == posiciones.length) {
+                posiciones = Arrays.copyOf(posiciones, cantidad * 2);
+            }
+            int i = cantidad++;
+            while (i > 0 && menor(posicion, posiciones[(i - 1) / 2])) {
+                posiciones[i] = posiciones[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            posiciones[i] = posicion;
+        }
+        
+        private void bajar(int posicion) {
+            int i = 0;
+            while (2 * i + 1 < cantidad) {
+                int hijo = 2 * i + 1;
+                if (hijo + 1 < cantidad && menor(posiciones[hijo + 1], posiciones[hijo])) {
+                    hijo++;
+                }
+                if (!menor(posiciones[hijo], posicion)) {
+                    break;
+                }
+                posiciones[i] = posiciones[hijo];
+                i = hijo;
+            }
+            posiciones[i] = posicion;
         }
     }
     
@@ -237,7 +643,11 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @return Lista con la representación interna del heap
      */
     public List<T> toList() {
-        return new ArrayList<>(heap);
+        List<T> lista = new ArrayList<>(size + 1);
+        for (int i = 0; i <= size; i++) {
+            lista.add(en(i));
+        }
+        return lista;
     }
     
     /**
@@ -246,7 +656,11 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @return Lista de elementos desde índice 1
      */
     public List<T> getElements() {
-        return new ArrayList<>(heap.subList(1, heap.size()));
+        List<T> lista = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            lista.add(en(i));
+        }
+        return lista;
     }
     
     /**
@@ -258,6 +672,20 @@ public class MonticuloBinario<T extends Comparable<T>> {
         return tipo;
     }
     
+    /**
+     * Retorna la cantidad de hijos por nodo (2 = binario).
+     */
+    public int getAridad() {
+        return aridad;
+    }
+    
+    /**
+     * Retorna el comparador indicado al construir, o null si se usa el orden natural.
+     */
+    public Comparator<? super T> getComparador() {
+        return comparador;
+    }
+    
     /**
      * Verifica si el montículo cumple con la propiedad de heap.
      * Útil para testing y debugging.
@@ -265,34 +693,9 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @return true si es un heap válido, false en caso contrario
      */
     public boolean isValidHeap() {
-        for (int i = 1; i <= size() / 2; i++) {
-            int leftChild = 2 * i;
-            int rightChild = 2 * i + 1;
-            
-            // Verificar hijo izquierdo
-            if (leftChild <= size()) {
-                if (tipo == TipoMonticulo.MIN_HEAP) {
-                    if (heap.get(i).compareTo(heap.get(leftChild)) > 0) {
-                        return false;
-                    }
-                } else {
-                    if (heap.get(i).compareTo(heap.get(leftChild)) < 0) {
-                        return false;
-                    }
-                }
-            }
-            
-            // Verificar hijo derecho
-            if (rightChild <= size()) {
-                if (tipo == TipoMonticulo.MIN_HEAP) {
-                    if (heap.get(i).compareTo(heap.get(rightChild)) > 0) {
-                        return false;
-                    }
-                } else {
-                    if (heap.get(i).compareTo(heap.get(rightChild)) < 0) {
-                        return false;
-                    }
-                }
+        for (int i = 2; i <= size; i++) {
+            if (orden.compare(en(padre(i)), en(i)) > 0) {
+                return false;
             }
         }
         
@@ -308,7 +711,7 @@ public class MonticuloBinario<T extends Comparable<T>> {
             return;
         }
         
-        System.out.println("Tipo: " + tipo);
+        System.out.println("Tipo: " + tipo + (aridad != ARIDAD_BINARIA ? " (" + aridad + "-ario)" : ""));
         System.out.println("Arreglo: " + getElements());
         System.out.println("\nEstructura de árbol:");
         displayTree(1, "", true);
@@ -316,21 +719,16 @@ public class MonticuloBinario<T extends Comparable<T>> {
     
     /**
      * Método auxiliar para mostrar el árbol de forma visual.
+     * Los hijos se muestran del último al primero (el último va arriba).
      */
     private void displayTree(int i, String prefix, boolean isRight) {
-        if (i <= size()) {
-            System.out.println(prefix + (isRight ? "└── " : "┌── ") + heap.get(i));
-            
-            int leftChild = 2 * i;
-            int rightChild = 2 * i + 1;
+        if (i <= size) {
+            System.out.println(prefix + (isRight ? "└── " : "┌── ") + heap[i]);
             
-            if (leftChild <= size() || rightChild <= size()) {
-                if (rightChild <= size()) {
-                    displayTree(rightChild, prefix + (isRight ? "    " : "│   "), true);
-                }
-                if (leftChild <= size()) {
-                    displayTree(leftChild, prefix + (isRight ? "    " : "│   "), false);
-                }
+            int primerHijo = primerHijo(i);
+            int ultimoHijo = Math.min(primerHijo + aridad - 1, size);
+            for (int hijo = ultimoHijo; hijo >= primerHijo; hijo--) {
+                displayTree(hijo, prefix + (isRight ? "    " : "│   "), hijo == primerHijo + aridad - 1);
             }
         }
     }
@@ -341,15 +739,20 @@ public class MonticuloBinario<T extends Comparable<T>> {
      * @return La altura del árbol
      */
     public int getHeight() {
-        if (isEmpty()) {
-            return 0;
+        int niveles = 0;
+        long capacidad = 0;
+        long nodosDelNivel = 1;
+        while (capacidad < size) {
+            capacidad += nodosDelNivel;
+            nodosDelNivel *= aridad;
+            niveles++;
         }
-        return (int) Math.ceil(Math.log(size() + 1) / Math.log(2));
+        return niveles;
     }
     
     @Override
     public String toString() {
-        return "MonticuloBinario [tipo=" + tipo + ", tamaño=" + size() + 
+        return "MonticuloBinario [tipo=" + tipo + ", tamaño=" + size() +
                ", raíz=" + (isEmpty() ? "null" : peek()) + "]";
     }
 }
@@ -1,12 +1,23 @@
 package core.estructuras.monticulo;
 
 import core.estructuras.hash.TablaHash;
+import java.util.Collection;
 
 /**
  * Extensión de MonticuloBinario con índice inverso (elemento -> posición).
  * Permite búsqueda O(1) y actualización O(log n).
+ *
+ * El índice se mantiene con el gancho alUbicar() de la clase base: cada
+ * vez que un elemento cambia de lugar al percolar se actualiza solo su
+ * entrada, así que add, poll, update y remove cuestan O(log n) y no hace
+ * falta reconstruir el índice entero.
+ *
+ * Los elementos deben ser distintos según equals (el índice tiene una
+ * posición por elemento). Si un elemento cambia su prioridad "desde
+ * afuera" (por ejemplo, un setter), hay que avisarlo con update() para
+ * que se reubique.
  */
-public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario<T> {
+public class MonticuloIndexado<T> extends MonticuloBinario<T> {
     
     private TablaHash<T, Integer> posiciones;
     
@@ -26,38 +37,69 @@ public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario
         this.posiciones = new TablaHash<>();
     }
     
+    /**
+     * Crea montículo indexado d-ario, con un comparador opcional.
+     * 
+     * @see MonticuloBinario#MonticuloBinario(TipoMonticulo, int, java.util.Comparator)
+     */
+    public MonticuloIndexado(TipoMonticulo tipo, int aridad, java.util.Comparator<? super T> comparador) {
+        super(tipo, aridad, comparador);
+        this.posiciones = new TablaHash<>();
+    }
+    
     /**
      * Inserta un nuevo elemento y registra su posición en el índice.
      * 
      * Complejidad: O(log n)
      * 
      * @param valor El valor a insertar
-     * @throws IllegalArgumentException si el valor es null
+     * @throws IllegalArgumentException si el valor es null o ya está en el montículo
      */
     @Override
     public void add(T valor) {
+        if (valor != null && posiciones.containsKey(valor)) {
+            throw new IllegalArgumentException("El elemento ya está en el montículo: " + valor);
+        }
         super.add(valor);
-        // Después de add(), el elemento está en la última posición (size())
-        // pero después de percolateUp puede estar en otra posición
-        // Necesitamos actualizar el índice después de cada operación
-        actualizarIndiceCompleto();
     }
     
     /**
      * Elimina y retorna el elemento raíz.
+     * 
+     * Complejidad: O(log n)
      */
     @Override
     public T poll() {
-        if (isEmpty()) {
-            throw new IllegalStateException("El montículo está vacío");
+        T root = super.poll();
+        posiciones.remove(root);
+        return root;
+    }
+    
+    /**
+     * Elimina un elemento cualquiera del montículo.
+     * 
+     * Complejidad: O(log n)
+     * 
+     * @param valor El elemento a eliminar
+     * @return true si estaba y se eliminó, false si no estaba
+     */
+    public boolean remove(T valor) {
+        int index = indexOf(valor);
+        if (index == -1) {
+            return false;
         }
         
-        T root = peek();
-        posiciones.remove(root); // Eliminar del índice
-        super.poll();
-        actualizarIndiceCompleto(); // Actualizar posiciones después de reordenar
-        
-        return root;
+        eliminarEn(index);
+        posiciones.remove(valor);
+        return true;
+    }
+    
+    /**
+     * Registra la nueva posición del elemento que se movió.
+     */
+    @Override
+    protected void alUbicar(T valor, int i) {
+        posiciones.put(valor, i);
     }
     
     /**
@@ -69,6 +111,62 @@ public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario
         posiciones.clear();
     }
     
+    /**
+     * Agrega todos los elementos en O(n + k), registrando sus posiciones.
+     * 
+     * @throws IllegalArgumentException si algún elemento es null, ya está en
+     *         el montículo o aparece repetido en la colección
+     */
+    @Override
+    public void addAll(Collection<? extends T> elementos) {
+        if (elementos == null) {
+            throw new IllegalArgumentException("La colección no puede ser null");
+        }
+        verificarNuevos(elementos);
+        super.addAll(elementos);
+    }
+    
+    /**
+     * Agrega los elementos de otro montículo en O(n + m), registrando sus posiciones.
+     * 
+     * @throws IllegalArgumentException si algún elemento ya está en este montículo
+     */
+    @Override
+    public void merge(MonticuloBinario<? extends T> otro) {
+        if (otro == null) {
+            throw new IllegalArgumentException("El montículo a unir no puede ser null");
+        }
+        verificarNuevos(otro.getElements());
+        super.merge(otro);
+    }
+    
+    /**
+     * Copia el montículo y su índice, sin volver a percolar.
+     */
+    @Override
+    public MonticuloIndexado<T> copy() {
+        MonticuloIndexado<T> copia = new MonticuloIndexado<>(getTipo(), getAridad(), getComparador());
+        copiarEn(copia);
+        return copia;
+    }
+    
+    /**
+     * Verifica, antes de tocar el montículo, que los elementos nuevos no
+     * estén ya indexados ni repetidos entre sí.
+     */
+    private void verificarNuevos(Collection<? extends T> nuevos) {
+        TablaHash<T, Boolean> vistos = new TablaHash<>();
+        for (T valor : nuevos) {
+            if (valor == null) {
+                throw new IllegalArgumentException("No se puede insertar null");
+            }
+            if (posiciones.containsKey(valor) || vistos.containsKey(valor)) {
+                throw new IllegalArgumentException("El elemento ya está en el montículo: " + valor);
+            }
+            vistos.put(valor, true);
+        }
+    }
+    
     /**
      * Busca elemento en O(1).
      */
@@ -86,6 +184,10 @@ public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario
     
     /**
      * Actualiza elemento en posición específica y reordena en O(log n).
+     * El nuevo valor puede ser el mismo objeto con la prioridad ya cambiada.
+     * 
+     * @throws IllegalArgumentException si el índice está fuera de rango, el
+     *         valor es null o ya está en otra posición del montículo
      */
     public void updateAt(int index, T nuevoValor) {
         if (index < 1 || index > size()) {
@@ -95,28 +197,19 @@ public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario
             throw new IllegalArgumentException("No se puede insertar null");
         }
         
-        // Obtener lista de elementos
-        java.util.List<T> elementos = getElements();
-        T valorAnterior = elementos.get(index - 1); // getElements() es 0-based
-        
-        // Eliminar del índice
-        posiciones.remove(valorAnterior);
-        
-        // Reconstruir heap con el valor actualizado
-        clear();
-        for (int i = 0; i < elementos.size(); i++) {
-            if (i == index - 1) {
-                super.add(nuevoValor);
-            } else {
-                super.add(elementos.get(i));
-            }
+        T valorAnterior = elementoEn(index);
+        if (!valorAnterior.equals(nuevoValor) && posiciones.containsKey(nuevoValor)) {
+            throw new IllegalArgumentException("El elemento ya está en el montículo: " + nuevoValor);
         }
         
-        actualizarIndiceCompleto();
+        posiciones.remove(valorAnterior);
+        reemplazarEn(index, nuevoValor); // Registra la posición y percola
     }
     
     /**
      * Busca y actualiza elemento en O(log n).
+     * 
+     * @return true si valorAntiguo estaba en el montículo, false si no
      */
     public boolean update(T valorAntiguo, T valorNuevo) {
         if (valorAntiguo == null || valorNuevo == null) {
@@ -132,17 +225,6 @@ public class MonticuloIndexado<T extends Comparable<T>> extends MonticuloBinario
         return true;
     }
     
-    /**
-     * Reconstruye índice completo en O(n).
-     */
-    private void actualizarIndiceCompleto() {
-        posiciones.clear();
-        java.util.List<T> elementos = getElements();
-        for (int i = 0; i < elementos.size(); i++) {
-            posiciones.put(elementos.get(i), i + 1); // Índices 1-based
-        }
-    }
-    
     /**
      * Retorna el tamaño del índice (debe coincidir con size()).
      * Útil para debugging.
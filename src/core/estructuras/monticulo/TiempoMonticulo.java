@@ -0,0 +1,123 @@
+package core.estructuras.monticulo;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Mediciones de rendimiento de MonticuloBinario según la aridad.
+ *
+ * Compara montículos con d = 2, 4 y 8 hijos por nodo en dos mezclas de
+ * operaciones sobre 1 millón de elementos:
+ * - Llenar y vaciar: n add seguidos de n poll (como un heapsort).
+ * - Régimen: un montículo con n elementos recibe add y poll alternados,
+ *   así el tamaño se mantiene (como una cola de recordatorios en uso).
+ *
+ * Cada mezcla se corre con Integer en orden natural y con objetos
+ * ordenados por un Comparator, que es el caso de las colas del integrador.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoMonticulo {
+
+    private static final int[] ARIDADES = {2, 4, 8};
+    private static final int N = 1_000_000;
+    private static final int OPERACIONES_REGIMEN = 2_000_000;
+    private static final int REPETICIONES = 3;
+
+    /** Elemento con prioridad numérica, ordenado por comparador */
+    private static final class Tarea {
+        final long prioridad;
+        final String nombre;
+
+        Tarea(long prioridad, String nombre) {
+            this.prioridad = prioridad;
+            this.nombre = nombre;
+        }
+    }
+
+    private static final Comparator<Tarea> POR_PRIORIDAD = Comparator.comparingLong(t -> t.prioridad);
+
+    public static void compararAridades() {
+        Random random = new Random(42);
+        Integer[] enteros = new Integer[N + OPERACIONES_REGIMEN];
+        Tarea[] tareas = new Tarea[N + OPERACIONES_REGIMEN];
+        for (int i = 0; i < enteros.length; i++) {
+            enteros[i] = random.nextInt();
+            tareas[i] = new Tarea(random.nextLong(), "T" + i);
+        }
+
+        System.out.println("=== MONTÍCULO d-ARIO: d = 2 / 4 / 8 (" + N + " elementos, mejor de "
+                + REPETICIONES + " corridas) ===");
+
+        // Calentamiento del JIT, sin mostrar
+        for (int d : ARIDADES) {
+            llenarYVaciar(new MonticuloBinario<>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d), enteros, 100_000);
+            regimen(new MonticuloBinario<Tarea>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d, POR_PRIORIDAD),
+                    tareas, 100_000, 100_000);
+        }
+
+        for (int d : ARIDADES) {
+            long llenarEnteros = Long.MAX_VALUE;
+            long regimenEnteros = Long.MAX_VALUE;
+            long llenarTareas = Long.MAX_VALUE;
+            long regimenTareas = Long.MAX_VALUE;
+            for (int r = 0; r < REPETICIONES; r++) {
+                llenarEnteros = Math.min(llenarEnteros, llenarYVaciar(
+                        new MonticuloBinario<>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d), enteros, N));
+                regimenEnteros = Math.min(regimenEnteros, regimen(
+                        new MonticuloBinario<>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d), enteros, N, OPERACIONES_REGIMEN));
+                llenarTareas = Math.min(llenarTareas, llenarYVaciar(
+                        new MonticuloBinario<>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d, POR_PRIORIDAD), tareas, N));
+                regimenTareas = Math.min(regimenTareas, regimen(
+                        new MonticuloBinario<>(MonticuloBinario.TipoMonticulo.MIN_HEAP, d, POR_PRIORIDAD), tareas, N, OPERACIONES_REGIMEN));
+            }
+            System.out.printf("d=%d | Integer: llenar/vaciar %8.2f ms, régimen %8.2f ms"
+                    + " | Comparator: llenar/vaciar %8.2f ms, régimen %8.2f ms%n",
+                    d, llenarEnteros / 1e6, regimenEnteros / 1e6, llenarTareas / 1e6, regimenTareas / 1e6);
+        }
+    }
+
+    /**
+     * Inserta los primeros n valores y después los extrae todos.
+     *
+     * @return Tiempo en nanosegundos
+     */
+    private static <T> long llenarYVaciar(MonticuloBinario<T> monticulo, T[] valores, int n) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            monticulo.add(valores[i]);
+        }
+        while (!monticulo.isEmpty()) {
+            monticulo.poll();
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    /**
+     * Carga n valores (sin medir) y después alterna poll y add durante
+     * la cantidad de operaciones indicada.
+     *
+     * @return Tiempo en nanosegundos de las operaciones alternadas
+     */
+    private static <T> long regimen(MonticuloBinario<T> monticulo, T[] valores, int n, int operaciones) {
+        for (int i = 0; i < n; i++) {
+            monticulo.add(valores[i]);
+        }
+        int siguiente = n;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < operaciones; i += 2) {
+            monticulo.poll();
+            monticulo.add(valores[siguiente++]);
+        }
+        long tiempo = System.nanoTime() - inicio;
+        if (!monticulo.isValidHeap()) {
+            throw new IllegalStateException("El montículo quedó inválido");
+        }
+        return tiempo;
+    }
+
+    public static void main(String[] args) {
+        compararAridades();
+    }
+}
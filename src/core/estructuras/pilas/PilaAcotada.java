@@ -0,0 +1,145 @@
+package core.estructuras.pilas;
+
+/**
+ * Implementación de una Pila de capacidad fija sobre un arreglo circular.
+ *
+ * Combina la semántica LIFO de PilaArreglo con el modo overflow de
+ * ColaCircular: cuando la pila está llena, push descarta el elemento más
+ * antiguo (el del fondo) en lugar de crecer. Sirve para historiales
+ * (deshacer, navegación) donde solo interesan las últimas N entradas y la
+ * memoria no debe crecer sin límite.
+ *
+ * Características:
+ * - push, pop, top y removeBottom en O(1)
+ * - Nunca crece: la memoria queda fija en la capacidad indicada
+ * - Los lugares liberados se ponen en null para no retener referencias
+ *
+ * @param <T> Tipo de dato que almacena la pila
+ * @author JhelixT
+ * @version 1.0
+ */
+@SuppressWarnings("unchecked")
+public class PilaAcotada<T> {
+    private final T[] data;
+    private int bottom;       // Índice del elemento más antiguo
+    private int size;
+
+    /**
+     * Constructor de la pila acotada.
+     *
+     * @param capacity Cantidad máxima de elementos (debe ser mayor a 0)
+     * @throws IllegalArgumentException si la capacidad es menor o igual a 0
+     */
+    public PilaAcotada(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        this.data = (T[]) new Object[capacity];
+        this.bottom = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Apila un elemento. Si la pila está llena, descarta el más antiguo.
+     *
+     * @param value El elemento a apilar
+     * @return El elemento descartado del fondo, o null si había lugar
+     */
+    public T push(T value) {
+        T descartado = null;
+        if (isFull()) {
+            descartado = removeBottom();
+        }
+        data[(bottom + size) % data.length] = value;
+        size++;
+        return descartado;
+    }
+
+    /**
+     * Desapila el elemento del tope.
+     *
+     * @return El elemento que estaba en el tope
+     * @throws RuntimeException si la pila está vacía
+     */
+    public T pop() {
+        if (isEmpty()) {
+            throw new RuntimeException("Pila vacía, no se puede desapilar");
+        }
+        int indice = (bottom + size - 1) % data.length;
+        T value = data[indice];
+        data[indice] = null;
+        size--;
+        return value;
+    }
+
+    /**
+     * Retorna el elemento del tope sin desapilarlo.
+     *
+     * @throws RuntimeException si la pila está vacía
+     */
+    public T top() {
+        if (isEmpty()) {
+            throw new RuntimeException("Pila vacía");
+        }
+        return data[(bottom + size - 1) % data.length];
+    }
+
+    /**
+     * Quita el elemento más antiguo (el del fondo).
+     *
+     * @return El elemento quitado
+     * @throws RuntimeException si la pila está vacía
+     */
+    public T removeBottom() {
+        if (isEmpty()) {
+            throw new RuntimeException("Pila vacía");
+        }
+        T value = data[bottom];
+        data[bottom] = null;
+        bottom = (bottom + 1) % data.length;
+        size--;
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == data.length;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * Vacía la pila liberando las referencias a los elementos.
+     */
+    public void clear() {
+        while (!isEmpty()) {
+            pop();
+        }
+        bottom = 0;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Pila vacía";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Pila [");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[(bottom + i) % data.length]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("] (top: ").append(top()).append(")");
+        return sb.toString();
+    }
+}
@@ -1,24 +1,49 @@
 package core.integrador.agenda;
 
 import core.integrador.modelo.Turno;
-import core.estructuras.pilas.PilaEnlazada;
+import core.estructuras.pilas.PilaAcotada;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * Implementación de AgendaMedico con soporte para Undo/Redo.
  * Mantiene dos pilas para gestionar el historial de cambios.
+ * 
+ * El historial está acotado para que una sesión larga no retenga memoria
+ * sin límite:
+ * - Por cantidad: las pilas son PilaAcotada (arreglo circular); al llenarse
+ *   se descarta la acción más antigua
+ * - Por bytes: se lleva una estimación de la memoria retenida por las
+ *   acciones y, si supera el máximo, se descartan las más antiguas
+ * - Compactación: varios reprogramar seguidos del mismo turno se guardan
+ *   como una sola acción (undo vuelve a la fecha previa al primero)
  */
 public class AgendaMedicoConHistorial implements AgendaMedico {
     
+    /** Máximo de acciones por defecto */
+    public static final int MAX_ACCIONES_DEFECTO = 1_000;
+    
+    /** Máximo de bytes estimados por defecto (1 MiB) */
+    public static final long MAX_BYTES_DEFECTO = 1L << 20;
+    
+    // Estimaciones para una JVM de 64 bits con oops comprimidos
+    private static final int BYTES_ACCION = 24;          // Encabezado + tipo + 2 referencias
+    private static final int BYTES_TURNO = 32 + 48;      // Turno + su LocalDateTime (con LocalDate y LocalTime)
+    private static final int BYTES_STRING = 40;          // String + arreglo vacío; se suma 1 byte por carácter
+    
     /** Agenda base que gestiona los turnos */
     private final AgendaMedicoTree agenda;
     
     /** Pila de acciones ejecutadas (para undo) */
-    private final PilaEnlazada<Accion> pilaUndo;
+    private final PilaAcotada<Accion> pilaUndo;
     
     /** Pila de acciones deshechas (para redo) */
-    private final PilaEnlazada<Accion> pilaRedo;
+    private final PilaAcotada<Accion> pilaRedo;
+    
+    private final long maxBytes;
+    private long bytesHistorial;          // Estimación de lo retenido por ambas pilas
+    private long accionesDescartadas;     // Expulsadas por alguno de los límites
+    private long accionesCompactadas;     // Reprogramar absorbidos por el anterior
     
     /**
      * Tipos de acción soportadas
@@ -33,26 +58,103 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
      * Representa una acción reversible en la agenda
      */
     private static class Accion {
-        TipoAccion tipo;
-        Turno turno;
-        Turno turnoAntiguo; // Para reprogramar
+        final TipoAccion tipo;
+        final Turno turno;
+        final Turno turnoAntiguo; // Para reprogramar
+        final int bytes;          // Memoria estimada que retiene la acción
         
         Accion(TipoAccion tipo, Turno turno) {
-            this.tipo = tipo;
-            this.turno = turno;
+            this(tipo, turno, null);
         }
         
         Accion(TipoAccion tipo, Turno turno, Turno turnoAntiguo) {
             this.tipo = tipo;
             this.turno = turno;
             this.turnoAntiguo = turnoAntiguo;
+            this.bytes = BYTES_ACCION + estimarBytes(turno) + estimarBytes(turnoAntiguo);
         }
     }
     
     public AgendaMedicoConHistorial() {
+        this(MAX_ACCIONES_DEFECTO, MAX_BYTES_DEFECTO);
+    }
+    
+    /**
+     * Crea una agenda con historial acotado.
+     * 
+     * @param maxAcciones Máximo de acciones guardadas entre undo y redo
+     * @param maxBytes Máximo de memoria estimada que puede retener el historial
+     * @throws IllegalArgumentException si algún límite no es positivo
+     */
+    public AgendaMedicoConHistorial(int maxAcciones, long maxBytes) {
+        if (maxAcciones <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Los límites del historial deben ser positivos");
+        }
         this.agenda = new AgendaMedicoTree();
-        this.pilaUndo = new PilaEnlazada<>();
-        this.pilaRedo = new PilaEnlazada<>();
+        this.pilaUndo = new PilaAcotada<>(maxAcciones);
+        this.pilaRedo = new PilaAcotada<>(maxAcciones);
+        this.maxBytes = maxBytes;
+    }
+    
+    /**
+     * Estima los bytes de un turno y sus strings (aproximado: strings
+     * compartidos con otros objetos se cuentan igual)
+     */
+    private static int estimarBytes(Turno turno) {
+        if (turno == null) {
+            return 0;
+        }
+        return BYTES_TURNO
+            + estimarBytes(turno.getId())
+            + estimarBytes(turno.getDniPaciente())
+            + estimarBytes(turno.getMatriculaMedico())
+            + estimarBytes(turno.getMotivo());
+    }
+    
+    private static int estimarBytes(String texto) {
+        return texto == null ? 0 : BYTES_STRING + texto.length();
+    }
+    
+    /**
+     * Registra una acción nueva: limpia redo, la apila en undo y aplica los límites
+     */
+    private void registrar(Accion accion) {
+        limpiarPila(pilaRedo); // Limpiar redo después de nueva acción
+        apilarUndo(accion);
+    }
+    
+    private void apilarUndo(Accion accion) {
+        bytesHistorial += accion.bytes;
+        Accion descartada = pilaUndo.push(accion);
+        if (descartada != null) {
+            descartar(descartada);
+        }
+        // Límite por bytes: se conserva al menos la acción recién hecha
+        while (bytesHistorial > maxBytes && pilaUndo.getSize() > 1) {
+            descartar(pilaUndo.removeBottom());
+        }
+    }
+    
+    private void apilarRedo(Accion accion) {
+        bytesHistorial += accion.bytes;
+        pilaRedo.push(accion);  // Nunca se llena: redo solo recibe lo que sale de undo
+    }
+    
+    private Accion desapilar(PilaAcotada<Accion> pila) {
+        Accion accion = pila.pop();
+        bytesHistorial -= accion.bytes;
+        return accion;
+    }
+    
+    private void descartar(Accion accion) {
+        bytesHistorial -= accion.bytes;
+        accionesDescartadas++;
+    }
+    
+    private void limpiarPila(PilaAcotada<Accion> pila) {
+        while (!pila.isEmpty()) {
+            desapilar(pila);
+        }
     }
     
     /**
@@ -62,8 +164,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
     @Override
     public boolean agendar(Turno t) {
         if (agenda.agendar(t)) {
-            pilaUndo.push(new Accion(TipoAccion.AGENDAR, t));
-            pilaRedo.clear(); // Limpiar redo después de nueva acción
+            registrar(new Accion(TipoAccion.AGENDAR, t));
             return true;
         }
         return false;
@@ -85,8 +186,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
         Turno turno = turnoOpt.get();
         
         if (agenda.cancelar(idTurno)) {
-            pilaUndo.push(new Accion(TipoAccion.CANCELAR, turno));
-            pilaRedo.clear(); // Limpiar redo después de nueva acción
+            registrar(new Accion(TipoAccion.CANCELAR, turno));
             return true;
         }
         return false;
@@ -111,6 +211,10 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
     /**
      * Reprograma un turno existente a una nueva fecha
      * Complejidad: O(log n) para cancelar + O(log n) para agendar = O(log n)
+     * 
+     * Si la acción anterior fue reprogramar el mismo turno, ambas se compactan
+     * en una sola que conserva la fecha original; si el turno vuelve a su
+     * fecha original, la acción desaparece del historial.
      */
     public boolean reprogramar(String idTurno, LocalDateTime nuevaFecha) {
         Optional<Turno> turnoOpt = buscarPorId(idTurno);
@@ -132,15 +236,39 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
         );
         
         // Intentar cancelar y reagendar
-        if (agenda.cancelar(idTurno) && agenda.agendar(turnoNuevo)) {
-            pilaUndo.push(new Accion(TipoAccion.REPROGRAMAR, turnoNuevo, turnoAntiguo));
-            pilaRedo.clear(); // Limpiar redo después de nueva acción
+        if (!agenda.cancelar(idTurno)) {
+            return false;
+        }
+        if (agenda.agendar(turnoNuevo)) {
+            registrarReprogramacion(turnoNuevo, turnoAntiguo);
             return true;
         }
         
+        // La nueva fecha no está libre: restaurar el turno original
+        agenda.agendar(turnoAntiguo);
         return false;
     }
     
+    private void registrarReprogramacion(Turno turnoNuevo, Turno turnoAntiguo) {
+        limpiarPila(pilaRedo);
+        
+        if (!pilaUndo.isEmpty()) {
+            Accion anterior = pilaUndo.top();
+            if (anterior.tipo == TipoAccion.REPROGRAMAR 
+                && anterior.turno.getId().equals(turnoNuevo.getId())) {
+                // Compactar: undo debe volver a la fecha previa a la primera reprogramación
+                desapilar(pilaUndo);
+                accionesCompactadas++;
+                Turno original = anterior.turnoAntiguo;
+                if (!original.getFechaHora().equals(turnoNuevo.getFechaHora())) {
+                    apilarUndo(new Accion(TipoAccion.REPROGRAMAR, turnoNuevo, original));
+                }
+                return;
+            }
+        }
+        apilarUndo(new Accion(TipoAccion.REPROGRAMAR, turnoNuevo, turnoAntiguo));
+    }
+    
     /**
      * Deshace la última acción
      * Complejidad: O(log n) para operaciones en agenda + O(1) para pilas
@@ -150,13 +278,13 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
             return false;
         }
         
-        Accion accion = pilaUndo.pop();
+        Accion accion = desapilar(pilaUndo);
         
         switch (accion.tipo) {
             case AGENDAR:
                 // Deshacer agendar = cancelar
                 if (agenda.cancelar(accion.turno.getId())) {
-                    pilaRedo.push(accion);
+                    apilarRedo(accion);
                     return true;
                 }
                 break;
@@ -164,7 +292,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
             case CANCELAR:
                 // Deshacer cancelar = reagendar
                 if (agenda.agendar(accion.turno)) {
-                    pilaRedo.push(accion);
+                    apilarRedo(accion);
                     return true;
                 }
                 break;
@@ -173,7 +301,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
                 // Deshacer reprogramar = volver a fecha antigua
                 if (agenda.cancelar(accion.turno.getId()) && 
                     agenda.agendar(accion.turnoAntiguo)) {
-                    pilaRedo.push(accion);
+                    apilarRedo(accion);
                     return true;
                 }
                 break;
@@ -191,13 +319,13 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
             return false;
         }
         
-        Accion accion = pilaRedo.pop();
+        Accion accion = desapilar(pilaRedo);
         
         switch (accion.tipo) {
             case AGENDAR:
                 // Rehacer agendar
                 if (agenda.agendar(accion.turno)) {
-                    pilaUndo.push(accion);
+                    apilarUndo(accion);
                     return true;
                 }
                 break;
@@ -205,7 +333,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
             case CANCELAR:
                 // Rehacer cancelar
                 if (agenda.cancelar(accion.turno.getId())) {
-                    pilaUndo.push(accion);
+                    apilarUndo(accion);
                     return true;
                 }
                 break;
@@ -214,7 +342,7 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
                 // Rehacer reprogramar
                 if (agenda.cancelar(accion.turnoAntiguo.getId()) && 
                     agenda.agendar(accion.turno)) {
-                    pilaUndo.push(accion);
+                    apilarUndo(accion);
                     return true;
                 }
                 break;
@@ -241,8 +369,43 @@ public class AgendaMedicoConHistorial implements AgendaMedico {
      * Limpia todo el historial
      */
     public void limpiarHistorial() {
-        pilaUndo.clear();
-        pilaRedo.clear();
+        limpiarPila(pilaUndo);
+        limpiarPila(pilaRedo);
+    }
+    
+    /**
+     * Memoria estimada que retiene el historial (undo + redo), en bytes
+     */
+    public long bytesHistorial() {
+        return bytesHistorial;
+    }
+    
+    /**
+     * Límite de memoria estimada del historial, en bytes
+     */
+    public long maxBytesHistorial() {
+        return maxBytes;
+    }
+    
+    /**
+     * Límite de acciones guardadas
+     */
+    public int maxAcciones() {
+        return pilaUndo.getCapacity();
+    }
+    
+    /**
+     * Cantidad de acciones antiguas descartadas por los límites
+     */
+    public long accionesDescartadas() {
+        return accionesDescartadas;
+    }
+    
+    /**
+     * Cantidad de reprogramaciones compactadas con la anterior
+     */
+    public long accionesCompactadas() {
+        return accionesCompactadas;
     }
     
     /**
@@ -1,28 +1,65 @@
 package core.integrador.agenda;
 
+import core.integrador.modelo.Hueco;
 import core.integrador.modelo.Turno;
 import core.estructuras.arboles.ArbolAVL;
-import core.estructuras.arboles.NodoAVL;
+import core.estructuras.arboles.ArbolAVLPersistente;
+import core.estructuras.arboles.ArbolIntervalos;
 import core.estructuras.listas.ListaEnlazada;
 import core.estructuras.nodos.Nodo;
 import core.estructuras.hash.TablaHash;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Implementación OPTIMIZADA de AgendaMedico usando árbol AVL + TablaHash.
  * 
  * Estructuras:
- * - ArbolAVL<TurnoWrapper>: Turnos ordenados por fechaHora para búsquedas temporales O(log n)
+ * - ArbolAVLPersistente<TurnoWrapper>: Turnos ordenados por fechaHora para búsquedas
+ *   temporales O(log n). Es inmutable: cada escritura publica una versión nueva
+ *   en un AtomicReference, y leer esa referencia es una instantánea en O(1)
  * - TablaHash<String, Turno>: Índice por ID para búsquedas rápidas O(1)
+ * - TablaHash<String, ArbolAVL<TurnoWrapper>>: Índice secundario por matrícula,
+ *   con los turnos de cada médico ordenados por fechaHora
+ * - ArbolIntervalos<LocalDateTime, Turno>: Intervalos [inicio, fin) de cada turno
+ *   con el mayor fin por subárbol, para detectar solapamientos en O(log n)
+ * - CalendarioHuecos: Huecos libres de cada médico por día dentro del horario
+ *   laboral, actualizados en cada reserva y cancelación
  * 
  * Complejidades logradas:
- * - agendar(): O(log n) - eliminado factor O(n) de búsqueda por ID
+ * - agendar(): O(log n) - eliminado factor O(n) de búsqueda por ID, solapamiento en O(log n)
  * - cancelar(): O(log n) - eliminado factor O(n) de búsqueda por ID  
- * - siguiente(): O(log n) - recorrido inorden eficiente
- * - primerHueco(): O(log n + k) - búsqueda optimizada en rango
+ * - agendarLote(): O(m log m + w + m log n) - ordena el lote y valida con un solo barrido
+ *   sobre los w turnos agendados que caen en su rango; un solo bloqueo para todo el lote
+ * - siguiente(): O(log n) - una búsqueda de techo (ceiling) en el AVL
+ * - primerHueco(): O(log n) por turno que bloquea el hueco
  * - buscarPorIdOpt(): O(1) - TablaHash directo
+ * - cantidadTurnos(): O(1) - tamaño guardado en la raíz del AVL
+ * - instantanea(): O(1) - vista consistente que no se ve afectada por escrituras posteriores
+ * - cantidadTurnosAntesDe() / cantidadTurnosEntre() / turnoEnPosicion(): O(log n)
+ * - paginaTurnos(): O(p log n) para una página de p turnos, sin armar la lista completa
+ * - turnosPorMedico(): O(n_m) con n_m = turnos del médico
+ * - primerHueco(matricula, ...): O(log g) por día revisado, con g = huecos del día
+ * - huecosSemana(): O(g) por día, sin recorrer los turnos
+ * 
+ * Concurrencia: un StampedLock reemplaza al monitor único. Las consultas
+ * toman el bloqueo de lectura y corren en paralelo entre sí. agendar() y
+ * cancelar() validan con el bloqueo de lectura y solo lo convierten en
+ * escritura para modificar, así un pedido rechazado (ID repetido u horario
+ * ocupado) no bloquea a los lectores. Las reservas aceptadas siguen siendo
+ * exclusivas entre sí porque el solapamiento se verifica contra toda la agenda.
+ * StampedLock no es reentrante: ningún método público llama a otro.
+ * Las consultas que solo usan el orden cronológico (siguiente, cantidades,
+ * páginas, todosTurnos) ni siquiera toman el bloqueo: leen la versión
+ * publicada del árbol persistente, así que un reporte largo nunca frena
+ * a las reservas ni ve un estado a medio escribir.
  */
 public class AgendaMedicoTree implements AgendaMedico {
     
@@ -40,56 +77,257 @@ public class AgendaMedicoTree implements AgendaMedico {
         }
     }
     
-    private final ArbolAVL<TurnoWrapper> arbolTurnos = new ArbolAVL<>();
+    // Versión publicada de los turnos por fechaHora; solo los escritores la reemplazan
+    private final AtomicReference<ArbolAVLPersistente<TurnoWrapper>> arbolTurnos =
+        new AtomicReference<>(new ArbolAVLPersistente<>());
     
     // TablaHash para búsqueda O(1) por ID - optimización de complejidad
     private final TablaHash<String, Turno> turnosPorId = new TablaHash<>();
     
+    // Índice secundario: turnos de cada médico en orden cronológico.
+    // Solo contiene médicos con al menos un turno agendado.
+    private final TablaHash<String, ArbolAVL<TurnoWrapper>> indicePorMedico = new TablaHash<>();
+    
+    // Árbol de intervalos para las consultas de solapamiento
+    private final ArbolIntervalos<LocalDateTime, Turno> intervalos = new ArbolIntervalos<>();
+    
+    // Huecos libres por médico y día, para primerHueco(matricula, ...) y huecosSemana()
+    private final CalendarioHuecos calendario = new CalendarioHuecos();
+    
+    // Lecturas en paralelo, escrituras exclusivas
+    private final StampedLock lock = new StampedLock();
+    
     /** Agenda un nuevo turno verificando duplicados y solapamientos */
     @Override
-    public synchronized boolean agendar(Turno t) {
-        if (t == null || t.getId() == null) return false;
-        
-        // O(1) - Verificación duplicado usando TablaHash
-        if (turnosPorId.containsKey(t.getId())) return false;
+    public boolean agendar(Turno t) {
+        if (t == null || t.getId() == null || t.getDuracionMin() <= 0) return false;
         
-        // O(log n) - Verificación solapamiento optimizada
-        if (tieneSolapamientoOptimizado(t)) return false;
-        
-        // O(log n) - Inserción en AVL + O(1) en TablaHash
-        arbolTurnos.insert(new TurnoWrapper(t));
-        turnosPorId.put(t.getId(), t);
-        return true;
+        long stamp = lock.readLock();
+        try {
+            while (true) {
+                // O(1) - Verificación duplicado usando TablaHash
+                if (turnosPorId.containsKey(t.getId())) return false;
+                
+                // O(log n) - Verificación solapamiento optimizada
+                if (tieneSolapamientoOptimizado(t)) return false;
+                
+                long escritura = lock.tryConvertToWriteLock(stamp);
+                if (escritura != 0L) {
+                    stamp = escritura;
+                    break;
+                }
+                // Otro lector impide la conversión: esperar la escritura y volver a validar
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+            }
+            
+            // O(log n) - Inserción en AVL + O(1) en TablaHash + O(log n_m) en el índice del médico
+            TurnoWrapper wrapper = new TurnoWrapper(t);
+            arbolTurnos.set(arbolTurnos.get().insert(wrapper));
+            turnosPorId.put(t.getId(), t);
+            intervalos.insert(t.getFechaHora(), t.getFechaHoraFin(), t);
+            indicePorMedico.computeIfAbsent(t.getMatriculaMedico(), m -> new ArbolAVL<>()).insert(wrapper);
+            calendario.ocupar(t);
+            return true;
+        } finally {
+            lock.unlock(stamp);
+        }
     }
     
     /** Cancela un turno por su ID, eliminándolo del árbol */
     @Override
-    public synchronized boolean cancelar(String idTurno) {
-        // O(1) - Búsqueda usando TablaHash
-        Turno turno = turnosPorId.get(idTurno);
-        if (turno == null) return false;
-        
-        // O(log n) - Eliminación del AVL + O(1) del TablaHash
-        arbolTurnos.delete(new TurnoWrapper(turno));
-        turnosPorId.remove(idTurno);
-        return true;
+    public boolean cancelar(String idTurno) {
+        long stamp = lock.readLock();
+        try {
+            Turno turno;
+            while (true) {
+                // O(1) - Búsqueda usando TablaHash
+                turno = turnosPorId.get(idTurno);
+                if (turno == null) return false;
+                
+                long escritura = lock.tryConvertToWriteLock(stamp);
+                if (escritura != 0L) {
+                    stamp = escritura;
+                    break;
+                }
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+            }
+            
+            // O(log n) - Eliminación del AVL + O(1) del TablaHash + O(log n_m) del índice del médico
+            TurnoWrapper wrapper = new TurnoWrapper(turno);
+            arbolTurnos.set(arbolTurnos.get().delete(wrapper));
+            turnosPorId.remove(idTurno);
+            intervalos.delete(turno.getFechaHora(), turno);
+            
+            ArbolAVL<TurnoWrapper> delMedico = indicePorMedico.get(turno.getMatriculaMedico());
+            delMedico.delete(wrapper);
+            if (delMedico.isEmpty()) {
+                indicePorMedico.remove(turno.getMatriculaMedico());
+            }
+            calendario.liberar(turno);
+            return true;
+        } finally {
+            lock.unlock(stamp);
+        }
     }
     
-    /** Retorna el siguiente turno a partir de la fecha/hora especificada */
-    @Override
-    public synchronized Optional<Turno> siguiente(LocalDateTime t) {
-        ListaEnlazada<Turno> turnos = obtenerTurnosOrdenados();
+    /**
+     * Agenda un lote de turnos tomando el bloqueo de escritura una sola vez.
+     * 
+     * El lote se ordena por fechaHora y se valida con un barrido tipo merge
+     * contra los turnos ya agendados en su rango (que no se solapan entre sí,
+     * así que basta con mirar el primero que termina después de cada inicio).
+     * Si dos turnos del mismo lote se solapan o repiten ID, gana el que empieza
+     * antes; a igual inicio, el que aparece primero en el lote. Los aceptados
+     * se publican en una sola versión del árbol persistente.
+     * 
+     * @param lote Turnos a agendar
+     * @return Resultado de cada turno, en el orden de iteración del lote
+     */
+    public ResultadoReserva[] agendarLote(Collection<Turno> lote) {
+        Turno[] turnos = lote.toArray(new Turno[0]);
+        ResultadoReserva[] resultados = new ResultadoReserva[turnos.length];
+        
+        // Los inválidos se descartan antes de ordenar. La clave de orden se
+        // precalcula en arreglos primitivos: comparar LocalDateTime salta por
+        // varios objetos y domina el costo de ordenar lotes grandes
+        Integer[] orden = new Integer[turnos.length];
+        long[] segundos = new long[turnos.length];
+        int[] nanos = new int[turnos.length];
+        int validos = 0;
+        for (int i = 0; i < turnos.length; i++) {
+            Turno t = turnos[i];
+            if (t == null || t.getId() == null || t.getFechaHora() == null || t.getDuracionMin() <= 0) {
+                resultados[i] = ResultadoReserva.INVALIDO;
+            } else {
+                orden[validos++] = i;
+                segundos[i] = t.getFechaHora().toEpochSecond(ZoneOffset.UTC);
+                nanos[i] = t.getFechaHora().getNano();
+            }
+        }
+        if (validos == 0) {
+            return resultados;
+        }
+        // O(m log m) - Orden estable: a igual fechaHora se respeta el orden del lote
+        Arrays.sort(orden, 0, validos, (a, b) -> segundos[a] != segundos[b]
+            ? Long.compare(segundos[a], segundos[b])
+            : Integer.compare(nanos[a], nanos[b]));
         
-        Nodo<Turno> nodo = turnos.getHead();
-        while (nodo != null) {
-            Turno turno = nodo.getData();
-            if (turno.getFechaHora().compareTo(t) >= 0) {
-                return Optional.of(turno);
+        LocalDateTime desde = turnos[orden[0]].getFechaHora();
+        LocalDateTime hasta = desde;
+        for (int k = 0; k < validos; k++) {
+            LocalDateTime fin = turnos[orden[k]].getFechaHoraFin();
+            if (fin.isAfter(hasta)) {
+                hasta = fin;
+            }
+        }
+        
+        long stamp = lock.writeLock();
+        try {
+            ArbolAVLPersistente<TurnoWrapper> version = arbolTurnos.get();
+            
+            // Turnos agendados que pueden solaparse con el lote: el anterior a 'desde'
+            // (único que puede extenderse dentro del rango) y los que empiezan en [desde, hasta)
+            ListaEnlazada<Turno> existentes = new ListaEnlazada<>();
+            TurnoWrapper anterior = version.lower(claveBusqueda(desde));
+            if (anterior != null) {
+                existentes.insertLast(anterior.turno);
+            }
+            version.forEachInRange(claveBusqueda(desde), claveBusqueda(hasta),
+                    wrapper -> existentes.insertLast(wrapper.turno));
+            
+            // Barrido: O(m + w)
+            Nodo<Turno> existente = existentes.getHead();
+            LocalDateTime finUltimoAceptado = null;
+            TablaHash<String, Turno> idsLote = new TablaHash<>(2 * validos);
+            TurnoWrapper[] aceptados = new TurnoWrapper[validos];
+            int cantidadAceptados = 0;
+            
+            for (int k = 0; k < validos; k++) {
+                Turno t = turnos[orden[k]];
+                if (turnosPorId.containsKey(t.getId()) || idsLote.containsKey(t.getId())) {
+                    resultados[orden[k]] = ResultadoReserva.ID_DUPLICADO;
+                    continue;
+                }
+                // Los existentes que terminan antes de este inicio no alcanzan a ningún turno posterior
+                while (existente != null && !existente.getData().getFechaHoraFin().isAfter(t.getFechaHora())) {
+                    existente = existente.getNext();
+                }
+                boolean chocaExistente = existente != null
+                    && existente.getData().getFechaHora().isBefore(t.getFechaHoraFin());
+                // Los aceptados no se solapan entre sí: el último es el que termina más tarde
+                boolean chocaLote = finUltimoAceptado != null && t.getFechaHora().isBefore(finUltimoAceptado);
+                if (chocaExistente || chocaLote) {
+                    resultados[orden[k]] = ResultadoReserva.SOLAPAMIENTO;
+                    continue;
+                }
+                
+                resultados[orden[k]] = ResultadoReserva.AGENDADO;
+                finUltimoAceptado = t.getFechaHoraFin();
+                idsLote.put(t.getId(), t);
+                aceptados[cantidadAceptados++] = new TurnoWrapper(t);
+            }
+            
+            // Inserción: si el lote es grande, mezcla y reconstrucción lineal del árbol
+            arbolTurnos.set(version.insertAllSorted(Arrays.copyOf(aceptados, cantidadAceptados)));
+            
+            for (int k = 0; k < cantidadAceptados; k++) {
+                Turno t = aceptados[k].turno;
+                turnosPorId.put(t.getId(), t);
+                intervalos.insert(t.getFechaHora(), t.getFechaHoraFin(), t);
+                indicePorMedico.computeIfAbsent(t.getMatriculaMedico(), m -> new ArbolAVL<>()).insert(aceptados[k]);
+                calendario.ocupar(t);
             }
-            nodo = nodo.getNext();
+            return resultados;
+        } finally {
+            lock.unlockWrite(stamp);
         }
+    }
+    
+    /**
+     * Cancela un lote de turnos tomando el bloqueo de escritura una sola vez.
+     * 
+     * @param ids IDs de los turnos a cancelar
+     * @return true en cada posición cuyo turno se canceló, en el orden de iteración
+     */
+    public boolean[] cancelarLote(Collection<String> ids) {
+        boolean[] resultados = new boolean[ids.size()];
+        ArbolAVLPersistente<TurnoWrapper> version;
         
-        return Optional.empty();
+        long stamp = lock.writeLock();
+        try {
+            version = arbolTurnos.get();
+            int i = 0;
+            for (String id : ids) {
+                Turno turno = id != null ? turnosPorId.remove(id) : null;
+                if (turno != null) {
+                    TurnoWrapper wrapper = new TurnoWrapper(turno);
+                    version = version.delete(wrapper);
+                    intervalos.delete(turno.getFechaHora(), turno);
+                    
+                    ArbolAVL<TurnoWrapper> delMedico = indicePorMedico.get(turno.getMatriculaMedico());
+                    delMedico.delete(wrapper);
+                    if (delMedico.isEmpty()) {
+                        indicePorMedico.remove(turno.getMatriculaMedico());
+                    }
+                    calendario.liberar(turno);
+                    resultados[i] = true;
+                }
+                i++;
+            }
+            // Se publica una sola versión con todas las bajas
+            arbolTurnos.set(version);
+            return resultados;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /** Retorna el siguiente turno a partir de la fecha/hora especificada - O(log n), sin bloqueo */
+    @Override
+    public Optional<Turno> siguiente(LocalDateTime t) {
+        return instantanea().siguiente(t);
     }
     
     /**
@@ -100,97 +338,85 @@ public class AgendaMedicoTree implements AgendaMedico {
      * @param duracionMin Duración mínima requerida en minutos
      * @return Fecha/hora del primer hueco disponible, o empty si no hay
      */
-    public synchronized Optional<LocalDateTime> primerHueco(LocalDateTime t0, int duracionMin) {
-        if (duracionMin <= 0) return Optional.empty();
+    public Optional<LocalDateTime> primerHueco(LocalDateTime t0, int duracionMin) {
+        long stamp = lock.readLock();
+        try {
+            if (duracionMin <= 0) return Optional.empty();
         
-        LocalDateTime inicioHueco = t0;
+            LocalDateTime inicioHueco = t0;
         
-        // Buscar usando búsqueda optimizada en rango específico
-        boolean encontrado = false;
+            // Buscar usando búsqueda optimizada en rango específico
+            boolean encontrado = false;
         
-        while (!encontrado) {
-            Turno turnoConflictivo = buscarTurnoEnRango(inicioHueco, inicioHueco.plusMinutes(duracionMin));
+            while (!encontrado) {
+                Turno turnoConflictivo = buscarTurnoEnRango(inicioHueco, inicioHueco.plusMinutes(duracionMin));
             
-            if (turnoConflictivo == null) {
-                // No hay conflictos, encontramos el hueco
-                return Optional.of(inicioHueco);
-            }
+                if (turnoConflictivo == null) {
+                    // No hay conflictos, encontramos el hueco
+                    return Optional.of(inicioHueco);
+                }
             
-            // Hay conflicto, mover inicio del hueco después del turno conflictivo
-            inicioHueco = turnoConflictivo.getFechaHoraFin();
+                // Hay conflicto, mover inicio del hueco después del turno conflictivo
+                inicioHueco = turnoConflictivo.getFechaHoraFin();
             
-            // Verificar límite razonable para evitar bucle infinito
-            if (inicioHueco.isAfter(t0.plusDays(7))) {
-                break; // No buscar más allá de una semana
+                // Verificar límite razonable para evitar bucle infinito
+                if (inicioHueco.isAfter(t0.plusDays(7))) {
+                    break; // No buscar más allá de una semana
+                }
             }
-        }
         
-        return Optional.of(inicioHueco);
+            return Optional.of(inicioHueco);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * Busca si existe algún turno que se solape con el rango [inicio, fin)
-     * OPTIMIZADO: Complejidad O(log n + k) usando búsqueda dirigida en AVL
+     * OPTIMIZADO: Complejidad O(log n) con el árbol de intervalos, que también
+     * encuentra turnos largos que empezaron antes de inicio
      * 
      * @param inicio Inicio del rango a verificar
      * @param fin Fin del rango a verificar
-     * @return Primer turno que se solapa, o null si no hay
+     * @return Algún turno que se solapa, o null si no hay
      */
     private Turno buscarTurnoEnRango(LocalDateTime inicio, LocalDateTime fin) {
-        // Crear turno ficticio para búsqueda en AVL
-        Turno turnoBuscado = new Turno("BUSQUEDA", "DUMMY", "DUMMY", inicio, 1, "BUSQUEDA");
-        TurnoWrapper wrapperBuscado = new TurnoWrapper(turnoBuscado);
-        
-        // PASO 1: Buscar el primer turno >= inicio - O(log n)
-        NodoAVL<TurnoWrapper> nodoActual = arbolTurnos.findCeilingNode(wrapperBuscado);
-        
-        // PASO 2: Recorrer hacia adelante solo turnos relevantes - O(k)
-        while (nodoActual != null) {
-            Turno turno = nodoActual.getData().turno;
-            
-            // Si este turno empieza después de nuestro fin, no hay más conflictos
-            if (turno.getFechaHora().isAfter(fin) || turno.getFechaHora().equals(fin)) {
-                break;  // ✅ PARADA TEMPRANA - no seguir recorriendo
-            }
-            
-            // Verificar si hay solapamiento real
-            if (hayConflictoReal(turno, inicio, fin)) {
-                return turno;  // ✅ ENCONTRADO - primer conflicto
-            }
-            
-            // Avanzar al siguiente turno en orden - O(log n) amortizado
-            nodoActual = arbolTurnos.getInorderSuccessor(nodoActual);
-        }
-        
-        return null; // ✅ NO HAY CONFLICTOS en el rango
+        return intervalos.findAnyOverlap(inicio, fin);
     }
     
     /**
-     * Verifica si dos turnos realmente se solapan en tiempo
+     * Recorre en orden cronológico todos los turnos que se solapan con [inicio, fin)
+     * Complejidad: O(log n) si no hay ninguno, O(k log n) para k turnos
      * 
-     * @param turno Turno existente a verificar
-     * @param inicioNuevo Inicio del nuevo turno/rango
-     * @param finNuevo Fin del nuevo turno/rango
-     * @return true si hay solapamiento, false en caso contrario
+     * @param inicio Inicio del rango
+     * @param fin Fin del rango
+     * @return Turnos solapados (lista vacía si no hay)
      */
-    private boolean hayConflictoReal(Turno turno, LocalDateTime inicioNuevo, LocalDateTime finNuevo) {
-        LocalDateTime inicioExistente = turno.getFechaHora();
-        LocalDateTime finExistente = turno.getFechaHoraFin();
-        
-        // Dos turnos se solapan si:
-        // inicioNuevo < finExistente AND inicioExistente < finNuevo
-        return inicioNuevo.isBefore(finExistente) && inicioExistente.isBefore(finNuevo);
+    public ListaEnlazada<Turno> turnosSolapados(LocalDateTime inicio, LocalDateTime fin) {
+        long stamp = lock.readLock();
+        try {
+            ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
+            intervalos.forEachOverlap(inicio, fin, resultado::insertLast);
+            return resultado;
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /** Busca un turno por su ID y retorna Optional (método público) - O(1) */
     public Optional<Turno> buscarPorIdOpt(String id) {
-        Turno turno = turnosPorId.get(id);
-        return turno != null ? Optional.of(turno) : Optional.empty();
+        long stamp = lock.readLock();
+        try {
+            Turno turno = turnosPorId.get(id);
+            return turno != null ? Optional.of(turno) : Optional.empty();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /** 
-     * Verifica solapamiento usando búsqueda optimizada
-     * Complejidad: O(log n + k) donde k = turnos en ventana de tiempo relevante
+     * Verifica solapamiento usando el árbol de intervalos
+     * Complejidad: O(log n)
      */
     private boolean tieneSolapamientoOptimizado(Turno nuevo) {
         LocalDateTime inicio = nuevo.getFechaHora();
@@ -200,172 +426,205 @@ public class AgendaMedicoTree implements AgendaMedico {
         return buscarTurnoEnRango(inicio, fin) != null;
     }
     
-    /** Retorna todos los turnos en orden cronológico (recorrido inorden del AVL) */
-    private ListaEnlazada<Turno> obtenerTurnosOrdenados() {
-        ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
-        recorridoInorden(obtenerRaiz(), resultado);
-        return resultado;
+    /** Clave de búsqueda en el AVL para un instante dado */
+    private static TurnoWrapper claveBusqueda(LocalDateTime fechaHora) {
+        return new TurnoWrapper(new Turno("BUSQUEDA", "DUMMY", "DUMMY", fechaHora, 1, "BUSQUEDA"));
     }
     
-    /** Usa reflexión para recorrer el árbol AVL en orden */
-    private void recorridoInorden(Object nodo, ListaEnlazada<Turno> lista) {
-        if (nodo == null) return;
+    /**
+     * Vista inmutable de la agenda en un instante, ordenada por fechaHora.
+     * 
+     * Envuelve una versión del árbol persistente: no toma bloqueos y sus
+     * respuestas no cambian aunque la agenda siga recibiendo reservas.
+     */
+    public static final class Instantanea {
+        private final ArbolAVLPersistente<TurnoWrapper> turnos;
         
-        try {
-            var claseNodo = nodo.getClass();
-            var getLeft = claseNodo.getMethod("getLeft");
-            var getRight = claseNodo.getMethod("getRight");
-            var getData = claseNodo.getMethod("getData");
-            
-            recorridoInorden(getLeft.invoke(nodo), lista);
-            
-            TurnoWrapper wrapper = (TurnoWrapper) getData.invoke(nodo);
-            lista.insertLast(wrapper.turno);
-            
-            recorridoInorden(getRight.invoke(nodo), lista);
-        } catch (Exception e) {
+        private Instantanea(ArbolAVLPersistente<TurnoWrapper> turnos) {
+            this.turnos = turnos;
+        }
+        
+        /** Cantidad total de turnos - O(1) */
+        public int cantidadTurnos() {
+            return turnos.size();
+        }
+        
+        /** Primer turno con fechaHora >= t - O(log n) */
+        public Optional<Turno> siguiente(LocalDateTime t) {
+            TurnoWrapper wrapper = turnos.ceiling(claveBusqueda(t));
+            return wrapper != null ? Optional.of(wrapper.turno) : Optional.empty();
+        }
+        
+        /** Cantidad de turnos que empiezan antes de t - O(log n) */
+        public int cantidadTurnosAntesDe(LocalDateTime t) {
+            return turnos.rank(claveBusqueda(t));
+        }
+        
+        /** Cantidad de turnos que empiezan en [desde, hasta) - O(log n) */
+        public int cantidadTurnosEntre(LocalDateTime desde, LocalDateTime hasta) {
+            return turnos.countInRange(claveBusqueda(desde), claveBusqueda(hasta));
+        }
+        
+        /** Turnos que empiezan en [desde, hasta), en orden cronológico - O(log n + k) */
+        public ListaEnlazada<Turno> turnosEntre(LocalDateTime desde, LocalDateTime hasta) {
+            ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
+            turnos.forEachInRange(claveBusqueda(desde), claveBusqueda(hasta),
+                    wrapper -> resultado.insertLast(wrapper.turno));
+            return resultado;
+        }
+        
+        /**
+         * Retorna el k-ésimo turno en orden cronológico (k = 0 es el primero) - O(log n)
+         * 
+         * @param k Posición del turno
+         * @return El turno, o empty si k está fuera de rango
+         */
+        public Optional<Turno> turnoEnPosicion(int k) {
+            if (k < 0 || k >= turnos.size()) {
+                return Optional.empty();
+            }
+            return Optional.of(turnos.select(k).turno);
+        }
+        
+        /**
+         * Retorna una página de turnos en orden cronológico sin recorrer la agenda completa.
+         * Complejidad: O(p log n) con p = tamanioPagina
+         * 
+         * @param pagina Número de página (0 = primera)
+         * @param tamanioPagina Cantidad de turnos por página
+         * @return Turnos de la página (vacía si la página no existe)
+         * @throws IllegalArgumentException si pagina es negativa o tamanioPagina no es positivo
+         */
+        public ListaEnlazada<Turno> paginaTurnos(int pagina, int tamanioPagina) {
+            if (pagina < 0 || tamanioPagina <= 0) {
+                throw new IllegalArgumentException("Página o tamaño de página inválidos");
+            }
+            ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
+            long desde = (long) pagina * tamanioPagina;
+            long hasta = Math.min(desde + tamanioPagina, turnos.size());
+            for (long k = desde; k < hasta; k++) {
+                resultado.insertLast(turnos.select((int) k).turno);
+            }
+            return resultado;
+        }
+        
+        /** Retorna todos los turnos en orden cronológico - O(n) */
+        public ListaEnlazada<Turno> todosTurnos() {
+            ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
+            turnos.forEach(wrapper -> resultado.insertLast(wrapper.turno));
+            return resultado;
         }
     }
     
-    /** Obtiene la raíz del árbol AVL usando reflexión */
-    private Object obtenerRaiz() {
-        try {
-            var campo = ArbolAVL.class.getDeclaredField("root");
-            campo.setAccessible(true);
-            return campo.get(arbolTurnos);
-        } catch (Exception e) {
-            return null;
-        }
+    /**
+     * Obtiene una instantánea consistente de la agenda - O(1), sin bloqueo
+     * 
+     * @return Vista de los turnos tal como están ahora
+     */
+    public Instantanea instantanea() {
+        return new Instantanea(arbolTurnos.get());
+    }
+    
+    /** Retorna la cantidad total de turnos agendados - O(1), sin bloqueo */
+    public int cantidadTurnos() {
+        return instantanea().cantidadTurnos();
     }
     
-    /** Retorna la cantidad total de turnos agendados */
-    public synchronized int cantidadTurnos() {
-        return arbolTurnos.countNodes();
+    /** Cantidad de turnos que empiezan antes de t - O(log n), sin bloqueo */
+    public int cantidadTurnosAntesDe(LocalDateTime t) {
+        return instantanea().cantidadTurnosAntesDe(t);
     }
     
-    /** Retorna todos los turnos en orden cronológico */
-    public synchronized ListaEnlazada<Turno> todosTurnos() {
-        return obtenerTurnosOrdenados();
+    /** Cantidad de turnos que empiezan en [desde, hasta) - O(log n), sin bloqueo */
+    public int cantidadTurnosEntre(LocalDateTime desde, LocalDateTime hasta) {
+        return instantanea().cantidadTurnosEntre(desde, hasta);
+    }
+    
+    /** Retorna el k-ésimo turno en orden cronológico, o empty si no existe - O(log n), sin bloqueo */
+    public Optional<Turno> turnoEnPosicion(int k) {
+        return instantanea().turnoEnPosicion(k);
+    }
+    
+    /** Retorna una página de turnos en orden cronológico - O(p log n), sin bloqueo */
+    public ListaEnlazada<Turno> paginaTurnos(int pagina, int tamanioPagina) {
+        return instantanea().paginaTurnos(pagina, tamanioPagina);
+    }
+    
+    /** Retorna todos los turnos en orden cronológico - O(n), sin bloqueo */
+    public ListaEnlazada<Turno> todosTurnos() {
+        return instantanea().todosTurnos();
     }
     
     /**
      * Encuentra el primer hueco disponible en la agenda de un médico.
      * Busca desde t0 hasta 7 días después, dentro del horario laboral (8:00-22:00).
+     * Consulta el calendario de huecos del médico: O(log g) por día revisado,
+     * sin recorrer sus turnos.
      * 
      * @param matriculaMedico Matrícula del médico
      * @param t0 Hora desde la cual comenzar la búsqueda
      * @param durMin Duración mínima del hueco (en minutos)
      * @return Optional con la hora del primer hueco, o vacío si no hay
      */
-    public synchronized Optional<LocalDateTime> primerHueco(String matriculaMedico, LocalDateTime t0, int durMin) {
+    public Optional<LocalDateTime> primerHueco(String matriculaMedico, LocalDateTime t0, int durMin) {
         if (matriculaMedico == null || t0 == null || durMin <= 0) {
             return Optional.empty();
         }
-        
-        final int HORA_INICIO_LABORAL = 8;
-        final int HORA_FIN_LABORAL = 22;
-        
-        LocalDateTime busquedaActual = t0;
-        
-        for (int dia = 0; dia < 7; dia++) {
-            LocalDateTime inicioLaboral = busquedaActual.withHour(HORA_INICIO_LABORAL).withMinute(0);
-            LocalDateTime finLaboral = busquedaActual.withHour(HORA_FIN_LABORAL).withMinute(0);
-            
-            if (busquedaActual.isBefore(inicioLaboral)) {
-                busquedaActual = inicioLaboral;
-            }
-            
-            if (busquedaActual.isAfter(finLaboral) || busquedaActual.plusMinutes(durMin).isAfter(finLaboral)) {
-                busquedaActual = busquedaActual.plusDays(1).withHour(HORA_INICIO_LABORAL).withMinute(0);
-                continue;
-            }
-            
-            ListaEnlazada<Turno> turnosMedicoDelDia = obtenerTurnosMedicoDelDia(matriculaMedico, busquedaActual.toLocalDate());
-            
-            if (turnosMedicoDelDia.isEmpty()) {
-                return Optional.of(busquedaActual);
-            }
-            
-            Turno primerTurno = turnosMedicoDelDia.getHead().getData();
-            if (busquedaActual.plusMinutes(durMin).isBefore(primerTurno.getFechaHora()) 
-                || busquedaActual.plusMinutes(durMin).isEqual(primerTurno.getFechaHora())) {
-                return Optional.of(busquedaActual);
-            }
-            
-            // Buscar hueco entre turnos consecutivos
-            Nodo<Turno> nodoActual = turnosMedicoDelDia.getHead();
-            while (nodoActual != null && nodoActual.getNext() != null) {
-                Turno actual = nodoActual.getData();
-                Turno siguiente = nodoActual.getNext().getData();
-                
-                LocalDateTime finActual = actual.getFechaHoraFin();
-                LocalDateTime inicioSiguiente = siguiente.getFechaHora();
-                
-                LocalDateTime inicioCandidato = finActual.isAfter(busquedaActual) ? finActual : busquedaActual;
-                
-                if (inicioCandidato.plusMinutes(durMin).isBefore(inicioSiguiente)
-                    || inicioCandidato.plusMinutes(durMin).isEqual(inicioSiguiente)) {
-                    if (inicioCandidato.plusMinutes(durMin).isBefore(finLaboral)
-                        || inicioCandidato.plusMinutes(durMin).isEqual(finLaboral)) {
-                        return Optional.of(inicioCandidato);
-                    }
-                }
-                
-                nodoActual = nodoActual.getNext();
-            }
-            
-            // Buscar hueco después del último turno
-            // Usa getAt() y getSize() de ListaEnlazada
-            Turno ultimoTurno = turnosMedicoDelDia.getAt(turnosMedicoDelDia.getSize() - 1);
-            LocalDateTime despuesUltimo = ultimoTurno.getFechaHoraFin();
-            
-            if (despuesUltimo.isBefore(busquedaActual)) {
-                despuesUltimo = busquedaActual;
-            }
-            
-            if (despuesUltimo.plusMinutes(durMin).isBefore(finLaboral)
-                || despuesUltimo.plusMinutes(durMin).isEqual(finLaboral)) {
-                return Optional.of(despuesUltimo);
-            }
-            
-            busquedaActual = busquedaActual.plusDays(1).withHour(HORA_INICIO_LABORAL).withMinute(0);
+        long stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(calendario.primerHueco(matriculaMedico, t0, durMin));
+        } finally {
+            lock.unlockRead(stamp);
         }
-        
-        return Optional.empty();
     }
     
-    /** Filtra los turnos de un médico específico en una fecha determinada */
-    private ListaEnlazada<Turno> obtenerTurnosMedicoDelDia(String matriculaMedico, java.time.LocalDate fecha) {
-        ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
-        ListaEnlazada<Turno> todosTurnos = obtenerTurnosOrdenados();
-        
-        Nodo<Turno> nodo = todosTurnos.getHead();
-        while (nodo != null) {
-            Turno t = nodo.getData();
-            if (t.getMatriculaMedico().equals(matriculaMedico) 
-                && t.getFechaHora().toLocalDate().equals(fecha)) {
-                resultado.insertLast(t);
-            }
-            nodo = nodo.getNext();
+    /**
+     * Huecos libres de un médico durante la semana que empieza en 'desde',
+     * dentro del horario laboral, en orden cronológico. Pensado para mostrar
+     * la disponibilidad completa de un médico en la grilla de turnos.
+     * 
+     * @param matriculaMedico Matrícula del médico
+     * @param desde Primer día de la semana
+     * @param durMin Duración mínima de los huecos a listar (en minutos)
+     * @return Huecos de al menos durMin minutos (lista vacía si no hay)
+     */
+    public ListaEnlazada<Hueco> huecosSemana(String matriculaMedico, LocalDate desde, int durMin) {
+        ListaEnlazada<Hueco> resultado = new ListaEnlazada<>();
+        if (matriculaMedico == null || desde == null || durMin <= 0) {
+            return resultado;
+        }
+        long stamp = lock.readLock();
+        try {
+            calendario.huecos(matriculaMedico, desde, CalendarioHuecos.DIAS_BUSQUEDA, durMin, resultado);
+            return resultado;
+        } finally {
+            lock.unlockRead(stamp);
         }
-        
-        return resultado;
     }
     
-    /** Retorna todos los turnos de un médico específico en orden cronológico */
-    public synchronized ListaEnlazada<Turno> turnosPorMedico(String matriculaMedico) {
-        ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
-        ListaEnlazada<Turno> todosTurnos = obtenerTurnosOrdenados();
-        
-        Nodo<Turno> nodo = todosTurnos.getHead();
-        while (nodo != null) {
-            Turno t = nodo.getData();
-            if (t.getMatriculaMedico().equals(matriculaMedico)) {
-                resultado.insertLast(t);
+    /** Retorna todos los turnos de un médico específico en orden cronológico - O(n_m) */
+    public ListaEnlazada<Turno> turnosPorMedico(String matriculaMedico) {
+        long stamp = lock.readLock();
+        try {
+            ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
+            ArbolAVL<TurnoWrapper> delMedico = indicePorMedico.get(matriculaMedico);
+            if (delMedico != null) {
+                delMedico.forEach(wrapper -> resultado.insertLast(wrapper.turno));
             }
-            nodo = nodo.getNext();
+            return resultado;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /** Cantidad de turnos agendados para un médico - O(1) */
+    public int cantidadTurnosMedico(String matriculaMedico) {
+        long stamp = lock.readLock();
+        try {
+            ArbolAVL<TurnoWrapper> delMedico = indicePorMedico.get(matriculaMedico);
+            return delMedico != null ? delMedico.size() : 0;
+        } finally {
+            lock.unlockRead(stamp);
         }
-        
-        return resultado;
     }
 }
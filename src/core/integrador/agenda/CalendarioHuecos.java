@@ -0,0 +1,191 @@
+package core.integrador.agenda;
+
+import core.estructuras.arboles.ArbolIntervalos;
+import core.estructuras.hash.TablaHash;
+import core.estructuras.listas.ListaEnlazada;
+import core.integrador.modelo.Hueco;
+import core.integrador.modelo.Turno;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Índice de huecos libres por médico y por día, dentro del horario laboral.
+ *
+ * Cada día con algún turno guarda sus intervalos libres [inicio, fin) en un
+ * ArbolIntervalos cuyo peso es la duración del hueco, así cada subárbol
+ * conoce la mayor duración libre que contiene. Reservar parte en dos el hueco que contiene al turno; cancelar
+ * devuelve el intervalo y lo une con los huecos vecinos. Los días sin
+ * turnos no se guardan: se consideran libres de punta a punta.
+ *
+ * Con la mayor duración por subárbol, "primer hueco de al menos d minutos
+ * desde t" desciende por un solo camino y descarta los subárboles donde no
+ * entra el turno, sin recorrer los turnos del día.
+ *
+ * Complejidades (g = huecos del día, siempre pocos):
+ * - ocupar() / liberar(): O(1) por hash + O(log g) por día que toca el turno
+ * - primerHueco(): O(log g) por día revisado, a lo sumo DIAS_BUSQUEDA días
+ * - huecos(): O(g) por día
+ *
+ * No es seguro para hilos: AgendaMedicoTree lo usa bajo su bloqueo.
+ * Supone que los turnos de un médico no se solapan, como garantiza la agenda.
+ */
+class CalendarioHuecos {
+
+    static final LocalTime INICIO_LABORAL = LocalTime.of(8, 0);
+    static final LocalTime FIN_LABORAL = LocalTime.of(22, 0);
+    static final int DIAS_BUSQUEDA = 7;
+
+    /** Huecos libres de un médico en un día, ordenados por inicio y pesados en segundos */
+    private static ArbolIntervalos<LocalDateTime, Hueco> nuevoDia() {
+        return new ArbolIntervalos<>(h -> Duration.between(h.getInicio(), h.getFin()).getSeconds());
+    }
+
+    private final TablaHash<String, TablaHash<LocalDate, ArbolIntervalos<LocalDateTime, Hueco>>> diasPorMedico = new TablaHash<>();
+
+    /**
+     * Quita de los huecos del médico la parte del turno que cae en horario
+     * laboral (si cruza la medianoche, de cada día que toca)
+     */
+    void ocupar(Turno turno) {
+        LocalDateTime inicio = turno.getFechaHora();
+        LocalDateTime fin = turno.getFechaHoraFin();
+        for (LocalDate fecha = inicio.toLocalDate(); fecha.atStartOfDay().isBefore(fin); fecha = fecha.plusDays(1)) {
+            LocalDateTime desde = max(inicio, fecha.atTime(INICIO_LABORAL));
+            LocalDateTime hasta = min(fin, fecha.atTime(FIN_LABORAL));
+            if (!desde.isBefore(hasta)) {
+                continue;
+            }
+            TablaHash<LocalDate, ArbolIntervalos<LocalDateTime, Hueco>> dias = diasPorMedico.computeIfAbsent(turno.getMatriculaMedico(), m -> new TablaHash<>());
+            ArbolIntervalos<LocalDateTime, Hueco> dia = dias.get(fecha);
+            if (dia == null) {
+                dia = nuevoDia();
+                agregar(dia, fecha.atTime(INICIO_LABORAL), fecha.atTime(FIN_LABORAL));
+                dias.put(fecha, dia);
+            }
+            Hueco contenedor = dia.floor(desde);
+            if (contenedor == null || contenedor.getFin().isBefore(hasta)) {
+                throw new IllegalStateException("El turno " + turno.getId() + " se solapa con otro del mismo médico");
+            }
+            // Partir el hueco en lo que queda antes y después del turno
+            dia.delete(contenedor.getInicio(), contenedor);
+            if (contenedor.getInicio().isBefore(desde)) {
+                agregar(dia, contenedor.getInicio(), desde);
+            }
+            if (hasta.isBefore(contenedor.getFin())) {
+                agregar(dia, hasta, contenedor.getFin());
+            }
+        }
+    }
+
+    /**
+     * Devuelve a los huecos del médico la parte laboral del turno, uniéndola
+     * con los huecos que terminan o empiezan justo en sus extremos
+     */
+    void liberar(Turno turno) {
+        TablaHash<LocalDate, ArbolIntervalos<LocalDateTime, Hueco>> dias = diasPorMedico.get(turno.getMatriculaMedico());
+        if (dias == null) {
+            return;
+        }
+        LocalDateTime inicio = turno.getFechaHora();
+        LocalDateTime fin = turno.getFechaHoraFin();
+        for (LocalDate fecha = inicio.toLocalDate(); fecha.atStartOfDay().isBefore(fin); fecha = fecha.plusDays(1)) {
+            LocalDateTime desde = max(inicio, fecha.atTime(INICIO_LABORAL));
+            LocalDateTime hasta = min(fin, fecha.atTime(FIN_LABORAL));
+            ArbolIntervalos<LocalDateTime, Hueco> dia = dias.get(fecha);
+            if (!desde.isBefore(hasta) || dia == null) {
+                continue;
+            }
+            Hueco anterior = dia.floor(desde);
+            if (anterior != null && anterior.getFin().isEqual(desde)) {
+                desde = anterior.getInicio();
+                dia.delete(anterior.getInicio(), anterior);
+            }
+            Hueco posterior = dia.floor(hasta);
+            if (posterior != null && posterior.getInicio().isEqual(hasta)) {
+                hasta = posterior.getFin();
+                dia.delete(posterior.getInicio(), posterior);
+            }
+            // Un día libre de punta a punta vuelve a ser implícito
+            if (dia.isEmpty() && desde.isEqual(fecha.atTime(INICIO_LABORAL)) && hasta.isEqual(fecha.atTime(FIN_LABORAL))) {
+                dias.remove(fecha);
+            } else {
+                agregar(dia, desde, hasta);
+            }
+        }
+        if (dias.isEmpty()) {
+            diasPorMedico.remove(turno.getMatriculaMedico());
+        }
+    }
+
+    /**
+     * Primer instante desde t0 en el que el médico tiene libres durMin minutos
+     * seguidos dentro del horario laboral, buscando hasta DIAS_BUSQUEDA días
+     */
+    LocalDateTime primerHueco(String matriculaMedico, LocalDateTime t0, int durMin) {
+        TablaHash<LocalDate, ArbolIntervalos<LocalDateTime, Hueco>> dias = diasPorMedico.get(matriculaMedico);
+        long segundos = durMin * 60L;
+        LocalDateTime desde = t0;
+        for (int d = 0; d < DIAS_BUSQUEDA; d++) {
+            LocalDate fecha = t0.toLocalDate().plusDays(d);
+            if (d > 0 || desde.isBefore(fecha.atTime(INICIO_LABORAL))) {
+                desde = fecha.atTime(INICIO_LABORAL);
+            }
+            if (desde.plusMinutes(durMin).isAfter(fecha.atTime(FIN_LABORAL))) {
+                continue;
+            }
+            ArbolIntervalos<LocalDateTime, Hueco> dia = dias != null ? dias.get(fecha) : null;
+            if (dia == null) {
+                return desde;
+            }
+            if (dia.maxWeight() < segundos) {
+                continue;
+            }
+            // El hueco que contiene a 'desde', si alcanza
+            Hueco actual = dia.floor(desde);
+            if (actual != null && !actual.getFin().isBefore(desde.plusMinutes(durMin))) {
+                return desde;
+            }
+            Hueco siguiente = dia.firstAfter(desde, segundos);
+            if (siguiente != null) {
+                return siguiente.getInicio();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Agrega a resultado, en orden, los huecos de al menos durMin minutos
+     * de los días [desde, desde + cantidadDias)
+     */
+    void huecos(String matriculaMedico, LocalDate desde, int cantidadDias, int durMin, ListaEnlazada<Hueco> resultado) {
+        TablaHash<LocalDate, ArbolIntervalos<LocalDateTime, Hueco>> dias = diasPorMedico.get(matriculaMedico);
+        long segundos = durMin * 60L;
+        for (int d = 0; d < cantidadDias; d++) {
+            LocalDate fecha = desde.plusDays(d);
+            ArbolIntervalos<LocalDateTime, Hueco> dia = dias != null ? dias.get(fecha) : null;
+            if (dia == null) {
+                if (Duration.between(INICIO_LABORAL, FIN_LABORAL).getSeconds() >= segundos) {
+                    resultado.insertLast(new Hueco(fecha.atTime(INICIO_LABORAL), fecha.atTime(FIN_LABORAL)));
+                }
+            } else {
+                // Los Hueco del árbol son inmutables: se pueden entregar tal cual
+                dia.forEachWithWeight(segundos, resultado::insertLast);
+            }
+        }
+    }
+
+    private static void agregar(ArbolIntervalos<LocalDateTime, Hueco> dia, LocalDateTime inicio, LocalDateTime fin) {
+        dia.insert(inicio, fin, new Hueco(inicio, fin));
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
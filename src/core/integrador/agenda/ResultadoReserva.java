@@ -0,0 +1,15 @@
+package core.integrador.agenda;
+
+/**
+ * Resultado de intentar agendar un turno dentro de un lote.
+ */
+public enum ResultadoReserva {
+    /** El turno quedó agendado */
+    AGENDADO,
+    /** Turno null, sin ID o sin duración positiva */
+    INVALIDO,
+    /** Ya existe un turno con ese ID (en la agenda o antes en el mismo lote) */
+    ID_DUPLICADO,
+    /** Se solapa con un turno agendado o con otro aceptado del mismo lote */
+    SOLAPAMIENTO
+}
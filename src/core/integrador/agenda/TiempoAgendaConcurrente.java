@@ -0,0 +1,150 @@
+package core.integrador.agenda;
+
+import core.integrador.modelo.Turno;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mide el rendimiento de AgendaMedicoTree con varios hilos.
+ *
+ * Cada hilo hace una mezcla de operaciones de recepción: consultas
+ * (siguiente, cantidadTurnosEntre, primerHueco de un médico) y reservas.
+ * La mitad de las reservas cae sobre un horario ya ocupado, como pasa
+ * cuando dos recepcionistas ofrecen el mismo hueco.
+ *
+ * Se compara la agenda con StampedLock contra la misma agenda con cada
+ * llamada envuelta en synchronized, que reproduce el monitor único
+ * anterior. La ganancia depende de los núcleos disponibles: con uno solo
+ * ambas versiones rinden parecido.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoAgendaConcurrente {
+
+    private static final int TURNOS_INICIALES = 50_000;
+    private static final int MEDICOS = 400;
+    private static final int OPERACIONES_POR_HILO = 200_000;
+    private static final int PORCENTAJE_RESERVAS = 10;
+    private static final int[] HILOS = {1, 2, 4, 8};
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    public static void compararBloqueos() throws Exception {
+        System.out.println("=== AGENDA CONCURRENTE: monitor único vs StampedLock ===");
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " procesadores, "
+                + OPERACIONES_POR_HILO + " operaciones por hilo, "
+                + PORCENTAJE_RESERVAS + "% reservas)");
+
+        // Calentamiento del JIT, sin mostrar
+        medir(4, true);
+        medir(4, false);
+
+        for (int hilos : HILOS) {
+            double monitor = medir(hilos, true);
+            double stamped = medir(hilos, false);
+            System.out.printf("%d hilo(s) | monitor único: %8.1f ops/ms | StampedLock: %8.1f ops/ms | x%.2f%n",
+                    hilos, monitor, stamped, stamped / monitor);
+        }
+    }
+
+    /**
+     * Corre la mezcla de operaciones con una agenda nueva.
+     *
+     * @param hilos Cantidad de hilos concurrentes
+     * @param monitorUnico true para serializar cada llamada con synchronized
+     * @return Operaciones por milisegundo
+     */
+    private static double medir(int hilos, boolean monitorUnico) throws Exception {
+        AgendaMedicoTree agenda = new AgendaMedicoTree();
+        for (int i = 0; i < TURNOS_INICIALES; i++) {
+            agenda.agendar(new Turno("INI-" + i, "DNI", matricula(i), BASE.plusMinutes(60L * i), 30, "Control"));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Long>> resultados = new ArrayList<>();
+        try {
+            for (int h = 0; h < hilos; h++) {
+                int hilo = h;
+                Callable<Long> tarea = () -> {
+                    largada.await();
+                    return operar(agenda, hilo, monitorUnico);
+                };
+                resultados.add(pool.submit(tarea));
+            }
+
+            long inicio = System.nanoTime();
+            largada.countDown();
+            long checksum = 0;
+            for (Future<Long> resultado : resultados) {
+                checksum += resultado.get();
+            }
+            double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+
+            if (checksum < 0) {
+                System.out.println(checksum); // Evita que el JIT descarte las consultas
+            }
+            return (double) hilos * OPERACIONES_POR_HILO / ms;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long operar(AgendaMedicoTree agenda, int hilo, boolean monitorUnico) {
+        Random random = new Random(hilo);
+        long checksum = 0;
+        int reservas = 0;
+
+        for (int op = 0; op < OPERACIONES_POR_HILO; op++) {
+            int tipo = random.nextInt(100);
+            int slot = random.nextInt(TURNOS_INICIALES);
+            LocalDateTime t = BASE.plusMinutes(60L * slot);
+
+            if (tipo < PORCENTAJE_RESERVAS) {
+                // Media hora libre después de cada turno inicial, o el mismo horario ocupado
+                LocalDateTime inicio = random.nextBoolean() ? t.plusMinutes(30) : t;
+                Turno turno = new Turno("H" + hilo + "-" + reservas++, "DNI", matricula(slot), inicio, 30, "Control");
+                if (monitorUnico) {
+                    synchronized (agenda) {
+                        checksum += agenda.agendar(turno) ? 1 : 0;
+                    }
+                } else {
+                    checksum += agenda.agendar(turno) ? 1 : 0;
+                }
+            } else if (monitorUnico) {
+                synchronized (agenda) {
+                    checksum += consultar(agenda, tipo, slot, t);
+                }
+            } else {
+                checksum += consultar(agenda, tipo, slot, t);
+            }
+        }
+        return checksum;
+    }
+
+    private static long consultar(AgendaMedicoTree agenda, int tipo, int slot, LocalDateTime t) {
+        if (tipo < 50) {
+            return agenda.siguiente(t).isPresent() ? 1 : 0;
+        }
+        if (tipo < 80) {
+            return agenda.cantidadTurnosEntre(t, t.plusDays(1));
+        }
+        return agenda.primerHueco(matricula(slot), t, 30).isPresent() ? 1 : 0;
+    }
+
+    private static String matricula(int i) {
+        return "MP" + (10_000 + i % MEDICOS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        compararBloqueos();
+    }
+}
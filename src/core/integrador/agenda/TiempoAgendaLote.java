@@ -0,0 +1,112 @@
+package core.integrador.agenda;
+
+import core.integrador.modelo.Turno;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara agendar turnos de a uno contra agendarLote.
+ *
+ * Los lotes llegan desordenados, como en una importación, y un 10% de los
+ * turnos pisa el horario de otro. Se mide con la agenda vacía (el lote
+ * arma el árbol de una sola vez) y con una agenda que ya tiene turnos
+ * (el lote valida con un barrido y después inserta).
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoAgendaLote {
+
+    private static final int[] TAMANIOS = {10_000, 100_000};
+    private static final int REPETICIONES = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    public static void compararLote() {
+        System.out.println("=== AGENDA: agendar() en bucle vs agendarLote() ===");
+
+        // Calentamiento del JIT, sin mostrar
+        for (int i = 0; i < 3; i++) {
+            medir(20_000, false, true);
+            medir(20_000, false, false);
+        }
+
+        for (boolean conTurnosPrevios : new boolean[]{false, true}) {
+            System.out.println(conTurnosPrevios ? "\nAgenda con turnos previos:" : "\nAgenda vacía:");
+            for (int n : TAMANIOS) {
+                long bucle = Long.MAX_VALUE;
+                long lote = Long.MAX_VALUE;
+                for (int r = 0; r < REPETICIONES; r++) {
+                    bucle = Math.min(bucle, medir(n, conTurnosPrevios, true));
+                    lote = Math.min(lote, medir(n, conTurnosPrevios, false));
+                }
+                System.out.printf("n=%,8d | bucle: %8.2f ms | lote: %8.2f ms | x%.2f%n",
+                        n, bucle / 1e6, lote / 1e6, (double) bucle / lote);
+            }
+        }
+    }
+
+    /**
+     * Agenda n turnos en una agenda nueva y devuelve el tiempo en nanosegundos.
+     *
+     * @param n Tamaño del lote
+     * @param conTurnosPrevios true para cargar antes n turnos en los huecos del lote
+     * @param enBucle true para llamar a agendar() por cada turno
+     */
+    private static long medir(int n, boolean conTurnosPrevios, boolean enBucle) {
+        AgendaMedicoTree agenda = new AgendaMedicoTree();
+        if (conTurnosPrevios) {
+            // Turnos en la segunda media hora de cada hora: no chocan con el lote
+            List<Turno> previos = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                previos.add(new Turno("PRE-" + i, "DNI", matricula(i), BASE.plusMinutes(60L * i + 30), 30, "Control"));
+            }
+            agenda.agendarLote(previos);
+        }
+        List<Turno> lote = generarLote(n);
+
+        long inicio = System.nanoTime();
+        int agendados = 0;
+        if (enBucle) {
+            for (Turno turno : lote) {
+                agendados += agenda.agendar(turno) ? 1 : 0;
+            }
+        } else {
+            for (ResultadoReserva resultado : agenda.agendarLote(lote)) {
+                agendados += resultado == ResultadoReserva.AGENDADO ? 1 : 0;
+            }
+        }
+        long tiempo = System.nanoTime() - inicio;
+
+        if (agendados < 0) {
+            System.out.println(agendados); // Evita que el JIT descarte el resultado
+        }
+        return tiempo;
+    }
+
+    /**
+     * Un turno de 30 minutos al comienzo de cada hora, mezclados; uno de cada
+     * diez se corre 15 minutos y se solapa con el siguiente.
+     */
+    private static List<Turno> generarLote(int n) {
+        Random random = new Random(42);
+        List<Turno> lote = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long minutos = 60L * i + (random.nextInt(10) == 0 ? 45 : 0);
+            lote.add(new Turno("LOTE-" + i, "DNI", matricula(i), BASE.plusMinutes(minutos), 30, "Control"));
+        }
+        Collections.shuffle(lote, random);
+        return lote;
+    }
+
+    private static String matricula(int i) {
+        return "MP" + (10_000 + i % 400);
+    }
+
+    public static void main(String[] args) {
+        compararLote();
+    }
+}
@@ -3,16 +3,29 @@ package core.integrador.carga;
 import core.integrador.modelo.Medico;
 import core.integrador.modelo.Paciente;
 import core.integrador.modelo.Turno;
+import core.estructuras.colas.ColaEnlazada;
 import core.estructuras.listas.ListaEnlazada;
 import core.estructuras.hash.TablaHash;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Sistema que carga y mantiene pacientes, médicos y turnos usando estructuras del repositorio.
@@ -20,6 +33,7 @@ import java.time.format.DateTimeFormatter;
  * Estructuras utilizadas:
  * - ListaEnlazada<T> para almacenar colecciones
  * - TablaHash<String, T> para búsquedas O(1) por clave (DNI, matrícula)
+ * - LectorCSV para leer los archivos por filas, sin tenerlos completos en memoria
  * 
  * @author Integrador
  * @version 2.0
@@ -37,89 +51,172 @@ public class CargadorCSV {
 	public static final String DEFAULT_PACIENTES = "src/core/integrador/datos/pacientes.csv";
 	public static final String DEFAULT_MEDICOS = "src/core/integrador/datos/medicos.csv";
 	public static final String DEFAULT_TURNOS = "src/core/integrador/datos/turnos.csv";
+	public static final String DEFAULT_SNAPSHOT = "src/core/integrador/datos/integrador.snap";
 
-	/** Carga los tres CSV por las rutas por defecto. */
+	// Carga paralela: bloques por hilo (para repartir mejor la carga) y límites de tamaño.
+	// Un bloque mapeado no puede superar los 2 GB de un MappedByteBuffer.
+	private static final int BLOQUES_POR_HILO = 4;
+	private static final long MIN_BLOQUE = 1L << 16;
+	private static final long MAX_BLOQUE = 1L << 30;
+
+	// Importación por etapas: filas por lote que se valida en otro hilo
+	private static final int TAMANIO_LOTE = 4096;
+
+	// Formatos alternativos a ISO, creados una sola vez y no por fila
+	private static final DateTimeFormatter[] FORMATOS_FECHA = {
+		DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+		DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"),
+		DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"),
+		DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")
+	};
+
+	/** Carga los tres CSV por las rutas por defecto, usando el snapshot binario si está al día. */
 	public void loadAll() throws IOException {
-		loadPacientes(DEFAULT_PACIENTES);
-		loadMedicos(DEFAULT_MEDICOS);
-		loadTurnos(DEFAULT_TURNOS);
+		loadAllConSnapshot(DEFAULT_SNAPSHOT);
 	}
 
-	/** Carga pacientes desde un CSV (formato: dni,nombre). */
-	public void loadPacientes(String csvPath) throws IOException {
-		Path p = resolverRuta(csvPath);
+	/** Igual que loadAll() con otro archivo de snapshot. */
+	public boolean loadAllConSnapshot(String rutaSnapshot) throws IOException {
+		return loadAllConSnapshot(DEFAULT_PACIENTES, DEFAULT_MEDICOS, DEFAULT_TURNOS, rutaSnapshot);
+	}
+
+	/**
+	 * Carga pacientes, médicos y turnos desde el snapshot binario si existe,
+	 * está sano y corresponde a los CSV actuales (mismo tamaño y fecha de
+	 * modificación). Si no, carga los CSV (los turnos con importarTurnos, que
+	 * informa los rechazos en un solo reporte) y escribe el snapshot para el
+	 * próximo arranque.
+	 * 
+	 * @param pacientesCsv Ruta del CSV de pacientes
+	 * @param medicosCsv Ruta del CSV de médicos
+	 * @param turnosCsv Ruta del CSV de turnos
+	 * @param rutaSnapshot Ruta del archivo de snapshot
+	 * @return true si los datos salieron del snapshot, false si se parsearon los CSV
+	 */
+	public boolean loadAllConSnapshot(String pacientesCsv, String medicosCsv, String turnosCsv,
+									  String rutaSnapshot) throws IOException {
+		Path[] fuentes = {resolverRuta(pacientesCsv), resolverRuta(medicosCsv), resolverRuta(turnosCsv)};
+		long[] huellas = new long[2 * fuentes.length];
+		for (int i = 0; i < fuentes.length; i++) {
+			huellas[2 * i] = Files.size(fuentes[i]);
+			huellas[2 * i + 1] = Files.getLastModifiedTime(fuentes[i]).toMillis();
+		}
+		Path snapshot = Paths.get(rutaSnapshot);
 		
-		java.util.List<String> lines = Files.readAllLines(p);
-		if (lines.size() <= 1) return; // sin datos
+		SnapshotBinario.Contenido contenido = SnapshotBinario.leer(snapshot, huellas);
+		if (contenido != null) {
+			pacientes.clear();
+			pacientesPorDni.clear();
+			for (Paciente paciente : contenido.pacientes) {
+				pacientes.insertLast(paciente);
+				pacientesPorDni.put(paciente.getDni(), paciente);
+			}
+			medicos.clear();
+			medicosPorMatricula.clear();
+			for (Medico medico : contenido.medicos) {
+				medicos.insertLast(medico);
+				medicosPorMatricula.put(medico.getMatricula(), medico);
+			}
+			turnos.clear();
+			for (Turno turno : contenido.turnos) {
+				turnos.insertLast(turno);
+			}
+			return true;
+		}
 		
-		TablaHash<String, Integer> header = parseHeaderLine(lines.get(0));
-		Integer dniIdx = header.get("dni");
-		Integer nombreIdx = header.get("nombre");
-		int idxDni = (dniIdx != null) ? dniIdx : 0;
-		int idxNombre = (nombreIdx != null) ? nombreIdx : 1;
+		loadPacientes(fuentes[0].toString());
+		loadMedicos(fuentes[1].toString());
+		ReporteImportacion reporte = importarTurnos(fuentes[2].toString());
+		if (reporte.tieneRechazos()) {
+			reporte.imprimir(System.err);
+		}
+		// Si no se puede escribir, el próximo arranque vuelve a usar los CSV
+		try {
+			if (!SnapshotBinario.escribir(snapshot, huellas, pacientes, medicos, turnos)) {
+				System.err.println("[snapshot] No se escribió: hay turnos con segundos o fuera de rango");
+			}
+		} catch (IOException ex) {
+			System.err.println("[snapshot] No se pudo escribir " + rutaSnapshot + ": " + ex.getMessage());
+		}
+		return false;
+	}
 
+	/** Carga pacientes desde un CSV (formato: dni,nombre). */
+	public void loadPacientes(String csvPath) throws IOException {
 		pacientes.clear();
 		pacientesPorDni.clear();
-		
-		for (int i = 1; i < lines.size(); i++) {
-			String line = lines.get(i).trim();
-			if (line.isEmpty()) continue;
+		procesarPacientes(csvPath, paciente -> {
+			pacientes.insertLast(paciente);
+			pacientesPorDni.put(paciente.getDni(), paciente);
+		});
+	}
+
+	/**
+	 * Lee pacientes fila por fila y entrega cada uno a sink, sin guardarlos.
+	 * La memoria usada no depende del tamaño del archivo.
+	 */
+	public void procesarPacientes(String csvPath, Consumer<Paciente> sink) throws IOException {
+		try (LectorCSV lector = LectorCSV.abrir(resolverRuta(csvPath))) {
+			if (!lector.siguienteFila()) return; // sin cabecera
 			
-			String[] cols = line.split(",", -1);
+			TablaHash<String, Integer> header = parseHeader(lector);
+			Integer dniIdx = header.get("dni");
+			Integer nombreIdx = header.get("nombre");
+			int idxDni = (dniIdx != null) ? dniIdx : 0;
+			int idxNombre = (nombreIdx != null) ? nombreIdx : 1;
 			int need = Math.max(idxDni, idxNombre);
 			
-			if (cols.length > need) {
-				String dni = cols[idxDni].trim();
-				String nombre = cols[idxNombre].trim();
+			while (lector.siguienteFila()) {
+				if (lector.esVacia()) continue;
 				
-				if (!dni.isEmpty() && !nombre.isEmpty()) {
-					Paciente paciente = new Paciente(dni, nombre);
-					pacientes.insertLast(paciente);
-					pacientesPorDni.put(dni, paciente);
+				if (lector.cantidadCampos() > need) {
+					if (!lector.campoVacio(idxDni) && !lector.campoVacio(idxNombre)) {
+						sink.accept(new Paciente(lector.campo(idxDni), lector.campo(idxNombre)));
+					}
+				} else {
+					System.err.println("[pacientes] Fila inválida: " + lector.fila());
 				}
-			} else {
-				System.err.println("[pacientes] Fila inválida: " + line);
 			}
 		}
 	}
 
 	/** Carga médicos desde un CSV (formato: matricula,nombre,especialidad). */
 	public void loadMedicos(String csvPath) throws IOException {
-		Path p = resolverRuta(csvPath);
-		
-		java.util.List<String> lines = Files.readAllLines(p);
-		if (lines.size() <= 1) return;
-		
-		TablaHash<String, Integer> header = parseHeaderLine(lines.get(0));
-		Integer matIdx = header.get("matricula");
-		Integer nombreIdx = header.get("nombre");
-		Integer espIdx = header.get("especialidad");
-		int idxMat = (matIdx != null) ? matIdx : 0;
-		int idxNombre = (nombreIdx != null) ? nombreIdx : 1;
-		int idxEsp = (espIdx != null) ? espIdx : 2;
-
 		medicos.clear();
 		medicosPorMatricula.clear();
-		
-		for (int i = 1; i < lines.size(); i++) {
-			String line = lines.get(i).trim();
-			if (line.isEmpty()) continue;
+		procesarMedicos(csvPath, medico -> {
+			medicos.insertLast(medico);
+			medicosPorMatricula.put(medico.getMatricula(), medico);
+		});
+	}
+
+	/**
+	 * Lee médicos fila por fila y entrega cada uno a sink, sin guardarlos.
+	 * La memoria usada no depende del tamaño del archivo.
+	 */
+	public void procesarMedicos(String csvPath, Consumer<Medico> sink) throws IOException {
+		try (LectorCSV lector = LectorCSV.abrir(resolverRuta(csvPath))) {
+			if (!lector.siguienteFila()) return;
 			
-			String[] cols = line.split(",", -1);
+			TablaHash<String, Integer> header = parseHeader(lector);
+			Integer matIdx = header.get("matricula");
+			Integer nombreIdx = header.get("nombre");
+			Integer espIdx = header.get("especialidad");
+			int idxMat = (matIdx != null) ? matIdx : 0;
+			int idxNombre = (nombreIdx != null) ? nombreIdx : 1;
+			int idxEsp = (espIdx != null) ? espIdx : 2;
 			int need = Math.max(idxMat, Math.max(idxNombre, idxEsp));
 			
-			if (cols.length > need) {
-				String matricula = cols[idxMat].trim();
-				String nombre = cols[idxNombre].trim();
-				String especialidad = cols[idxEsp].trim();
+			while (lector.siguienteFila()) {
+				if (lector.esVacia()) continue;
 				
-				if (!matricula.isEmpty() && !nombre.isEmpty()) {
-					Medico medico = new Medico(matricula, nombre, especialidad);
-					medicos.insertLast(medico);
-					medicosPorMatricula.put(matricula, medico);
+				if (lector.cantidadCampos() > need) {
+					if (!lector.campoVacio(idxMat) && !lector.campoVacio(idxNombre)) {
+						sink.accept(new Medico(lector.campo(idxMat), lector.campo(idxNombre), lector.campo(idxEsp)));
+					}
+				} else {
+					System.err.println("[medicos] Fila inválida: " + lector.fila());
 				}
-			} else {
-				System.err.println("[medicos] Fila inválida: " + line);
 			}
 		}
 	}
@@ -127,12 +224,192 @@ public class CargadorCSV {
 
 	/** Carga turnos desde CSV. Valida existencia de paciente y médico y parsea fecha/duración. */
 	public void loadTurnos(String csvPath) throws IOException {
-		Path p = resolverRuta(csvPath);
-		
-		java.util.List<String> lines = Files.readAllLines(p);
-		if (lines.size() <= 1) return;
+		turnos.clear();
+		procesarTurnos(csvPath, turnos::insertLast);
+	}
+
+	/**
+	 * Lee turnos fila por fila, con las mismas validaciones que loadTurnos,
+	 * y entrega cada turno válido a sink sin guardarlo. Sirve para volcar
+	 * exportaciones muy grandes (por ejemplo, directo a una agenda) sin tener
+	 * el archivo ni la lista completa en memoria.
+	 * Solo se crean Strings para las columnas que se usan.
+	 */
+	public void procesarTurnos(String csvPath, Consumer<Turno> sink) throws IOException {
+		try (LectorCSV lector = LectorCSV.abrir(resolverRuta(csvPath))) {
+			if (!lector.siguienteFila()) return;
+			
+			int[] indices = indicesTurnos(lector);
+			procesarFilasTurnos(lector, indices, sink, System.err::println);
+		}
+	}
+
+	/**
+	 * Carga turnos repartiendo el parseo entre todos los procesadores.
+	 * Mismo resultado y mismos mensajes que loadTurnos.
+	 */
+	public void loadTurnosParalelo(String csvPath) throws IOException {
+		loadTurnosParalelo(csvPath, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Carga turnos mapeando el archivo en memoria y parseándolo en paralelo.
+	 * 
+	 * El archivo se parte en bloques que terminan en un salto de línea (un
+	 * byte '\n' nunca aparece dentro de un carácter UTF-8 de varios bytes).
+	 * Cada bloque se parsea en un ForkJoinPool con su propio LectorCSV, con
+	 * las mismas validaciones que loadTurnos, y junta sus turnos y sus
+	 * mensajes en listas propias. Al final se concatenan en el orden de los
+	 * bloques: la lista de turnos y los mensajes de error quedan en el mismo
+	 * orden que en una carga secuencial.
+	 * 
+	 * Los hilos solo leen las tablas de pacientes y médicos, que no cambian
+	 * durante la carga.
+	 * 
+	 * @param csvPath Ruta del CSV de turnos
+	 * @param hilos Cantidad de hilos de parseo
+	 * @throws IllegalArgumentException si hilos es menor o igual a 0
+	 */
+	public void loadTurnosParalelo(String csvPath, int hilos) throws IOException {
+		if (hilos <= 0) {
+			throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0");
+		}
+		turnos.clear();
 		
-		TablaHash<String, Integer> header = parseHeaderLine(lines.get(0));
+		try (FileChannel canal = FileChannel.open(resolverRuta(csvPath), StandardOpenOption.READ)) {
+			long tamanio = canal.size();
+			if (tamanio == 0) return;
+			
+			// Cabecera: hasta el primer salto de línea
+			long finCabecera = finDeLinea(canal, 0, tamanio);
+			int[] indices;
+			try (LectorCSV lector = lectorDe(canal, 0, finCabecera)) {
+				if (!lector.siguienteFila()) return;
+				indices = indicesTurnos(lector);
+			}
+			
+			// Límites de los bloques, ajustados al siguiente salto de línea
+			long datos = tamanio - finCabecera;
+			int cantidadBloques = (int) Math.max(hilos * BLOQUES_POR_HILO, (datos + MAX_BLOQUE - 1) / MAX_BLOQUE);
+			cantidadBloques = (int) Math.max(1, Math.min(cantidadBloques, datos / MIN_BLOQUE));
+			long[] limites = new long[cantidadBloques + 1];
+			limites[0] = finCabecera;
+			limites[cantidadBloques] = tamanio;
+			for (int k = 1; k < cantidadBloques; k++) {
+				long objetivo = Math.max(limites[k - 1], finCabecera + datos * k / cantidadBloques);
+				limites[k] = finDeLinea(canal, objetivo, tamanio);
+			}
+			
+			ColaEnlazada<Future<BloqueTurnos>> pendientes = new ColaEnlazada<>();
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			try {
+				for (int k = 0; k < cantidadBloques; k++) {
+					long desde = limites[k];
+					long hasta = limites[k + 1];
+					pendientes.enqueue(pool.submit(() -> {
+						BloqueTurnos bloque = new BloqueTurnos();
+						try (LectorCSV lector = lectorDe(canal, desde, hasta)) {
+							procesarFilasTurnos(lector, indices, bloque.turnos::insertLast, bloque.mensajes::insertLast);
+						}
+						return bloque;
+					}));
+				}
+				
+				// Unión determinística: en el orden de los bloques en el archivo
+				while (!pendientes.isEmpty()) {
+					BloqueTurnos bloque = obtener(pendientes.dequeue());
+					for (String mensaje : bloque.mensajes) {
+						System.err.println(mensaje);
+					}
+					for (Turno turno : bloque.turnos) {
+						turnos.insertLast(turno);
+					}
+				}
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+	}
+
+	/** Resultado de parsear un bloque del archivo */
+	private static final class BloqueTurnos {
+		final ListaEnlazada<Turno> turnos = new ListaEnlazada<>();
+		final ListaEnlazada<String> mensajes = new ListaEnlazada<>();
+	}
+
+	private static <R> R obtener(Future<R> pendiente) throws IOException {
+		try {
+			return pendiente.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Carga de turnos interrumpida", ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException) {
+				throw (IOException) ex.getCause();
+			}
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IOException("Error al parsear un bloque de turnos", ex.getCause());
+		}
+	}
+
+	/**
+	 * Lector sobre la región [desde, hasta) del archivo mapeado en memoria
+	 */
+	private static LectorCSV lectorDe(FileChannel canal, long desde, long hasta) throws IOException {
+		MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_ONLY, desde, hasta - desde);
+		InputStream bytes = new InputStream() {
+			@Override
+			public int read() {
+				return region.hasRemaining() ? region.get() & 0xFF : -1;
+			}
+			
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (!region.hasRemaining()) return -1;
+				int n = Math.min(len, region.remaining());
+				region.get(b, off, n);
+				return n;
+			}
+		};
+		return new LectorCSV(new InputStreamReader(bytes, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Posición siguiente al primer '\n' desde 'desde', o el final del archivo.
+	 * Recorre el archivo en ventanas mapeadas de a lo sumo MAX_BLOQUE bytes.
+	 */
+	private static long finDeLinea(FileChannel canal, long desde, long tamanio) throws IOException {
+		long base = desde;
+		while (base < tamanio) {
+			long largo = Math.min(tamanio - base, MAX_BLOQUE);
+			long fin = finDeLinea(canal.map(FileChannel.MapMode.READ_ONLY, base, largo), base, base + largo);
+			if (fin < base + largo || base + largo == tamanio) {
+				return fin;
+			}
+			base += largo;
+		}
+		return tamanio;
+	}
+
+	/** Igual que el anterior, dentro de una región ya mapeada que empieza en 'base' */
+	private static long finDeLinea(MappedByteBuffer region, long base, long limite) {
+		int largo = (int) Math.min(region.limit(), limite - base);
+		for (int i = 0; i < largo; i++) {
+			if (region.get(i) == '\n') {
+				return base + i + 1;
+			}
+		}
+		return base + largo;
+	}
+
+	/**
+	 * Índices de las columnas de turnos según la cabecera; el último es el
+	 * mayor índice, que indica cuántas columnas necesita una fila válida
+	 */
+	private int[] indicesTurnos(LectorCSV lector) {
+		TablaHash<String, Integer> header = parseHeader(lector);
 		Integer idIdx = header.get("id");
 		Integer dniIdx = header.get("dnipaciente");
 		Integer matIdx = header.get("matriculamedico");
@@ -145,52 +422,191 @@ public class CargadorCSV {
 		int idxFecha = (fechaIdx != null) ? fechaIdx : 3;
 		int idxDur = (durIdx != null) ? durIdx : 4;
 		int idxMot = (motIdx != null) ? motIdx : 5;
+		int need = Math.max(Math.max(idxId, idxDni), 
+						   Math.max(Math.max(idxMat, idxFecha), 
+						   Math.max(idxDur, idxMot)));
+		return new int[] {idxId, idxDni, idxMat, idxFecha, idxDur, idxMot, need};
+	}
+
+	/**
+	 * Valida y convierte las filas restantes del lector. Los turnos válidos van
+	 * a sink y cada fila descartada deja un mensaje en log.
+	 */
+	private void procesarFilasTurnos(LectorCSV lector, int[] indices, Consumer<Turno> sink,
+									 Consumer<String> log) throws IOException {
+		while (lector.siguienteFila()) {
+			if (lector.esVacia()) continue;
+			
+			FilaTurno fila = leerFilaTurno(lector, indices);
+			validarFilaTurno(fila);
+			if (fila.turno != null) {
+				sink.accept(fila.turno);
+			} else {
+				log.accept("[turnos] " + fila.mensaje);
+			}
+		}
+	}
+
+	/**
+	 * Importa turnos en tres etapas y devuelve un reporte de rechazos en lugar
+	 * de escribir cada uno en consola. Usa todos los procesadores.
+	 */
+	public ReporteImportacion importarTurnos(String csvPath) throws IOException {
+		return importarTurnos(csvPath, Runtime.getRuntime().availableProcessors());
+	}
 
+	/**
+	 * Importa turnos en tres etapas:
+	 * 1. Parseo: este hilo lee el archivo y arma lotes de filas con sus campos.
+	 * 2. Validación: cada lote se valida en un ForkJoinPool contra las tablas
+	 *    de pacientes y médicos, que durante la importación solo se leen
+	 *    (fechas, duraciones y existencia de las claves foráneas).
+	 * 3. Confirmación: los lotes se confirman en el orden del archivo; los
+	 *    turnos válidos van a la lista y los rechazos al reporte.
+	 * 
+	 * A lo sumo hay 2 * hilos lotes en vuelo: cuando se llena, se confirma
+	 * el más viejo antes de leer otro, así la memoria no crece con el archivo.
+	 * Acepta y rechaza exactamente las mismas filas que loadTurnos.
+	 * 
+	 * @param csvPath Ruta del CSV de turnos
+	 * @param hilos Cantidad de hilos de validación
+	 * @return Reporte con totales, cantidad por motivo y los primeros rechazos
+	 * @throws IllegalArgumentException si hilos es menor o igual a 0
+	 */
+	public ReporteImportacion importarTurnos(String csvPath, int hilos) throws IOException {
+		if (hilos <= 0) {
+			throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0");
+		}
 		turnos.clear();
+		ReporteImportacion reporte = new ReporteImportacion();
 		
-		for (int i = 1; i < lines.size(); i++) {
-			String line = lines.get(i).trim();
-			if (line.isEmpty()) continue;
-			
-			String[] cols = line.split(",", -1);
-			int need = Math.max(Math.max(idxId, idxDni), 
-							   Math.max(Math.max(idxMat, idxFecha), 
-							   Math.max(idxDur, idxMot)));
+		try (LectorCSV lector = LectorCSV.abrir(resolverRuta(csvPath))) {
+			if (!lector.siguienteFila()) return reporte;
+			int[] indices = indicesTurnos(lector);
 			
-			if (cols.length > need) {
-				String id = cols[idxId].trim();
-				String dniPaciente = cols[idxDni].trim();
-				String matriculaMedico = cols[idxMat].trim();
-				String fechaStr = cols[idxFecha].trim();
-				String durStr = cols[idxDur].trim();
-				String motivo = cols[idxMot].trim();
-
-				// Búsqueda O(1) usando TablaHash
-				Paciente paciente = findPacienteByDni(dniPaciente);
-				if (paciente == null) {
-					System.err.println("[turnos] Turno " + id + " ignorado: paciente no encontrado -> " + dniPaciente);
-					continue;
+			ColaEnlazada<Future<FilaTurno[]>> enVuelo = new ColaEnlazada<>();
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			try {
+				FilaTurno[] lote;
+				while ((lote = leerLoteTurnos(lector, indices)) != null) {
+					FilaTurno[] filas = lote;
+					enVuelo.enqueue(pool.submit(() -> {
+						for (FilaTurno fila : filas) {
+							validarFilaTurno(fila);
+						}
+						return filas;
+					}));
+					if (enVuelo.getSize() > 2 * hilos) {
+						confirmarLote(obtener(enVuelo.dequeue()), reporte);
+					}
 				}
-
-				// Búsqueda O(1) usando TablaHash
-				Medico medico = findMedicoByMatricula(matriculaMedico);
-				if (medico == null) {
-					System.err.println("[turnos] Turno " + id + " ignorado: medico no encontrado -> " + matriculaMedico);
-					continue;
+				while (!enVuelo.isEmpty()) {
+					confirmarLote(obtener(enVuelo.dequeue()), reporte);
 				}
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+		return reporte;
+	}
 
-				try {
-					LocalDateTime fecha = parseFecha(fechaStr);
-					int duracion = Integer.parseInt(durStr);
-					turnos.insertLast(new Turno(id, dniPaciente, matriculaMedico, fecha, duracion, motivo));
-				} catch (NumberFormatException ex) {
-					System.err.println("[turnos] Turno " + id + " ignorado por duración inválida ('" + durStr + "')");
-				} catch (DateTimeParseException ex) {
-					System.err.println("[turnos] Turno " + id + " ignorado por fecha inválida ('" + fechaStr + "'): " + ex.getMessage());
-				}
+	/** Etapa de parseo: hasta TAMANIO_LOTE filas no vacías, o null al final del archivo */
+	private static FilaTurno[] leerLoteTurnos(LectorCSV lector, int[] indices) throws IOException {
+		FilaTurno[] lote = new FilaTurno[TAMANIO_LOTE];
+		int cantidad = 0;
+		while (cantidad < TAMANIO_LOTE && lector.siguienteFila()) {
+			if (!lector.esVacia()) {
+				lote[cantidad++] = leerFilaTurno(lector, indices);
+			}
+		}
+		if (cantidad == 0) {
+			return null;
+		}
+		return cantidad == TAMANIO_LOTE ? lote : Arrays.copyOf(lote, cantidad);
+	}
+
+	/** Etapa de confirmación: en el orden del archivo */
+	private void confirmarLote(FilaTurno[] lote, ReporteImportacion reporte) {
+		for (FilaTurno fila : lote) {
+			if (fila.turno != null) {
+				turnos.insertLast(fila.turno);
+				reporte.registrarAceptado();
 			} else {
-				System.err.println("[turnos] Fila inválida: " + line);
+				reporte.registrarRechazo(fila.numero, fila.rechazo, fila.mensaje);
+			}
+		}
+	}
+
+	/** Una fila de turnos: sus campos y, después de validarla, el turno o el rechazo */
+	private static final class FilaTurno {
+		long numero;
+		String id;
+		String dniPaciente;
+		String matriculaMedico;
+		String fecha;
+		int duracion;
+		String duracionInvalida;	// Texto original, solo si no es un entero
+		String motivo;
+		
+		Turno turno;
+		MotivoRechazo rechazo;
+		String mensaje;
+	}
+
+	/** Copia los campos de la fila actual del lector (o la marca como inválida si le faltan columnas) */
+	private static FilaTurno leerFilaTurno(LectorCSV lector, int[] indices) {
+		FilaTurno fila = new FilaTurno();
+		fila.numero = lector.getNumeroFila();
+		if (lector.cantidadCampos() <= indices[6]) {
+			fila.rechazo = MotivoRechazo.FILA_INVALIDA;
+			fila.mensaje = "Fila inválida: " + lector.fila();
+			return fila;
+		}
+		fila.id = lector.campo(indices[0]);
+		fila.dniPaciente = lector.campo(indices[1]);
+		fila.matriculaMedico = lector.campo(indices[2]);
+		fila.fecha = lector.campo(indices[3]);
+		try {
+			fila.duracion = lector.campoEntero(indices[4]); // Sin crear un String
+		} catch (NumberFormatException ex) {
+			fila.duracionInvalida = lector.campo(indices[4]);
+		}
+		fila.motivo = lector.campo(indices[5]);
+		return fila;
+	}
+
+	/**
+	 * Valida una fila contra pacientes y médicos y convierte fecha y duración.
+	 * Solo lee las tablas, así que varios hilos pueden validar a la vez.
+	 */
+	private void validarFilaTurno(FilaTurno fila) {
+		if (fila.rechazo != null) return;
+		
+		// Búsqueda O(1) usando TablaHash
+		if (findPacienteByDni(fila.dniPaciente) == null) {
+			fila.rechazo = MotivoRechazo.PACIENTE_INEXISTENTE;
+			fila.mensaje = "Turno " + fila.id + " ignorado: paciente no encontrado -> " + fila.dniPaciente;
+			return;
+		}
+
+		// Búsqueda O(1) usando TablaHash
+		if (findMedicoByMatricula(fila.matriculaMedico) == null) {
+			fila.rechazo = MotivoRechazo.MEDICO_INEXISTENTE;
+			fila.mensaje = "Turno " + fila.id + " ignorado: medico no encontrado -> " + fila.matriculaMedico;
+			return;
+		}
+
+		try {
+			LocalDateTime fecha = parseFecha(fila.fecha);
+			if (fila.duracionInvalida != null) {
+				fila.rechazo = MotivoRechazo.DURACION_INVALIDA;
+				fila.mensaje = "Turno " + fila.id + " ignorado por duración inválida ('" + fila.duracionInvalida + "')";
+				return;
 			}
+			fila.turno = new Turno(fila.id, fila.dniPaciente, fila.matriculaMedico, fecha, fila.duracion, fila.motivo);
+		} catch (DateTimeParseException ex) {
+			fila.rechazo = MotivoRechazo.FECHA_INVALIDA;
+			fila.mensaje = "Turno " + fila.id + " ignorado por fecha inválida ('" + fila.fecha + "'): " + ex.getMessage();
 		}
 	}
 
@@ -254,6 +670,12 @@ public class CargadorCSV {
 	 * Intenta parsear una fecha con varios formatos comunes.
 	 */
 	private LocalDateTime parseFecha(String s) {
+		// Atajo para el formato de las exportaciones, sin DateTimeFormatter
+		LocalDateTime rapida = parseIsoRapido(s);
+		if (rapida != null) {
+			return rapida;
+		}
+		
 		// Prueba ISO primero (formato estándar)
 		try {
 			return LocalDateTime.parse(s);
@@ -261,16 +683,8 @@ public class CargadorCSV {
 			// continuará con otros formatos
 		}
 		
-		String[] patrones = {
-			"yyyy-MM-dd HH:mm:ss",
-			"yyyy-MM-dd HH:mm",
-			"dd/MM/yyyy HH:mm",
-			"dd-MM-yyyy HH:mm"
-		};
-		
-		for (String patron : patrones) {
+		for (DateTimeFormatter fmt : FORMATOS_FECHA) {
 			try {
-				DateTimeFormatter fmt = DateTimeFormatter.ofPattern(patron);
 				return LocalDateTime.parse(s, fmt);
 			} catch (DateTimeParseException ex) {
 				// seguir intentando
@@ -281,17 +695,56 @@ public class CargadorCSV {
 	}
 
 	/**
-	 * Parsea la línea de cabecera y devuelve una tabla hash nombre->índice (minúsculas, sin espacios).
+	 * Lee directamente "yyyy-MM-ddTHH:mm" o "yyyy-MM-ddTHH:mm:ss".
+	 * Ante cualquier otra forma o un valor fuera de rango devuelve null, y
+	 * parseFecha sigue con los formateadores (que dan el mensaje de error).
+	 */
+	private static LocalDateTime parseIsoRapido(String s) {
+		int n = s.length();
+		if ((n != 16 && n != 19) || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+				|| s.charAt(13) != ':' || (n == 19 && s.charAt(16) != ':')) {
+			return null;
+		}
+		int anio = digitos(s, 0, 4);
+		int mes = digitos(s, 5, 7);
+		int dia = digitos(s, 8, 10);
+		int hora = digitos(s, 11, 13);
+		int minuto = digitos(s, 14, 16);
+		int segundo = n == 19 ? digitos(s, 17, 19) : 0;
+		if ((anio | mes | dia | hora | minuto | segundo) < 0) {
+			return null;
+		}
+		try {
+			return LocalDateTime.of(anio, mes, dia, hora, minuto, segundo);
+		} catch (DateTimeException ex) {
+			return null;
+		}
+	}
+
+	/** Valor de los dígitos s[desde, hasta), o -1 si hay algo que no es dígito */
+	private static int digitos(String s, int desde, int hasta) {
+		int valor = 0;
+		for (int i = desde; i < hasta; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') return -1;
+			valor = valor * 10 + (c - '0');
+		}
+		return valor;
+	}
+
+	/**
+	 * Parsea la fila de cabecera y devuelve una tabla hash nombre->índice (minúsculas, sin espacios ni guiones bajos).
 	 */
-	private TablaHash<String, Integer> parseHeaderLine(String headerLine) {
+	private TablaHash<String, Integer> parseHeader(LectorCSV lector) {
 		TablaHash<String, Integer> map = new TablaHash<>();
-		if (headerLine == null) return map;
-		
-		String[] cols = headerLine.split(",", -1);
-		for (int i = 0; i < cols.length; i++) {
-			// Normalizar: minúsculas, sin espacios, sin guiones bajos
-			String key = cols[i].trim().toLowerCase().replaceAll("[_ ]", "");
-			map.put(key, i);
+		for (int i = 0; i < lector.cantidadCampos(); i++) {
+			String col = lector.campo(i).toLowerCase();
+			StringBuilder key = new StringBuilder(col.length());
+			for (int k = 0; k < col.length(); k++) {
+				char c = col.charAt(k);
+				if (c != '_' && c != ' ') key.append(c);
+			}
+			map.put(key.toString(), i);
 		}
 		
 		return map;
@@ -0,0 +1,237 @@
+package core.integrador.carga;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Lector de CSV por filas, con memoria acotada.
+ *
+ * Lee el archivo por bloques en un buffer de caracteres reutilizable y
+ * arma cada fila en otro buffer que también se reutiliza (solo crece si
+ * aparece una fila más larga que todas las anteriores). Al leer una fila
+ * solo se anotan las posiciones de las comas: un campo se convierte en
+ * String recién cuando se lo pide, así que las columnas que no se usan
+ * no generan basura. Sin expresiones regulares ni split.
+ *
+ * La memoria usada depende del largo de la fila más larga, no del
+ * tamaño del archivo.
+ *
+ * Acepta finales de línea \n, \r\n y \r. Los campos se separan por coma
+ * y se recortan los espacios de los extremos (como String.trim); no se
+ * interpretan comillas.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class LectorCSV implements Closeable {
+
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    private final Reader reader;
+    private final char[] buffer = new char[TAMANIO_BUFFER];
+    private int posicion;
+    private int limite;
+    private boolean saltarLF;           // La fila anterior terminó en \r: un \n inmediato no es fila nueva
+    private boolean primeraFila = true;
+
+    // Fila actual y límites [inicio, fin) de cada campo, ya recortados
+    private char[] linea = new char[256];
+    private int largoLinea;
+    private int[] inicios = new int[16];
+    private int[] fines = new int[16];
+    private int cantidadCampos;
+    private long numeroFila;
+
+    public LectorCSV(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Abre un archivo en UTF-8 para leerlo por filas.
+     */
+    public static LectorCSV abrir(Path archivo) throws IOException {
+        return new LectorCSV(new InputStreamReader(Files.newInputStream(archivo), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Avanza a la siguiente fila. Las filas en blanco también se devuelven
+     * (con esVacia() en true), así el número de fila coincide con el archivo.
+     *
+     * @return true si se leyó una fila, false al llegar al final del archivo
+     */
+    public boolean siguienteFila() throws IOException {
+        largoLinea = 0;
+        boolean leyoAlgo = false;
+        while (true) {
+            if (posicion == limite) {
+                limite = reader.read(buffer, 0, buffer.length);
+                posicion = 0;
+                if (limite <= 0) {
+                    limite = 0;
+                    if (!leyoAlgo) {
+                        return false;
+                    }
+                    break;
+                }
+            }
+            if (saltarLF) {
+                saltarLF = false;
+                if (buffer[posicion] == '\n') {
+                    posicion++;
+                    continue;
+                }
+            }
+            leyoAlgo = true;
+
+            // Copiar hasta el fin de línea o el fin del bloque
+            int inicio = posicion;
+            while (posicion < limite && buffer[posicion] != '\n' && buffer[posicion] != '\r') {
+                posicion++;
+            }
+            agregarALinea(inicio, posicion - inicio);
+            if (posicion < limite) {
+                saltarLF = buffer[posicion] == '\r';
+                posicion++;
+                break;
+            }
+        }
+
+        // Marca de orden de bytes al comienzo del archivo
+        if (primeraFila && largoLinea > 0 && linea[0] == '\uFEFF') {
+            System.arraycopy(linea, 1, linea, 0, --largoLinea);
+        }
+        primeraFila = false;
+        numeroFila++;
+        separarCampos();
+        return true;
+    }
+
+    private void agregarALinea(int desde, int cantidad) {
+        if (largoLinea + cantidad > linea.length) {
+            char[] mayor = new char[Math.max(linea.length * 2, largoLinea + cantidad)];
+            System.arraycopy(linea, 0, mayor, 0, largoLinea);
+            linea = mayor;
+        }
+        System.arraycopy(buffer, desde, linea, largoLinea, cantidad);
+        largoLinea += cantidad;
+    }
+
+    private void separarCampos() {
+        cantidadCampos = 0;
+        int inicio = 0;
+        for (int i = 0; i <= largoLinea; i++) {
+            if (i == largoLinea || linea[i] == ',') {
+                if (cantidadCampos == inicios.length) {
+                    int[] nuevosInicios = new int[inicios.length * 2];
+                    int[] nuevosFines = new int[fines.length * 2];
+                    System.arraycopy(inicios, 0, nuevosInicios, 0, cantidadCampos);
+                    System.arraycopy(fines, 0, nuevosFines, 0, cantidadCampos);
+                    inicios = nuevosInicios;
+                    fines = nuevosFines;
+                }
+                int a = inicio;
+                int b = i;
+                while (a < b && linea[a] <= ' ') a++;
+                while (b > a && linea[b - 1] <= ' ') b--;
+                inicios[cantidadCampos] = a;
+                fines[cantidadCampos] = b;
+                cantidadCampos++;
+                inicio = i + 1;
+            }
+        }
+    }
+
+    /** Número de la fila actual, empezando en 1 */
+    public long getNumeroFila() {
+        return numeroFila;
+    }
+
+    /** Cantidad de campos de la fila actual (una fila en blanco tiene uno, vacío) */
+    public int cantidadCampos() {
+        return cantidadCampos;
+    }
+
+    /** true si la fila actual solo tiene espacios */
+    public boolean esVacia() {
+        for (int i = 0; i < largoLinea; i++) {
+            if (linea[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** true si el campo i está vacío después de recortar espacios */
+    public boolean campoVacio(int i) {
+        verificarCampo(i);
+        return inicios[i] == fines[i];
+    }
+
+    /**
+     * Devuelve el campo i recortado. Es el único punto donde se crea un String.
+     */
+    public String campo(int i) {
+        verificarCampo(i);
+        return new String(linea, inicios[i], fines[i] - inicios[i]);
+    }
+
+    /**
+     * Interpreta el campo i como entero decimal sin crear un String.
+     *
+     * @throws NumberFormatException si el campo no es un entero válido
+     */
+    public int campoEntero(int i) {
+        verificarCampo(i);
+        int desde = inicios[i];
+        int hasta = fines[i];
+        boolean negativo = false;
+        if (desde < hasta && (linea[desde] == '-' || linea[desde] == '+')) {
+            negativo = linea[desde] == '-';
+            desde++;
+        }
+        if (desde == hasta) {
+            throw new NumberFormatException("For input string: \"" + campo(i) + "\"");
+        }
+        // Se acumula en negativo para poder representar Integer.MIN_VALUE
+        int resultado = 0;
+        for (int k = desde; k < hasta; k++) {
+            int digito = linea[k] - '0';
+            if (digito < 0 || digito > 9 || resultado < (Integer.MIN_VALUE + digito) / 10) {
+                throw new NumberFormatException("For input string: \"" + campo(i) + "\"");
+            }
+            resultado = resultado * 10 - digito;
+        }
+        if (!negativo) {
+            if (resultado == Integer.MIN_VALUE) {
+                throw new NumberFormatException("For input string: \"" + campo(i) + "\"");
+            }
+            return -resultado;
+        }
+        return resultado;
+    }
+
+    /** Fila actual completa y recortada, para mensajes de error */
+    public String fila() {
+        int a = 0;
+        int b = largoLinea;
+        while (a < b && linea[a] <= ' ') a++;
+        while (b > a && linea[b - 1] <= ' ') b--;
+        return new String(linea, a, b - a);
+    }
+
+    private void verificarCampo(int i) {
+        if (i < 0 || i >= cantidadCampos) {
+            throw new IndexOutOfBoundsException("Campo " + i + " fuera de rango (la fila tiene " + cantidadCampos + ")");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
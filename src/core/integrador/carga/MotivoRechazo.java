@@ -0,0 +1,27 @@
+package core.integrador.carga;
+
+/**
+ * Motivo por el que una fila de turnos no se importa.
+ */
+public enum MotivoRechazo {
+    /** La fila tiene menos columnas que las que indica la cabecera */
+    FILA_INVALIDA("fila inválida"),
+    /** El DNI no corresponde a ningún paciente cargado */
+    PACIENTE_INEXISTENTE("paciente inexistente"),
+    /** La matrícula no corresponde a ningún médico cargado */
+    MEDICO_INEXISTENTE("médico inexistente"),
+    /** La duración no es un entero */
+    DURACION_INVALIDA("duración inválida"),
+    /** La fecha no está en ninguno de los formatos aceptados */
+    FECHA_INVALIDA("fecha inválida");
+
+    private final String descripcion;
+
+    MotivoRechazo(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
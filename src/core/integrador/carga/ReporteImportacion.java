@@ -0,0 +1,141 @@
+package core.integrador.carga;
+
+import core.estructuras.listas.ListaEnlazada;
+
+import java.io.PrintStream;
+
+/**
+ * Resultado de una importación de turnos: cuántas filas se aceptaron,
+ * cuántas se rechazaron por cada motivo y el detalle de los primeros
+ * rechazos, en el orden del archivo.
+ *
+ * Reemplaza al System.err.println por fila: con un archivo sucio, escribir
+ * en consola cada rechazo termina costando más que la propia carga. Acá
+ * los rechazos se acumulan en memoria (con un tope de detalles para que
+ * un archivo muy sucio no la agote) y se imprimen de una sola vez.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class ReporteImportacion {
+
+    public static final int MAX_DETALLES_DEFECTO = 1000;
+
+    /** Un rechazo con su número de fila en el archivo (la cabecera es la fila 1) */
+    public static final class Rechazo {
+        private final long fila;
+        private final MotivoRechazo motivo;
+        private final String mensaje;
+
+        Rechazo(long fila, MotivoRechazo motivo, String mensaje) {
+            this.fila = fila;
+            this.motivo = motivo;
+            this.mensaje = mensaje;
+        }
+
+        public long getFila() { return fila; }
+        public MotivoRechazo getMotivo() { return motivo; }
+        public String getMensaje() { return mensaje; }
+
+        @Override
+        public String toString() {
+            return "fila " + fila + ": " + mensaje;
+        }
+    }
+
+    private final int maxDetalles;
+    private final long[] porMotivo = new long[MotivoRechazo.values().length];
+    private final ListaEnlazada<Rechazo> detalles = new ListaEnlazada<>();
+    private long aceptados;
+    private long rechazados;
+
+    public ReporteImportacion() {
+        this(MAX_DETALLES_DEFECTO);
+    }
+
+    /**
+     * @param maxDetalles Cantidad máxima de rechazos que se guardan con detalle
+     * @throws IllegalArgumentException si maxDetalles es negativo
+     */
+    public ReporteImportacion(int maxDetalles) {
+        if (maxDetalles < 0) {
+            throw new IllegalArgumentException("maxDetalles no puede ser negativo");
+        }
+        this.maxDetalles = maxDetalles;
+    }
+
+    void registrarAceptado() {
+        aceptados++;
+    }
+
+    void registrarRechazo(long fila, MotivoRechazo motivo, String mensaje) {
+        rechazados++;
+        porMotivo[motivo.ordinal()]++;
+        if (detalles.getSize() < maxDetalles) {
+            detalles.insertLast(new Rechazo(fila, motivo, mensaje));
+        }
+    }
+
+    public long getAceptados() {
+        return aceptados;
+    }
+
+    public long getRechazados() {
+        return rechazados;
+    }
+
+    /** Cantidad de rechazos por un motivo dado */
+    public long getRechazados(MotivoRechazo motivo) {
+        return porMotivo[motivo.ordinal()];
+    }
+
+    /** Los primeros rechazos (hasta el tope), en el orden del archivo */
+    public ListaEnlazada<Rechazo> getDetalles() {
+        return detalles;
+    }
+
+    public boolean tieneRechazos() {
+        return rechazados > 0;
+    }
+
+    /** Una línea con los totales y la cantidad por cada motivo que ocurrió */
+    public String resumen() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Turnos importados: ").append(aceptados).append(" | rechazados: ").append(rechazados);
+        if (rechazados > 0) {
+            sb.append(" (");
+            boolean primero = true;
+            for (MotivoRechazo motivo : MotivoRechazo.values()) {
+                if (porMotivo[motivo.ordinal()] > 0) {
+                    if (!primero) sb.append(", ");
+                    sb.append(motivo.getDescripcion()).append(": ").append(porMotivo[motivo.ordinal()]);
+                    primero = false;
+                }
+            }
+            sb.append(")");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Escribe el resumen y el detalle guardado en una sola escritura.
+     */
+    public void imprimir(PrintStream salida) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[turnos] ").append(resumen()).append(System.lineSeparator());
+        for (Rechazo rechazo : detalles) {
+            sb.append("[turnos] ").append(rechazo).append(System.lineSeparator());
+        }
+        if (rechazados > detalles.getSize()) {
+            sb.append("[turnos] ... y ").append(rechazados - detalles.getSize())
+              .append(" rechazos más sin detalle").append(System.lineSeparator());
+        }
+        salida.print(sb);
+        salida.flush();
+    }
+
+    @Override
+    public String toString() {
+        return resumen();
+    }
+}
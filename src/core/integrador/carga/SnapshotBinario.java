@@ -0,0 +1,333 @@
+package core.integrador.carga;
+
+import core.estructuras.hash.TablaHash;
+import core.estructuras.listas.ListaEnlazada;
+import core.integrador.modelo.Medico;
+import core.integrador.modelo.Paciente;
+import core.integrador.modelo.Turno;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Formato binario por columnas con lo que cargó CargadorCSV, para arrancar
+ * sin volver a parsear ni validar los CSV.
+ *
+ * Disposición del archivo:
+ * - MAGIA, VERSION y la huella (tamaño y fecha de modificación) de cada CSV
+ * - Diccionario: cada DNI, matrícula, especialidad y motivo distinto una
+ *   sola vez, en UTF-8 con su largo. Son los textos que se repiten entre filas
+ * - Pacientes, médicos y turnos por columnas: esos textos son un índice al
+ *   diccionario (varint); IDs y nombres, que casi no se repiten, van en línea
+ *   con su largo; fechaHora son minutos desde la época en un int de 4 bytes y
+ *   la duración es un varint en zigzag
+ * - CRC32 de todo lo anterior
+ *
+ * Al leer, el archivo se copia entero a un ByteBuffer del heap (es chico y
+ * se lee una sola vez; mapearlo lo dejaría bloqueado en Windows hasta que
+ * actúe el GC, y escribir no podría reemplazarlo). Si la magia, la versión, las
+ * huellas o el CRC no coinciden, o el archivo está truncado, leer devuelve
+ * null y el llamador vuelve a cargar desde los CSV.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+final class SnapshotBinario {
+
+    private static final int MAGIA = 0x494E5453;    // "INTS"
+    private static final int VERSION = 1;
+    private static final int LARGO_CRC = Long.BYTES;
+
+    /** Lo que se leyó del snapshot, en el orden original */
+    static final class Contenido {
+        final Paciente[] pacientes;
+        final Medico[] medicos;
+        final Turno[] turnos;
+
+        Contenido(Paciente[] pacientes, Medico[] medicos, Turno[] turnos) {
+            this.pacientes = pacientes;
+            this.medicos = medicos;
+            this.turnos = turnos;
+        }
+    }
+
+    private SnapshotBinario() {
+    }
+
+    /**
+     * Escribe el snapshot en un archivo temporal y lo mueve al destino, así
+     * nunca queda uno a medio escribir con el nombre definitivo.
+     *
+     * @param huellas Tamaño y fecha de modificación de cada CSV de origen
+     * @return false si algún turno no se puede representar (fechaHora con
+     *         segundos o fuera del rango de minutos de un int); no se escribe nada
+     */
+    static boolean escribir(Path destino, long[] huellas, ListaEnlazada<Paciente> pacientes,
+                            ListaEnlazada<Medico> medicos, ListaEnlazada<Turno> turnos) throws IOException {
+        int[] minutos = new int[turnos.getSize()];
+        int k = 0;
+        for (Turno turno : turnos) {
+            LocalDateTime fecha = turno.getFechaHora();
+            if (fecha.getSecond() != 0 || fecha.getNano() != 0) {
+                return false;
+            }
+            long epochMin = fecha.toEpochSecond(ZoneOffset.UTC) / 60;
+            if (epochMin != (int) epochMin) {
+                return false;
+            }
+            minutos[k++] = (int) epochMin;
+        }
+
+        // Diccionario en orden de primera aparición; cada columna guarda índices
+        Diccionario diccionario = new Diccionario();
+        int[] dnisPacientes = new int[pacientes.getSize()];
+        k = 0;
+        for (Paciente p : pacientes) dnisPacientes[k++] = diccionario.indice(p.getDni());
+        int[] matriculas = new int[medicos.getSize()];
+        int[] especialidades = new int[medicos.getSize()];
+        k = 0;
+        for (Medico m : medicos) {
+            matriculas[k] = diccionario.indice(m.getMatricula());
+            especialidades[k++] = diccionario.indice(m.getEspecialidad());
+        }
+        int[] dnisTurnos = new int[turnos.getSize()];
+        int[] matriculasTurnos = new int[turnos.getSize()];
+        int[] motivos = new int[turnos.getSize()];
+        k = 0;
+        for (Turno t : turnos) {
+            dnisTurnos[k] = diccionario.indice(t.getDniPaciente());
+            matriculasTurnos[k] = diccionario.indice(t.getMatriculaMedico());
+            motivos[k++] = diccionario.indice(t.getMotivo());
+        }
+
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporal), 1 << 16))) {
+            DataOutputStream datos = new DataOutputStream(new CheckedOutputStream(out, crc));
+            datos.writeInt(MAGIA);
+            datos.writeInt(VERSION);
+            for (long huella : huellas) {
+                datos.writeLong(huella);
+            }
+
+            escribirVarint(datos, diccionario.textos.getSize());
+            for (String texto : diccionario.textos) {
+                escribirTexto(datos, texto);
+            }
+
+            escribirVarint(datos, pacientes.getSize());
+            escribirIndices(datos, dnisPacientes);
+            for (Paciente p : pacientes) escribirTexto(datos, p.getNombre());
+
+            escribirVarint(datos, medicos.getSize());
+            escribirIndices(datos, matriculas);
+            for (Medico m : medicos) escribirTexto(datos, m.getNombre());
+            escribirIndices(datos, especialidades);
+
+            escribirVarint(datos, turnos.getSize());
+            for (Turno t : turnos) escribirTexto(datos, t.getId());
+            escribirIndices(datos, dnisTurnos);
+            escribirIndices(datos, matriculasTurnos);
+            escribirIndices(datos, motivos);
+            for (int m : minutos) datos.writeInt(m);
+            for (Turno t : turnos) escribirVarint(datos, zigzag(t.getDuracionMin()));
+
+            datos.flush();
+            out.writeLong(crc.getValue()); // Fuera del CRC
+        }
+        Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    /**
+     * Lee un snapshot copiándolo entero a un buffer del heap.
+     *
+     * @param huellas Huellas actuales de los CSV de origen
+     * @return El contenido, o null si no existe, no corresponde a esos CSV o está dañado
+     */
+    static Contenido leer(Path origen, long[] huellas) throws IOException {
+        if (!Files.isRegularFile(origen)) {
+            return null;
+        }
+        try (FileChannel canal = FileChannel.open(origen, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio < LARGO_CRC || tamanio > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) tamanio);
+            while (buffer.hasRemaining()) {
+                if (canal.read(buffer) < 0) {
+                    return null; // Se truncó mientras se leía
+                }
+            }
+            buffer.flip();
+
+            // CRC antes de interpretar nada
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice().limit((int) tamanio - LARGO_CRC));
+            if (crc.getValue() != buffer.getLong((int) tamanio - LARGO_CRC)) {
+                return null;
+            }
+            ByteBuffer datos = buffer.slice().limit((int) tamanio - LARGO_CRC);
+
+            if (datos.getInt() != MAGIA || datos.getInt() != VERSION) {
+                return null;
+            }
+            for (long huella : huellas) {
+                if (datos.getLong() != huella) {
+                    return null; // Los CSV cambiaron desde que se escribió
+                }
+            }
+
+            byte[][] bytes = {new byte[64]};
+            String[] diccionario = new String[leerCantidad(datos)];
+            for (int i = 0; i < diccionario.length; i++) {
+                diccionario[i] = leerTexto(datos, bytes);
+            }
+
+            Paciente[] pacientes = new Paciente[leerCantidad(datos)];
+            int[] dnis = leerIndices(datos, pacientes.length, diccionario.length);
+            for (int i = 0; i < pacientes.length; i++) {
+                pacientes[i] = new Paciente(diccionario[dnis[i]], leerTexto(datos, bytes));
+            }
+
+            Medico[] medicos = new Medico[leerCantidad(datos)];
+            int[] matriculas = leerIndices(datos, medicos.length, diccionario.length);
+            String[] nombres = new String[medicos.length];
+            for (int i = 0; i < medicos.length; i++) {
+                nombres[i] = leerTexto(datos, bytes);
+            }
+            int[] especialidades = leerIndices(datos, medicos.length, diccionario.length);
+            for (int i = 0; i < medicos.length; i++) {
+                medicos[i] = new Medico(diccionario[matriculas[i]], nombres[i], diccionario[especialidades[i]]);
+            }
+
+            Turno[] turnos = new Turno[leerCantidad(datos)];
+            String[] ids = new String[turnos.length];
+            for (int i = 0; i < turnos.length; i++) {
+                ids[i] = leerTexto(datos, bytes);
+            }
+            dnis = leerIndices(datos, turnos.length, diccionario.length);
+            matriculas = leerIndices(datos, turnos.length, diccionario.length);
+            int[] motivos = leerIndices(datos, turnos.length, diccionario.length);
+            int[] minutos = new int[turnos.length];
+            datos.asIntBuffer().get(minutos);
+            datos.position(datos.position() + turnos.length * Integer.BYTES);
+            for (int i = 0; i < turnos.length; i++) {
+                int duracion = unzigzag(leerVarint(datos));
+                LocalDateTime fecha = LocalDateTime.ofEpochSecond(minutos[i] * 60L, 0, ZoneOffset.UTC);
+                turnos[i] = new Turno(ids[i], diccionario[dnis[i]], diccionario[matriculas[i]],
+                        fecha, duracion, diccionario[motivos[i]]);
+            }
+
+            if (datos.hasRemaining()) {
+                return null;
+            }
+            return new Contenido(pacientes, medicos, turnos);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            return null; // Truncado o con datos fuera de rango pese al CRC
+        }
+    }
+
+    /** Textos repetidos en orden de primera aparición, con su índice */
+    private static final class Diccionario {
+        final TablaHash<String, Integer> indices = new TablaHash<>();
+        final ListaEnlazada<String> textos = new ListaEnlazada<>();
+
+        int indice(String texto) {
+            Integer indice = indices.get(texto);
+            if (indice == null) {
+                indice = textos.getSize();
+                indices.put(texto, indice);
+                textos.insertLast(texto);
+            }
+            return indice;
+        }
+    }
+
+    private static void escribirIndices(OutputStream out, int[] indices) throws IOException {
+        for (int indice : indices) {
+            escribirVarint(out, indice);
+        }
+    }
+
+    private static void escribirTexto(DataOutputStream out, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        escribirVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /** Lee un texto con su largo; bytes[0] es un buffer reutilizable que crece si hace falta */
+    private static String leerTexto(ByteBuffer datos, byte[][] bytes) {
+        int largo = leerCantidad(datos);
+        if (largo > bytes[0].length) {
+            bytes[0] = new byte[Math.max(largo, bytes[0].length * 2)];
+        }
+        datos.get(bytes[0], 0, largo);
+        return new String(bytes[0], 0, largo, StandardCharsets.UTF_8);
+    }
+
+    private static int[] leerIndices(ByteBuffer datos, int cantidad, int tamanioDiccionario) {
+        int[] indices = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            indices[i] = leerVarint(datos);
+            if (indices[i] < 0 || indices[i] >= tamanioDiccionario) {
+                throw new IndexOutOfBoundsException("Índice de diccionario fuera de rango: " + indices[i]);
+            }
+        }
+        return indices;
+    }
+
+    /** Cantidad de elementos: un varint que no puede superar los bytes que quedan */
+    private static int leerCantidad(ByteBuffer datos) {
+        int cantidad = leerVarint(datos);
+        if (cantidad < 0 || cantidad > datos.remaining()) {
+            throw new IllegalArgumentException("Cantidad inválida: " + cantidad);
+        }
+        return cantidad;
+    }
+
+    /** Entero sin signo en grupos de 7 bits, el menos significativo primero */
+    private static void escribirVarint(OutputStream out, int valor) throws IOException {
+        while ((valor & ~0x7F) != 0) {
+            out.write((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        out.write(valor);
+    }
+
+    private static int leerVarint(ByteBuffer datos) {
+        int valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 35; desplazamiento += 7) {
+            byte b = datos.get();
+            valor |= (b & 0x7F) << desplazamiento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint demasiado largo");
+    }
+
+    /** Lleva los negativos chicos a positivos chicos: 0, -1, 1, -2... -> 0, 1, 2, 3... */
+    private static int zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static int unzigzag(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+}
@@ -0,0 +1,366 @@
+package core.integrador.carga;
+
+import core.estructuras.listas.ListaEnlazada;
+import core.integrador.modelo.Turno;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Mide cómo escala la carga de turnos con CargadorCSV.
+ *
+ * Genera CSV sintéticos (pacientes, médicos y hasta 1M de turnos válidos)
+ * en un directorio temporal y mide loadTurnos() duplicando el tamaño en cada
+ * corrida. Con insertLast en O(1) el tiempo por turno se mantiene
+ * aproximadamente constante: duplicar los turnos duplica el tiempo total.
+ * También mide solo el armado de la ListaEnlazada con insertLast, sin parseo,
+ * y procesarTurnos() con un sink que solo cuenta: ahí el pico de heap debe
+ * mantenerse igual aunque el archivo crezca. Por último compara loadTurnos()
+ * con loadTurnosParalelo() variando los hilos, la carga completa desde
+ * los CSV contra la carga desde el snapshot binario, y loadTurnos() contra
+ * importarTurnos() con un archivo sucio (un tercio de las filas rechazadas).
+ * La primera medición se repite sin mostrarla para calentar el JIT.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoCargaTurnos {
+
+    private static final int PACIENTES = 10_000;
+    private static final int MEDICOS = 200;
+    private static final int[] TAMANIOS = {125_000, 250_000, 500_000, 1_000_000};
+
+    public static void medirCarga() throws IOException {
+        Path dir = Files.createTempDirectory("turnos-bench");
+        Path pacientes = dir.resolve("pacientes.csv");
+        Path medicos = dir.resolve("medicos.csv");
+        generarPacientes(pacientes);
+        generarMedicos(medicos);
+
+        System.out.println("=== CARGA DE TURNOS CON CargadorCSV ===");
+
+        try {
+            double anterior = 0;
+            for (int corrida = -1; corrida < TAMANIOS.length; corrida++) {
+                int n = TAMANIOS[Math.max(corrida, 0)];
+                Path turnos = dir.resolve("turnos-" + n + ".csv");
+                generarTurnos(turnos, n);
+
+                CargadorCSV cargador = new CargadorCSV();
+                cargador.loadPacientes(pacientes.toString());
+                cargador.loadMedicos(medicos.toString());
+
+                long inicio = System.nanoTime();
+                cargador.loadTurnos(turnos.toString());
+                double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                Files.delete(turnos);
+
+                if (corrida < 0) {
+                    continue; // calentamiento
+                }
+                System.out.printf("%,10d turnos | %9.2f ms | %6.1f ns/turno | x%.2f respecto del anterior%n",
+                        cargador.getTurnos().getSize(), ms, ms * 1_000_000 / n,
+                        anterior > 0 ? ms / anterior : 1.0);
+                anterior = ms;
+            }
+        } finally {
+            Files.deleteIfExists(pacientes);
+            Files.deleteIfExists(medicos);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    public static void medirInsertLast() {
+        System.out.println("=== SOLO ListaEnlazada.insertLast ===");
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int corrida = -1; corrida < TAMANIOS.length; corrida++) {
+            int n = TAMANIOS[Math.max(corrida, 0)];
+            long inicio = System.nanoTime();
+            ListaEnlazada<Turno> lista = new ListaEnlazada<>();
+            for (int i = 0; i < n; i++) {
+                lista.insertLast(new Turno("T" + i, "DNI", "MAT", base, 30, "Control"));
+            }
+            double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+
+            if (corrida < 0) {
+                continue; // calentamiento
+            }
+            System.out.printf("%,10d turnos | %9.2f ms | %6.1f ns/turno%n",
+                    lista.getSize(), ms, ms * 1_000_000 / n);
+        }
+    }
+
+    public static void medirProcesamiento() throws IOException {
+        Path dir = Files.createTempDirectory("turnos-stream");
+        Path pacientes = dir.resolve("pacientes.csv");
+        Path medicos = dir.resolve("medicos.csv");
+        generarPacientes(pacientes);
+        generarMedicos(medicos);
+
+        System.out.println("=== procesarTurnos() CON SINK QUE SOLO CUENTA ===");
+
+        try {
+            CargadorCSV cargador = new CargadorCSV();
+            cargador.loadPacientes(pacientes.toString());
+            cargador.loadMedicos(medicos.toString());
+
+            for (int corrida = -1; corrida < TAMANIOS.length; corrida++) {
+                int n = TAMANIOS[Math.max(corrida, 0)];
+                Path turnos = dir.resolve("turnos-" + n + ".csv");
+                generarTurnos(turnos, n);
+
+                long[] contador = new long[1];
+                System.gc();
+                long base = heapUsado();
+                reiniciarPicos();
+                long inicio = System.nanoTime();
+                cargador.procesarTurnos(turnos.toString(), turno -> contador[0]++);
+                double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                long pico = picoHeap() - base;
+                Files.delete(turnos);
+
+                if (corrida < 0) {
+                    continue; // calentamiento
+                }
+                System.out.printf("%,10d turnos | %9.2f ms | %6.1f ns/turno | %,8d KB sobre la base (pico)%n",
+                        contador[0], ms, ms * 1_000_000 / n, pico / 1024);
+            }
+        } finally {
+            Files.deleteIfExists(pacientes);
+            Files.deleteIfExists(medicos);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    public static void medirCargaParalela() throws IOException {
+        Path dir = Files.createTempDirectory("turnos-paralelo");
+        Path pacientes = dir.resolve("pacientes.csv");
+        Path medicos = dir.resolve("medicos.csv");
+        Path turnos = dir.resolve("turnos.csv");
+        int n = TAMANIOS[TAMANIOS.length - 1];
+        generarPacientes(pacientes);
+        generarMedicos(medicos);
+        generarTurnos(turnos, n);
+
+        System.out.println("=== loadTurnos() vs loadTurnosParalelo() (" + n + " turnos, "
+                + Runtime.getRuntime().availableProcessors() + " procesadores) ===");
+
+        try {
+            CargadorCSV cargador = new CargadorCSV();
+            cargador.loadPacientes(pacientes.toString());
+            cargador.loadMedicos(medicos.toString());
+
+            // Calentamiento del JIT, sin mostrar
+            cargador.loadTurnos(turnos.toString());
+            cargador.loadTurnosParalelo(turnos.toString(), 2);
+
+            double secuencial = Double.MAX_VALUE;
+            for (int r = 0; r < 3; r++) {
+                long inicio = System.nanoTime();
+                cargador.loadTurnos(turnos.toString());
+                secuencial = Math.min(secuencial, (System.nanoTime() - inicio) / 1_000_000.0);
+            }
+            System.out.printf("secuencial | %9.2f ms%n", secuencial);
+
+            for (int hilos : new int[]{1, 2, 4, 8}) {
+                double ms = Double.MAX_VALUE;
+                for (int r = 0; r < 3; r++) {
+                    long inicio = System.nanoTime();
+                    cargador.loadTurnosParalelo(turnos.toString(), hilos);
+                    ms = Math.min(ms, (System.nanoTime() - inicio) / 1_000_000.0);
+                }
+                System.out.printf("%d hilo(s) | %9.2f ms | x%.2f%n", hilos, ms, secuencial / ms);
+            }
+        } finally {
+            Files.deleteIfExists(turnos);
+            Files.deleteIfExists(pacientes);
+            Files.deleteIfExists(medicos);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    public static void medirSnapshot() throws IOException {
+        Path dir = Files.createTempDirectory("turnos-snapshot");
+        Path pacientes = dir.resolve("pacientes.csv");
+        Path medicos = dir.resolve("medicos.csv");
+        Path turnos = dir.resolve("turnos.csv");
+        Path snapshot = dir.resolve("integrador.snap");
+        int n = TAMANIOS[TAMANIOS.length - 1];
+        generarPacientes(pacientes);
+        generarMedicos(medicos);
+        generarTurnos(turnos, n);
+
+        System.out.println("=== CSV vs SNAPSHOT BINARIO (" + n + " turnos) ===");
+
+        try {
+            double csv = Double.MAX_VALUE;
+            double binario = Double.MAX_VALUE;
+            for (int r = 0; r < 4; r++) {
+                Files.deleteIfExists(snapshot);
+                long inicio = System.nanoTime();
+                boolean desdeSnapshot = new CargadorCSV().loadAllConSnapshot(pacientes.toString(),
+                        medicos.toString(), turnos.toString(), snapshot.toString());
+                double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                if (r > 0 && !desdeSnapshot) {
+                    csv = Math.min(csv, ms); // Incluye escribir el snapshot
+                }
+
+                inicio = System.nanoTime();
+                desdeSnapshot = new CargadorCSV().loadAllConSnapshot(pacientes.toString(),
+                        medicos.toString(), turnos.toString(), snapshot.toString());
+                ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                if (r > 0 && desdeSnapshot) {
+                    binario = Math.min(binario, ms);
+                }
+            }
+            System.out.printf("CSV + escritura del snapshot | %9.2f ms | %,12d bytes de CSV%n",
+                    csv, Files.size(pacientes) + Files.size(medicos) + Files.size(turnos));
+            System.out.printf("snapshot                     | %9.2f ms | %,12d bytes | %.0f%% del tiempo%n",
+                    binario, Files.size(snapshot), 100 * binario / csv);
+        } finally {
+            Files.deleteIfExists(snapshot);
+            Files.deleteIfExists(turnos);
+            Files.deleteIfExists(pacientes);
+            Files.deleteIfExists(medicos);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    public static void medirImportacion() throws IOException {
+        Path dir = Files.createTempDirectory("turnos-import");
+        Path pacientes = dir.resolve("pacientes.csv");
+        Path medicos = dir.resolve("medicos.csv");
+        Path turnos = dir.resolve("turnos.csv");
+        Path log = dir.resolve("errores.log");
+        int n = TAMANIOS[TAMANIOS.length - 1];
+        generarPacientes(pacientes);
+        generarMedicos(medicos);
+        generarTurnosSucios(turnos, n);
+
+        System.out.println("=== loadTurnos() vs importarTurnos() CON ARCHIVO SUCIO (" + n + " turnos) ===");
+
+        // stderr a un archivo con autoflush, como una consola que escribe cada línea
+        PrintStream errOriginal = System.err;
+        try (PrintStream errArchivo = new PrintStream(new FileOutputStream(log.toFile()), true)) {
+            CargadorCSV cargador = new CargadorCSV();
+            cargador.loadPacientes(pacientes.toString());
+            cargador.loadMedicos(medicos.toString());
+
+            double porFila = Double.MAX_VALUE;
+            double etapas = Double.MAX_VALUE;
+            ReporteImportacion reporte = null;
+            for (int r = 0; r < 3; r++) {
+                System.setErr(errArchivo);
+                long inicio = System.nanoTime();
+                cargador.loadTurnos(turnos.toString());
+                double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                System.setErr(errOriginal);
+                if (r > 0) porFila = Math.min(porFila, ms); // La primera calienta el JIT
+
+                inicio = System.nanoTime();
+                reporte = cargador.importarTurnos(turnos.toString());
+                ms = (System.nanoTime() - inicio) / 1_000_000.0;
+                if (r > 0) etapas = Math.min(etapas, ms);
+            }
+            System.out.printf("loadTurnos (un println por rechazo) | %9.2f ms%n", porFila);
+            System.out.printf("importarTurnos (reporte)            | %9.2f ms | x%.2f%n", etapas, porFila / etapas);
+            System.out.println(reporte.resumen());
+        } finally {
+            System.setErr(errOriginal);
+            Files.deleteIfExists(log);
+            Files.deleteIfExists(turnos);
+            Files.deleteIfExists(pacientes);
+            Files.deleteIfExists(medicos);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static long heapUsado() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static void reiniciarPicos() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /** Suma de los picos de cada zona del heap: cota superior del pico real */
+    private static long picoHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static void generarPacientes(Path archivo) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(archivo)) {
+            w.write("dni,nombre\n");
+            for (int i = 0; i < PACIENTES; i++) {
+                w.write((30_000_000 + i) + ",Paciente " + i + "\n");
+            }
+        }
+    }
+
+    private static void generarMedicos(Path archivo) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(archivo)) {
+            w.write("matricula,nombre,especialidad\n");
+            for (int i = 0; i < MEDICOS; i++) {
+                w.write("MP" + (10_000 + i) + ",Medico " + i + ",Clinica\n");
+            }
+        }
+    }
+
+    private static void generarTurnos(Path archivo, int n) throws IOException {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        try (BufferedWriter w = Files.newBufferedWriter(archivo)) {
+            w.write("id,dniPaciente,matriculaMedico,fechaHora,duracionMin,motivo\n");
+            for (int i = 0; i < n; i++) {
+                w.write("T" + i + "," + (30_000_000 + i % PACIENTES) + ",MP" + (10_000 + i % MEDICOS)
+                        + "," + base.plusMinutes(30L * i) + ",30,Control\n");
+            }
+        }
+    }
+
+    /** Como generarTurnos, pero un tercio de las filas tiene un paciente o un médico inexistente */
+    private static void generarTurnosSucios(Path archivo, int n) throws IOException {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        try (BufferedWriter w = Files.newBufferedWriter(archivo)) {
+            w.write("id,dniPaciente,matriculaMedico,fechaHora,duracionMin,motivo\n");
+            for (int i = 0; i < n; i++) {
+                String dni = i % 6 == 1 ? "99999999" : String.valueOf(30_000_000 + i % PACIENTES);
+                String matricula = i % 6 == 4 ? "MP99999" : "MP" + (10_000 + i % MEDICOS);
+                w.write("T" + i + "," + dni + "," + matricula + "," + base.plusMinutes(30L * i) + ",30,Control\n");
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        medirCarga();
+        System.out.println();
+        medirInsertLast();
+        System.out.println();
+        medirProcesamiento();
+        System.out.println();
+        medirCargaParalela();
+        System.out.println();
+        medirSnapshot();
+        System.out.println();
+        medirImportacion();
+    }
+}
@@ -1,6 +1,7 @@
 package core.integrador.merge;
 
 import core.integrador.modelo.Turno;
+import core.estructuras.arboles.ArbolIntervalos;
 import core.estructuras.listas.ListaEnlazada;
 import core.estructuras.hash.TablaHash;
 import core.estructuras.nodos.Nodo;
@@ -16,11 +17,13 @@ import java.time.format.DateTimeFormatter;
  * 1. Mismo ID → turnos duplicados, se mantiene el primero
  * 2. Mismo médico + horario exacto solapado → conflicto de horario
  * 
- * Complejidad: O(|A| + |B|) - merge lineal de dos listas ordenadas
+ * Complejidad: O((|A| + |B|) log n) - merge lineal de dos listas ordenadas,
+ * con cada verificación de horario en O(log n) sobre el árbol del médico
  * 
  * Usa solo estructuras del proyecto:
  * - ListaEnlazada para almacenar agendas y conflictos
  * - TablaHash para detectar IDs duplicados en O(1)
+ * - TablaHash<String, ArbolIntervalos> con los turnos aceptados de cada médico
  * - Nodo para navegación
  */
 public class ConsolidadorAgendas {
@@ -77,6 +80,7 @@ public class ConsolidadorAgendas {
         ListaEnlazada<Turno> resultado = new ListaEnlazada<>();
         ListaEnlazada<String> conflictos = new ListaEnlazada<>();
         TablaHash<String, Turno> idsVistos = new TablaHash<>();
+        TablaHash<String, ArbolIntervalos<LocalDateTime, Turno>> horariosPorMedico = new TablaHash<>();
         
         // Punteros para recorrer ambas listas
         Nodo<Turno> nodoLocal = agendaLocal.getHead();
@@ -92,24 +96,24 @@ public class ConsolidadorAgendas {
             
             if (comparacion <= 0) {
                 // Turno local es anterior o igual
-                procesarTurno(turnoLocal, resultado, idsVistos, conflictos, "LOCAL");
+                procesarTurno(turnoLocal, resultado, idsVistos, horariosPorMedico, conflictos, "LOCAL");
                 nodoLocal = nodoLocal.getNext();
             } else {
                 // Turno nube es anterior
-                procesarTurno(turnoNube, resultado, idsVistos, conflictos, "NUBE");
+                procesarTurno(turnoNube, resultado, idsVistos, horariosPorMedico, conflictos, "NUBE");
                 nodoNube = nodoNube.getNext();
             }
         }
         
         // Procesar turnos restantes de agendaLocal
         while (nodoLocal != null) {
-            procesarTurno(nodoLocal.getData(), resultado, idsVistos, conflictos, "LOCAL");
+            procesarTurno(nodoLocal.getData(), resultado, idsVistos, horariosPorMedico, conflictos, "LOCAL");
             nodoLocal = nodoLocal.getNext();
         }
         
         // Procesar turnos restantes de agendaNube
         while (nodoNube != null) {
-            procesarTurno(nodoNube.getData(), resultado, idsVistos, conflictos, "NUBE");
+            procesarTurno(nodoNube.getData(), resultado, idsVistos, horariosPorMedico, conflictos, "NUBE");
             nodoNube = nodoNube.getNext();
         }
         
@@ -123,10 +127,11 @@ public class ConsolidadorAgendas {
      * 1. ID duplicado → mantiene el primero
      * 2. Mismo médico + horario solapado → conflicto de horario
      * 
-     * Complejidad: O(1) promedio para verificar ID duplicado
+     * Complejidad: O(1) promedio para verificar ID duplicado, O(log n) para el horario
      */
     private static void procesarTurno(Turno turno, ListaEnlazada<Turno> resultado,
                                      TablaHash<String, Turno> idsVistos,
+                                     TablaHash<String, ArbolIntervalos<LocalDateTime, Turno>> horariosPorMedico,
                                      ListaEnlazada<String> conflictos, String origen) {
         // Verificar ID duplicado - O(1)
         if (idsVistos.containsKey(turno.getId())) {
@@ -138,67 +143,49 @@ public class ConsolidadorAgendas {
         }
         
         // Verificar conflicto de horario con mismo médico
-        boolean hayConflicto = verificarConflictoHorario(turno, resultado, conflictos, origen);
+        ArbolIntervalos<LocalDateTime, Turno> horarios =
+            horariosPorMedico.computeIfAbsent(turno.getMatriculaMedico(), m -> new ArbolIntervalos<>());
+        boolean hayConflicto = verificarConflictoHorario(turno, horarios, conflictos, origen);
         
         if (!hayConflicto) {
             // Agregar turno a la lista consolidada
             resultado.insertLast(turno);
             idsVistos.put(turno.getId(), turno);
+            // Un turno sin duración no ocupa horario
+            if (turno.getDuracionMin() > 0) {
+                horarios.insert(turno.getFechaHora(), turno.getFechaHoraFin(), turno);
+            }
         }
     }
     
     /**
      * Verifica si el turno tiene conflicto de horario con turnos existentes del mismo médico.
      * 
-     * Complejidad: O(k) donde k = turnos ya procesados en la ventana de tiempo relevante
-     * En la práctica, k es pequeño (solo turnos cercanos en el tiempo)
+     * Complejidad: O(log m) con m = turnos ya aceptados de ese médico, usando
+     * el mayor fin por subárbol del árbol de intervalos
      */
-    private static boolean verificarConflictoHorario(Turno turno, ListaEnlazada<Turno> resultado,
+    private static boolean verificarConflictoHorario(Turno turno, ArbolIntervalos<LocalDateTime, Turno> horarios,
                                                      ListaEnlazada<String> conflictos, String origen) {
-        Nodo<Turno> nodo = resultado.getHead();
-        
-        // Solo verificar turnos recientes (optimización: podríamos limitarlo a un rango de tiempo)
-        while (nodo != null) {
-            Turno turnoExistente = nodo.getData();
-            
-            // Mismo médico y horarios se solapan
-            if (turnoExistente.getMatriculaMedico().equals(turno.getMatriculaMedico()) &&
-                turnosSeSuperponen(turnoExistente, turno)) {
-                
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-                String fechaInicio = turnoExistente.getFechaHora().format(formatter);
-                String fechaFin = turnoExistente.getFechaHoraFin().format(formatter);
-                
-                conflictos.insertLast(String.format(
-                    "Conflicto de horario: Médico %s - Turno %s de %s solapa con turno %s (%s a %s)",
-                    turno.getMatriculaMedico(),
-                    turno.getId(),
-                    origen,
-                    turnoExistente.getId(),
-                    fechaInicio,
-                    fechaFin
-                ));
-                
-                return true; // Hay conflicto, no agregar
-            }
-            
-            nodo = nodo.getNext();
+        Turno turnoExistente = horarios.findAnyOverlap(turno.getFechaHora(), turno.getFechaHoraFin());
+        if (turnoExistente == null) {
+            return false; // No hay conflicto
         }
         
-        return false; // No hay conflicto
-    }
-    
-    /**
-     * Verifica si dos turnos se superponen en el tiempo.
-     */
-    private static boolean turnosSeSuperponen(Turno t1, Turno t2) {
-        LocalDateTime inicio1 = t1.getFechaHora();
-        LocalDateTime fin1 = t1.getFechaHoraFin();
-        LocalDateTime inicio2 = t2.getFechaHora();
-        LocalDateTime fin2 = t2.getFechaHoraFin();
-        
-        // Dos intervalos se superponen si: inicio1 < fin2 && inicio2 < fin1
-        return inicio1.isBefore(fin2) && inicio2.isBefore(fin1);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+        String fechaInicio = turnoExistente.getFechaHora().format(formatter);
+        String fechaFin = turnoExistente.getFechaHoraFin().format(formatter);
+        
+        conflictos.insertLast(String.format(
+            "Conflicto de horario: Médico %s - Turno %s de %s solapa con turno %s (%s a %s)",
+            turno.getMatriculaMedico(),
+            turno.getId(),
+            origen,
+            turnoExistente.getId(),
+            fechaInicio,
+            fechaFin
+        ));
+        
+        return true; // Hay conflicto, no agregar
     }
     
     /**
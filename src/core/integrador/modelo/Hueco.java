@@ -0,0 +1,26 @@
+package core.integrador.modelo;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class Hueco {
+    private final LocalDateTime inicio;
+    private final LocalDateTime fin;
+
+    public Hueco(LocalDateTime inicio, LocalDateTime fin) {
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+
+    public LocalDateTime getInicio() { return inicio; }
+    public LocalDateTime getFin() { return fin; }
+
+    public long getDuracionMin() {
+        return Duration.between(inicio, fin).toMinutes();
+    }
+
+    @Override
+    public String toString() {
+        return "Hueco[" + inicio + " - " + fin + "]";
+    }
+}
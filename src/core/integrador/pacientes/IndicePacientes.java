@@ -3,6 +3,7 @@ package core.integrador.pacientes;
 import core.integrador.modelo.Paciente;
 import core.estructuras.hash.TablaHash;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Índice rápido de pacientes usando TablaHash del proyecto.
@@ -10,7 +11,8 @@ import java.util.List;
  * Wrapper sobre TablaHash<String, Paciente> que implementa MapaPacientes.
  * 
  * TablaHash internamente usa:
- * - Hash con chaining (listas enlazadas para colisiones)
+ * - Hash con chaining (listas enlazadas para colisiones), o sondeo lineal
+ *   sobre arreglos paralelos si se construye con Estrategia.SONDEO_LINEAL
  * - Rehash automático cuando loadFactor > 0.75
  * - Operaciones O(1) promedio: put, get, remove, containsKey
  * 
@@ -39,6 +41,14 @@ public class IndicePacientes implements MapaPacientes {
         this.tabla = new TablaHash<>(capacidadInicial);
     }
     
+    /**
+     * Permite elegir el motor de la tabla. Para índices muy grandes
+     * (millones de DNIs) SONDEO_LINEAL evita un Nodo + Entry por paciente.
+     */
+    public IndicePacientes(int capacidadInicial, TablaHash.Estrategia estrategia) {
+        this.tabla = new TablaHash<>(capacidadInicial, estrategia);
+    }
+    
     /**
      * Inserta o actualiza un paciente.
      * 
@@ -100,12 +110,13 @@ public class IndicePacientes implements MapaPacientes {
     
     /**
      * Retorna todos los DNIs almacenados.
+     * Vista sin copia: se recorre directamente sobre la tabla.
      * 
-     * Complejidad: O(n)
+     * Complejidad: O(n) al recorrerla
      */
     @Override
     public Iterable<String> keys() {
-        return tabla.keys();
+        return tabla.claves();
     }
     
     /**
@@ -137,12 +148,31 @@ public class IndicePacientes implements MapaPacientes {
     }
     
     /**
-     * Retorna todos los pacientes.
+     * Retorna todos los pacientes (copia en una lista nueva).
+     * 
+     * Complejidad: O(n)
      */
     public List<Paciente> values() {
         return tabla.values();
     }
     
+    /**
+     * Retorna todos los pacientes.
+     * Vista sin copia: se recorre directamente sobre la tabla.
+     * 
+     * Complejidad: O(n) al recorrerla
+     */
+    public Iterable<Paciente> valores() {
+        return tabla.valores();
+    }
+    
+    /**
+     * Recorre todos los pares (DNI, paciente) sin copiar la tabla.
+     */
+    public void forEach(BiConsumer<? super String, ? super Paciente> accion) {
+        tabla.forEach(accion);
+    }
+    
     /**
      * Muestra estructura interna de la tabla (debug).
      */
@@ -0,0 +1,105 @@
+package core.integrador.pacientes;
+
+import core.integrador.modelo.Paciente;
+import core.estructuras.hash.TablaHashConcurrente;
+import java.util.List;
+
+/**
+ * Índice de pacientes seguro para hilos usando TablaHashConcurrente.
+ *
+ * Pensado para cuando recepción, recordatorios y reportes consultan el índice
+ * a la vez: las búsquedas por DNI no toman locks y las altas/bajas solo
+ * bloquean el segmento del DNI afectado, en lugar de envolver IndicePacientes
+ * con un lock global.
+ *
+ * Complejidad: O(1) promedio en todas las operaciones por DNI.
+ */
+public class IndicePacientesConcurrente implements MapaPacientes {
+
+    private final TablaHashConcurrente<String, Paciente> tabla;
+
+    public IndicePacientesConcurrente() {
+        this.tabla = new TablaHashConcurrente<>();
+    }
+
+    /**
+     * @param capacidadInicial Capacidad total inicial
+     * @param nivelConcurrencia Cantidad estimada de hilos escritores simultáneos
+     */
+    public IndicePacientesConcurrente(int capacidadInicial, int nivelConcurrencia) {
+        this.tabla = new TablaHashConcurrente<>(capacidadInicial, nivelConcurrencia);
+    }
+
+    @Override
+    public void put(String dni, Paciente p) {
+        if (dni == null || p == null) {
+            throw new IllegalArgumentException("DNI y Paciente no pueden ser null");
+        }
+        tabla.put(dni, p);
+    }
+
+    @Override
+    public Paciente get(String dni) {
+        if (dni == null) {
+            return null;
+        }
+        return tabla.get(dni);
+    }
+
+    @Override
+    public boolean remove(String dni) {
+        if (dni == null) {
+            return false;
+        }
+        return tabla.remove(dni) != null;
+    }
+
+    @Override
+    public boolean containsKey(String dni) {
+        return tabla.containsKey(dni);
+    }
+
+    /**
+     * Cantidad de pacientes (débilmente consistente bajo escrituras concurrentes).
+     */
+    @Override
+    public int size() {
+        return tabla.size();
+    }
+
+    /**
+     * DNIs almacenados (débilmente consistente bajo escrituras concurrentes).
+     */
+    @Override
+    public Iterable<String> keys() {
+        return tabla.keys();
+    }
+
+    /**
+     * Retorna todos los pacientes.
+     */
+    public List<Paciente> values() {
+        return tabla.values();
+    }
+
+    public boolean isEmpty() {
+        return tabla.isEmpty();
+    }
+
+    public void clear() {
+        tabla.clear();
+    }
+
+    public int getCapacidad() {
+        return tabla.getCapacity();
+    }
+
+    public double getLoadFactor() {
+        return tabla.getLoadFactor();
+    }
+
+    @Override
+    public String toString() {
+        return "IndicePacientesConcurrente [" + tabla.toString() + "]";
+    }
+}
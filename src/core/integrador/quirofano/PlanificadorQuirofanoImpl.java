@@ -8,6 +8,7 @@ import core.estructuras.nodos.Nodo;
 import core.estructuras.hash.TablaHash;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 
 /**
  * Implementación OPTIMIZADA del planificador de quirófanos usando estructuras de datos propias.
@@ -253,35 +254,29 @@ public class PlanificadorQuirofanoImpl implements PlanificadorQuirofano {
     
     /**
      * Reconstruye el heap de forma optimizada manteniendo consistencia con TablaHash.
-     * Complejidad: O(K log K) - solo se ejecuta cuando es necesario
+     * Complejidad: O(K) - arma los médicos actualizados y los reacomoda con buildHeap (Floyd)
      */
     private void reconstruirHeapOptimizado() {
-        // Extraer todos los médicos actuales
-        ListaEnlazada<MedicoBloqueado> medicosActuales = new ListaEnlazada<>();
-        while (!topKHeap.isEmpty()) {
-            medicosActuales.insertLast(topKHeap.poll());
-        }
+        // Tomar los médicos actuales sin vaciar el heap de a uno
+        MedicoBloqueado[] actualizados = new MedicoBloqueado[topKHeap.size()];
+        int cantidad = 0;
         
         // Limpiar tracking
         medicosEnHeap.clear();
         
-        // Reinsertar médicos actualizados
-        Nodo<MedicoBloqueado> nodo = medicosActuales.getHead();
-        while (nodo != null) {
-            MedicoBloqueado medico = nodo.getData();
-            
+        for (MedicoBloqueado medico : topKHeap.getElements()) {
             // Obtener minutos actualizados de TablaHash
             Integer minutosActualizados = minutosPorMedico.get(medico.matricula);
             if (minutosActualizados != null) {
-                MedicoBloqueado actualizado = new MedicoBloqueado(
+                actualizados[cantidad++] = new MedicoBloqueado(
                     medico.matricula, medico.nombre, minutosActualizados
                 );
-                topKHeap.add(actualizado);
                 medicosEnHeap.put(medico.matricula, true);
             }
-            
-            nodo = nodo.getNext();
         }
+        
+        // buildHeap vacía el heap y saltea las posiciones null que queden al final
+        topKHeap.buildHeap(actualizados);
     }
     
     // Métodos obsoletos eliminados - reemplazados por TablaHash tracking O(1)
@@ -300,8 +295,8 @@ public class PlanificadorQuirofanoImpl implements PlanificadorQuirofano {
     
     /**
      * Retorna los K médicos con más minutos bloqueados.
-     * El heap top-K ya se mantiene actualizado en tiempo real, solo extraemos y ordenamos.
-     * Complejidad: O(K log K) para extraer K elementos y ordenarlos
+     * El heap top-K ya se mantiene actualizado en tiempo real, solo lo recorremos y ordenamos.
+     * Complejidad: O(K log K) para recorrerlo en orden sin modificarlo
      */
     @Override
     public ListaEnlazada<String> topKMedicosBloqueados(int K) {
@@ -311,22 +306,11 @@ public class PlanificadorQuirofanoImpl implements PlanificadorQuirofano {
             return resultado;
         }
         
-        // Extraer elementos del heap (min-heap, salen de menor a mayor)
+        // Recorrer el heap en orden (min-heap, salen de menor a mayor) sin vaciarlo
         ListaEnlazada<MedicoBloqueado> lista = new ListaEnlazada<>();
-        ListaEnlazada<MedicoBloqueado> temporal = new ListaEnlazada<>();
-        
-        // Extraer todos los elementos del heap
-        while (!topKHeap.isEmpty()) {
-            MedicoBloqueado m = topKHeap.poll();
-            lista.insertLast(m);
-            temporal.insertLast(m); // Guardar copia para restaurar
-        }
-        
-        // Restaurar el heap
-        Nodo<MedicoBloqueado> nodoTemp = temporal.getHead();
-        while (nodoTemp != null) {
-            topKHeap.add(nodoTemp.getData());
-            nodoTemp = nodoTemp.getNext();
+        Iterator<MedicoBloqueado> enOrden = topKHeap.sortedIterator();
+        while (enOrden.hasNext()) {
+            lista.insertLast(enOrden.next());
         }
         
         // Ordenar de mayor a menor por minutos
@@ -2,6 +2,7 @@ package core.integrador.recordatorios;
 
 import core.integrador.modelo.Recordatorio;
 import core.estructuras.monticulo.MonticuloIndexado;
+import core.estructuras.monticulo.MonticuloBinario.TipoMonticulo;
 import core.estructuras.hash.TablaHash;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,7 +11,7 @@ import java.util.List;
  * Planificador de recordatorios por prioridad temporal usando MonticuloIndexado + TablaHash.
  * 
  * Utiliza dos estructuras complementarias:
- * 1. MonticuloIndexado (Min-Heap con índice inverso) - mantiene recordatorios ordenados por fecha
+ * 1. MonticuloIndexado (Min-Heap 4-ario con índice inverso) - mantiene recordatorios ordenados por fecha
  * 2. TablaHash<String, Recordatorio> - índice para búsqueda O(1) por ID
  * 
  * Complejidades alcanzadas:
@@ -21,14 +22,17 @@ import java.util.List;
  * 
  * MonticuloIndexado es una extensión de MonticuloBinario que:
  * - Mantiene un índice inverso interno para búsquedas O(1)
- * - Permite actualizar elementos en O(log n) con update()
- * - No modifica la clase base MonticuloBinario
+ * - Actualiza ese índice solo para los elementos que se mueven al percolar
+ * - Permite actualizar y eliminar elementos en O(log n) con update() y remove()
  * 
  * @author Integrante 2
  * @version 3.0
  */
 public class PlanificadorRecordatorios implements Planner {
     
+    // Hijos por nodo del heap: con 4 la altura es la mitad que en uno binario
+    private static final int ARIDAD_HEAP = 4;
+    
     private MonticuloIndexado<Recordatorio> heap;
     private TablaHash<String, Recordatorio> indice; // ID -> Recordatorio
     
@@ -37,7 +41,7 @@ public class PlanificadorRecordatorios implements Planner {
      * y una tabla hash para índice de IDs.
      */
     public PlanificadorRecordatorios() {
-        this.heap = new MonticuloIndexado<>(); // Min-Heap por defecto
+        this.heap = new MonticuloIndexado<>(TipoMonticulo.MIN_HEAP, ARIDAD_HEAP, null);
         this.indice = new TablaHash<>();
     }
     
@@ -124,23 +128,13 @@ public class PlanificadorRecordatorios implements Planner {
             throw new IllegalArgumentException("No existe recordatorio con ID: " + id);
         }
         
-        // Guardar estado anterior para búsqueda en heap
-        // (necesario porque equals/hashCode usan id, no fecha)
-        Recordatorio valorAntiguo = new Recordatorio(
-            encontrado.getId(), 
-            encontrado.getFecha(), 
-            encontrado.getDniPaciente(), 
-            encontrado.getMensaje()
-        );
-        
         // Actualizar fecha del recordatorio original
         encontrado.setFecha(nuevaFecha);
         
         // Usar heap.update() para reordenar: O(log n)
-        // - Busca valorAntiguo en índice interno: O(1)
-        // - Actualiza con encontrado (misma identidad, nueva fecha)
-        // - Reordena con percolate: O(log n)
-        boolean actualizado = heap.update(valorAntiguo, encontrado);
+        // - Busca el recordatorio en el índice interno (equals/hashCode usan id): O(1)
+        // - Lo reubica con percolate según la nueva fecha: O(log n)
+        boolean actualizado = heap.update(encontrado, encontrado);
         
         if (!actualizado) {
             throw new IllegalStateException("Error interno: no se pudo actualizar el heap");
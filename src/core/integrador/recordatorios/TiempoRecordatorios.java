@@ -0,0 +1,108 @@
+package core.integrador.recordatorios;
+
+import core.estructuras.hash.TablaHash;
+import core.integrador.modelo.Recordatorio;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mediciones de rendimiento de PlanificadorRecordatorios.
+ *
+ * Mide el costo promedio por operación de programar(), reprogramar() y
+ * proximo() con 10 mil, 100 mil y 1 millón de recordatorios. Si las tres
+ * son O(log n), el tiempo por operación apenas crece al multiplicar n por
+ * diez. Como referencia se muestra lo que costaba reconstruir el índice
+ * completo del montículo (O(n)), que antes se pagaba en cada operación.
+ *
+ * @author JhelixT
+ * @version 1.0
+ */
+public class TiempoRecordatorios {
+
+    private static final int[] TAMANIOS = {10_000, 100_000, 1_000_000};
+    private static final int OPERACIONES = 5_000;
+    private static final int REPETICIONES = 3;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    public static void medirOperaciones() {
+        System.out.println("=== PLANIFICADOR DE RECORDATORIOS: COSTO POR OPERACIÓN ===");
+        System.out.println("(" + OPERACIONES + " operaciones de cada tipo, mejor de " + REPETICIONES + " corridas)");
+
+        // Calentamiento del JIT, sin mostrar
+        medir(50_000, new long[4]);
+
+        for (int n : TAMANIOS) {
+            long[] mejor = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+            for (int r = 0; r < REPETICIONES; r++) {
+                long[] tiempos = new long[4];
+                medir(n, tiempos);
+                for (int k = 0; k < mejor.length; k++) {
+                    mejor[k] = Math.min(mejor[k], tiempos[k]);
+                }
+            }
+            System.out.printf("n=%,10d | programar: %7.0f ns | reprogramar: %7.0f ns | proximo: %7.0f ns"
+                    + " | reconstruir índice: %8.2f ms%n",
+                    n, (double) mejor[0] / n, (double) mejor[1] / OPERACIONES,
+                    (double) mejor[2] / OPERACIONES, mejor[3] / 1e6);
+        }
+    }
+
+    /**
+     * Programa n recordatorios y después reprograma y extrae OPERACIONES
+     * de ellos. Deja en tiempos[] los nanosegundos de cada etapa: programar
+     * (todos), reprogramar, proximo y reconstruir un índice completo.
+     */
+    private static void medir(int n, long[] tiempos) {
+        Random random = new Random(42);
+        Recordatorio[] recordatorios = new Recordatorio[n];
+        for (int i = 0; i < n; i++) {
+            recordatorios[i] = new Recordatorio("R" + i, BASE.plusMinutes(random.nextInt(n)),
+                    String.valueOf(30_000_000 + i), "Control");
+        }
+        String[] ids = new String[OPERACIONES];
+        LocalDateTime[] fechas = new LocalDateTime[OPERACIONES];
+        for (int i = 0; i < OPERACIONES; i++) {
+            ids[i] = "R" + random.nextInt(n);
+            fechas[i] = BASE.plusMinutes(random.nextInt(n));
+        }
+
+        PlanificadorRecordatorios planificador = new PlanificadorRecordatorios();
+
+        long inicio = System.nanoTime();
+        for (Recordatorio r : recordatorios) {
+            planificador.programar(r);
+        }
+        tiempos[0] = System.nanoTime() - inicio;
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < OPERACIONES; i++) {
+            planificador.reprogramar(ids[i], fechas[i]);
+        }
+        tiempos[1] = System.nanoTime() - inicio;
+
+        // Lo que hacía cada add/poll antes: volcar el heap y cargar todas las posiciones
+        inicio = System.nanoTime();
+        List<Recordatorio> elementos = planificador.getRecordatorios();
+        TablaHash<Recordatorio, Integer> posiciones = new TablaHash<>();
+        for (int i = 0; i < elementos.size(); i++) {
+            posiciones.put(elementos.get(i), i + 1);
+        }
+        tiempos[3] = System.nanoTime() - inicio;
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < OPERACIONES; i++) {
+            planificador.proximo();
+        }
+        tiempos[2] = System.nanoTime() - inicio;
+
+        if (!planificador.isValidHeap() || planificador.size() != n - OPERACIONES) {
+            throw new IllegalStateException("El planificador quedó inconsistente");
+        }
+    }
+
+    public static void main(String[] args) {
+        medirOperaciones();
+    }
+}
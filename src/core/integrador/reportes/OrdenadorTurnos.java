@@ -52,10 +52,8 @@ public class OrdenadorTurnos {
         if (anterior == null) {
             lista.insertFirst(turno);
         } else {
-            // Insertar después de 'anterior'
-            Nodo<Turno> nuevoNodo = new Nodo<>(turno);
-            nuevoNodo.setNext(anterior.getNext());
-            anterior.setNext(nuevoNodo);
+            // Insertar después de 'anterior' (mantiene size y tail de la lista)
+            lista.insertAfter(anterior, turno);
         }
     }
     
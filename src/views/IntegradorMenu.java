@@ -123,20 +123,19 @@ public class IntegradorMenu {
         try {
             CargadorCSV cargador = new CargadorCSV();
             
-            System.out.print(AnsiColors.blanco("> Pacientes... "));
-            cargador.loadPacientes(CargadorCSV.DEFAULT_PACIENTES);
+            // Usa el snapshot binario si los CSV no cambiaron desde el último arranque
+            System.out.print(AnsiColors.blanco("> Datos... "));
+            boolean desdeSnapshot = cargador.loadAllConSnapshot(CargadorCSV.DEFAULT_SNAPSHOT);
+            System.out.println(AnsiColors.verde("[OK] " + (desdeSnapshot ? "snapshot binario" : "archivos CSV")));
+            
             pacientes = cargador.getPacientes();
-            System.out.println(AnsiColors.verde("[OK] " + pacientes.getSize() + " registros"));
+            System.out.println(AnsiColors.blanco("> Pacientes... ") + AnsiColors.verde("[OK] " + pacientes.getSize() + " registros"));
             
-            System.out.print(AnsiColors.blanco("> Medicos... "));
-            cargador.loadMedicos(CargadorCSV.DEFAULT_MEDICOS);
             medicos = cargador.getMedicos();
-            System.out.println(AnsiColors.verde("[OK] " + medicos.getSize() + " registros"));
+            System.out.println(AnsiColors.blanco("> Medicos... ") + AnsiColors.verde("[OK] " + medicos.getSize() + " registros"));
             
-            System.out.print(AnsiColors.blanco("> Turnos... "));
-            cargador.loadTurnos(CargadorCSV.DEFAULT_TURNOS);
             turnos = cargador.getTurnos();
-            System.out.println(AnsiColors.verde("[OK] " + turnos.getSize() + " registros"));
+            System.out.println(AnsiColors.blanco("> Turnos... ") + AnsiColors.verde("[OK] " + turnos.getSize() + " registros"));
             
             System.out.print(AnsiColors.blanco("> Inicializando estructuras... "));
             inicializarEstructuras();